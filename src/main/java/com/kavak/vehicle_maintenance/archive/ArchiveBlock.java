@@ -0,0 +1,26 @@
+package com.kavak.vehicle_maintenance.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Location and totals of one compressed block: the archived maintenances of
+ * one vehicle within one segment file.
+ */
+@Value
+@AllArgsConstructor
+public class ArchiveBlock {
+
+    Long vehicleId;
+    long segmentId;
+    long offset;
+    int length;
+    int rowCount;
+    int completedCount;
+    BigDecimal completedCost;
+    LocalDateTime minCreationDate;
+    LocalDateTime maxCreationDate;
+}
@@ -0,0 +1,24 @@
+package com.kavak.vehicle_maintenance.archive;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "maintenance.archive")
+public class MaintenanceArchiveProperties {
+
+    /** Whether the scheduled archiver runs; the admin endpoint works either way. */
+    private boolean enabled = false;
+
+    /** Local directory holding the segment files. */
+    private String directory = "data/maintenance-archive";
+
+    /** COMPLETED and CANCELLED maintenances created more than this many months ago are archived. */
+    private int closedForMonths = 12;
+
+    /** Maintenances moved per batch; each batch becomes one segment file. */
+    private int batchSize = 10_000;
+
+    /** When the scheduled archiver runs. */
+    private String cron = "0 30 3 * * *";
+}
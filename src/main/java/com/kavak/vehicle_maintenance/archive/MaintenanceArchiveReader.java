@@ -0,0 +1,81 @@
+package com.kavak.vehicle_maintenance.archive;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceHistoryRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceArchiveRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads a vehicle's archived maintenances with the same filters and
+ * (creationDate DESC, id DESC) keyset ordering as the hot history query.
+ */
+@Component
+@RequiredArgsConstructor
+public class MaintenanceArchiveReader {
+
+    /** Only closed maintenances are ever archived */
+    public static final Set<MaintenanceStatus> ARCHIVED_STATUSES =
+            Set.copyOf(EnumSet.of(MaintenanceStatus.COMPLETED, MaintenanceStatus.CANCELLED));
+
+    private final MaintenanceArchiveRepository archiveRepository;
+    private final MaintenanceSegmentStore segmentStore;
+
+    /**
+     * Finds the newest archived maintenances of a vehicle that match the request filters
+     * and come strictly after the cursor position, if any.
+     *
+     * Blocks are visited newest first and skipped when their date range cannot match;
+     * reading stops once the next block is entirely older than the rows already found.
+     *
+     * @param afterDate creation date of the cursor position, or null for the first page
+     * @param afterId id of the cursor position, or null for the first page
+     * @return at most {@code limit} maintenances, newest first
+     */
+    public List<MaintenanceResponseDTO> findNewest(Long vehicleId, MaintenanceHistoryRequestDTO request,
+                                                   LocalDateTime afterDate, Long afterId, int limit) {
+        if (request.getStatus() != null && !ARCHIVED_STATUSES.contains(request.getStatus())) {
+            return List.of();
+        }
+
+        List<MaintenanceResponseDTO> found = new ArrayList<>();
+        for (ArchiveBlock block : archiveRepository.findBlocks(vehicleId)) {
+            if (found.size() >= limit
+                    && block.getMaxCreationDate().isBefore(found.get(limit - 1).getCreationDate())) {
+                break;
+            }
+            if (!mayMatch(block, request, afterDate)) {
+                continue;
+            }
+            segmentStore.read(block).stream()
+                    .filter(row -> matches(row, request, afterDate, afterId))
+                    .forEach(found::add);
+            found.sort(MaintenanceSegmentStore.NEWEST_FIRST);
+        }
+        return found.size() > limit ? List.copyOf(found.subList(0, limit)) : found;
+    }
+
+    private static boolean mayMatch(ArchiveBlock block, MaintenanceHistoryRequestDTO request, LocalDateTime afterDate) {
+        return (request.getFrom() == null || !block.getMaxCreationDate().isBefore(request.getFrom()))
+                && (request.getTo() == null || block.getMinCreationDate().isBefore(request.getTo()))
+                && (afterDate == null || !block.getMinCreationDate().isAfter(afterDate));
+    }
+
+    private static boolean matches(MaintenanceResponseDTO row, MaintenanceHistoryRequestDTO request,
+                                   LocalDateTime afterDate, Long afterId) {
+        LocalDateTime created = row.getCreationDate();
+        return (request.getStatus() == null || row.getStatus() == request.getStatus())
+                && (request.getType() == null || row.getType() == request.getType())
+                && (request.getFrom() == null || !created.isBefore(request.getFrom()))
+                && (request.getTo() == null || created.isBefore(request.getTo()))
+                && (afterDate == null || created.isBefore(afterDate)
+                        || (created.isEqual(afterDate) && row.getId() < afterId));
+    }
+}
@@ -0,0 +1,36 @@
+package com.kavak.vehicle_maintenance.archive;
+
+import com.kavak.vehicle_maintenance.usecase.ArchiveClosedMaintenancesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Runs the maintenance archiver on {@code maintenance.archive.cron} when
+ * {@code maintenance.archive.enabled} is set.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MaintenanceArchiver {
+    
+    private final ArchiveClosedMaintenancesUseCase archiveClosedMaintenancesUseCase;
+    private final MaintenanceArchiveProperties properties;
+    
+    @Scheduled(cron = "${maintenance.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            archiveClosedMaintenancesUseCase.execute();
+        } catch (DataAccessException | UncheckedIOException ex) {
+            // Committed batches stay archived; the failed one is still in maintenances for the next run
+            log.error("Maintenance archiving failed", ex);
+        }
+    }
+}
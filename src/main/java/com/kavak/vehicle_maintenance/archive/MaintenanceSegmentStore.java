@@ -0,0 +1,229 @@
+package com.kavak.vehicle_maintenance.archive;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Segment files of the maintenance archive on local disk.
+ *
+ * A segment is written once, fsynced and atomically renamed into place, and never
+ * modified afterwards. After a 6-byte header it holds one block per vehicle:
+ * the uncompressed length followed by the deflated rows, newest first. Since
+ * segments are immutable, each one is memory-mapped on first read and the
+ * mapping is reused; a block is inflated straight from the mapped pages.
+ */
+@Component
+public class MaintenanceSegmentStore {
+
+    static final int MAGIC = 0x4B4D4152;
+    static final short VERSION = 1;
+    static final int HEADER_LENGTH = Integer.BYTES + Short.BYTES;
+
+    static final Comparator<MaintenanceResponseDTO> NEWEST_FIRST = Comparator
+            .comparing(MaintenanceResponseDTO::getCreationDate)
+            .thenComparing(MaintenanceResponseDTO::getId)
+            .reversed();
+
+    private final Path directory;
+    private final Map<Long, MappedByteBuffer> mappedSegments = new ConcurrentHashMap<>();
+
+    public MaintenanceSegmentStore(MaintenanceArchiveProperties properties) {
+        this.directory = Path.of(properties.getDirectory());
+    }
+
+    /**
+     * Writes a new segment with one block per vehicle.
+     *
+     * @param rowsByVehicle the maintenances to archive, grouped by vehicle id
+     * @return the block of each vehicle, in write order
+     */
+    public List<ArchiveBlock> write(long segmentId, Map<Long, List<MaintenanceResponseDTO>> rowsByVehicle) {
+        Path segment = segmentPath(segmentId);
+        Path temp = segment.resolveSibling(segment.getFileName() + ".tmp");
+        List<ArchiveBlock> blocks = new ArrayList<>();
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                writeFully(channel, ByteBuffer.allocate(HEADER_LENGTH).putInt(MAGIC).putShort(VERSION).flip());
+                long offset = HEADER_LENGTH;
+                for (Map.Entry<Long, List<MaintenanceResponseDTO>> vehicle : rowsByVehicle.entrySet()) {
+                    List<MaintenanceResponseDTO> rows = vehicle.getValue().stream().sorted(NEWEST_FIRST).toList();
+                    byte[] block = encodeBlock(vehicle.getKey(), rows);
+                    writeFully(channel, ByteBuffer.wrap(block));
+                    blocks.add(describe(vehicle.getKey(), segmentId, offset, block.length, rows));
+                    offset += block.length;
+                }
+                channel.force(true);
+            }
+            Files.move(temp, segment, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("Could not write archive segment " + segment, ex);
+        }
+        return blocks;
+    }
+
+    /**
+     * @return the maintenances of the block, newest first
+     */
+    public List<MaintenanceResponseDTO> read(ArchiveBlock block) {
+        ByteBuffer compressed = mappedSegment(block.getSegmentId()).slice((int) block.getOffset(), block.getLength());
+        byte[] rows = new byte[compressed.getInt()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            inflater.inflate(rows);
+            if (!inflater.finished()) {
+                throw new IllegalStateException("Truncated archive block in segment " + block.getSegmentId());
+            }
+            return decodeBlock(block.getVehicleId(), rows);
+        } catch (DataFormatException | IOException ex) {
+            throw new IllegalStateException("Corrupt archive block in segment " + block.getSegmentId(), ex);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * Removes a segment that no committed index entry refers to.
+     */
+    public void delete(long segmentId) {
+        mappedSegments.remove(segmentId);
+        deleteQuietly(segmentPath(segmentId));
+    }
+
+    Path segmentPath(long segmentId) {
+        return directory.resolve(String.format("segment-%012d.seg", segmentId));
+    }
+
+    private MappedByteBuffer mappedSegment(long segmentId) {
+        return mappedSegments.computeIfAbsent(segmentId, id -> {
+            try (FileChannel channel = FileChannel.open(segmentPath(id), StandardOpenOption.READ)) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                if (mapped.getInt(0) != MAGIC || mapped.getShort(Integer.BYTES) != VERSION) {
+                    throw new IllegalStateException("Not an archive segment: " + segmentPath(id));
+                }
+                return mapped;
+            } catch (IOException ex) {
+                throw new UncheckedIOException("Could not open archive segment " + segmentPath(id), ex);
+            }
+        });
+    }
+
+    private static byte[] encodeBlock(Long vehicleId, List<MaintenanceResponseDTO> rows) throws IOException {
+        ByteArrayOutputStream raw = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(raw)) {
+            out.writeLong(vehicleId);
+            out.writeInt(rows.size());
+            for (MaintenanceResponseDTO row : rows) {
+                out.writeLong(row.getId());
+                out.writeUTF(row.getType().name());
+                out.writeUTF(row.getDescription());
+                out.writeLong(row.getCreationDate().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(row.getCreationDate().getNano());
+                out.writeUTF(row.getStatus().name());
+                writeDecimal(out, row.getEstimatedCost());
+                writeDecimal(out, row.getFinalCost());
+            }
+        }
+
+        ByteArrayOutputStream block = new ByteArrayOutputStream();
+        new DataOutputStream(block).writeInt(raw.size());
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream out = new DeflaterOutputStream(block, deflater)) {
+            raw.writeTo(out);
+        } finally {
+            deflater.end();
+        }
+        return block.toByteArray();
+    }
+
+    private static List<MaintenanceResponseDTO> decodeBlock(Long vehicleId, byte[] rows) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(rows));
+        if (in.readLong() != vehicleId) {
+            throw new IllegalStateException("Archive block does not belong to vehicle " + vehicleId);
+        }
+        int count = in.readInt();
+        List<MaintenanceResponseDTO> decoded = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            decoded.add(MaintenanceResponseDTO.builder()
+                    .id(in.readLong())
+                    .vehicleId(vehicleId)
+                    .type(MaintenanceType.valueOf(in.readUTF()))
+                    .description(in.readUTF())
+                    .creationDate(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC))
+                    .status(MaintenanceStatus.valueOf(in.readUTF()))
+                    .estimatedCost(readDecimal(in))
+                    .finalCost(readDecimal(in))
+                    .build());
+        }
+        return decoded;
+    }
+
+    private static ArchiveBlock describe(Long vehicleId, long segmentId, long offset, int length,
+                                         List<MaintenanceResponseDTO> rows) {
+        List<MaintenanceResponseDTO> completed = rows.stream()
+                .filter(row -> row.getStatus() == MaintenanceStatus.COMPLETED)
+                .toList();
+        BigDecimal completedCost = completed.stream()
+                .map(MaintenanceResponseDTO::getFinalCost)
+                .filter(cost -> cost != null)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return new ArchiveBlock(vehicleId, segmentId, offset, length, rows.size(), completed.size(), completedCost,
+                rows.get(rows.size() - 1).getCreationDate(), rows.get(0).getCreationDate());
+    }
+
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value.toPlainString());
+        }
+    }
+
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        return in.readBoolean() ? new BigDecimal(in.readUTF()) : null;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException ignored) {
+            // An unreferenced segment is never read; leaving it behind is harmless
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.kavak.vehicle_maintenance.autocomplete;
+
+import com.kavak.vehicle_maintenance.cache.CacheInvalidationBus;
+import com.kavak.vehicle_maintenance.cache.CacheInvalidationListener;
+import com.kavak.vehicle_maintenance.domain.VehiclePlate;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory prefix index over the license plates of every vehicle, for as-you-type lookup.
+ *
+ * Every plate of up to {@value #PACKED_LENGTH} characters from {@code [-0-9A-Za-z]} is packed
+ * into a long, six bits per character in an order that matches String order, and kept in one
+ * sorted array. The plates sharing a prefix are one contiguous range of it, found with a binary
+ * search, so the array serves as an implicit trie at 8 bytes per plate. Plates added since the
+ * array was built wait in a small sorted set and are merged in once there are
+ * {@value #MERGE_THRESHOLD} of them; a plate that cannot be packed stays in a second sorted set.
+ *
+ * Built from one streaming scan at startup by {@link CacheInvalidationListener}, then kept
+ * current after commit by the VehiclesRegisteredEvent of the registration use cases; other
+ * instances are told through {@link CacheInvalidationBus}. Plates never change once a vehicle is registered, so only
+ * vehicle ids the index has not seen are read back. Vehicle ids must fit in an int.
+ */
+@Slf4j
+@Component
+public class LicensePlateIndex {
+
+    static final int PACKED_LENGTH = 10;
+    static final int MERGE_THRESHOLD = 4_096;
+
+    private static final int BITS_PER_CHAR = 6;
+
+    /** Character of each 6-bit code; code 0 ends a plate, so shorter plates sort first */
+    private static final String ALPHABET = "\0-0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+    private final VehicleJdbcRepository vehicleJdbcRepository;
+    private final TransactionTemplate scanTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object refreshLock = new Object();
+    private final Object rebuildLock = new Object();
+
+    /** Guarded by {@link #lock} */
+    private Plates plates = new Plates();
+
+    /** Vehicles read back while a rebuild is scanning; guarded by {@link #refreshLock} */
+    private Set<Long> refreshedDuringRebuild;
+
+    public LicensePlateIndex(VehicleJdbcRepository vehicleJdbcRepository,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.vehicleJdbcRepository = vehicleJdbcRepository;
+        // Its own transaction: rebuilds may be triggered after another transaction committed
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        this.scanTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("vehicles.plate.index.size", this, LicensePlateIndex::size)
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehiclesRegistered(VehiclesRegisteredEvent event) {
+        refresh(event.getVehicleIds());
+    }
+
+    /**
+     * Finds the first plates, in String order, that start with the prefix.
+     * Matching is case-sensitive, like every other plate lookup.
+     *
+     * @param prefix start of the plate
+     * @param limit maximum plates to return
+     */
+    public List<String> complete(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            List<String> matches = new ArrayList<>(limit);
+            long code = pack(prefix);
+            if (code >= 0) {
+                // Every code in [code, last] starts with the prefix: the unused trailing characters vary
+                long last = code | ((1L << (BITS_PER_CHAR * (PACKED_LENGTH - prefix.length()))) - 1);
+                int from = Arrays.binarySearch(plates.packed, 0, plates.size, code);
+                for (int i = from >= 0 ? from : -from - 1;
+                     i < plates.size && plates.packed[i] <= last && matches.size() < limit; i++) {
+                    matches.add(unpack(plates.packed[i]));
+                }
+            }
+            collect(plates.recent, prefix, limit, matches);
+            collect(plates.unpackable, prefix, limit, matches);
+            matches.sort(null);
+            return matches.size() > limit ? matches.subList(0, limit) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Adds the plates of the given vehicles that are not indexed yet; unknown ids are ignored.
+     */
+    public void refresh(Collection<Long> vehicleIds) {
+        if (vehicleIds.isEmpty()) {
+            return;
+        }
+        synchronized (refreshLock) {
+            List<Long> unseen;
+            lock.readLock().lock();
+            try {
+                unseen = vehicleIds.stream()
+                        .filter(id -> !plates.vehicleIds.contains(Math.toIntExact(id)))
+                        .toList();
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (unseen.isEmpty()) {
+                return;
+            }
+            if (refreshedDuringRebuild != null) {
+                refreshedDuringRebuild.addAll(unseen);
+            }
+            apply(vehicleJdbcRepository.findLicensePlates(unseen));
+        }
+    }
+
+    /**
+     * Replaces the whole index with a fresh scan of every vehicle.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            synchronized (refreshLock) {
+                refreshedDuringRebuild = new HashSet<>();
+            }
+            Plates fresh = new Plates();
+            try {
+                scanTransaction.executeWithoutResult(status -> vehicleJdbcRepository.scanLicensePlates(fresh::collect));
+            } catch (RuntimeException ex) {
+                synchronized (refreshLock) {
+                    refreshedDuringRebuild = null;
+                }
+                throw ex;
+            }
+            fresh.seal();
+
+            synchronized (refreshLock) {
+                Set<Long> refreshed = refreshedDuringRebuild;
+                refreshedDuringRebuild = null;
+                lock.writeLock().lock();
+                try {
+                    plates = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!refreshed.isEmpty()) {
+                    apply(vehicleJdbcRepository.findLicensePlates(refreshed));
+                }
+            }
+            log.info("License plate index rebuilt: {} plates, {} not packed, {} bytes in {} ms",
+                    fresh.vehicleIds.getLongCardinality(), fresh.unpackable.size(), fresh.sizeInBytes(),
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private long size() {
+        lock.readLock().lock();
+        try {
+            return plates.vehicleIds.getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(List<VehiclePlate> vehicles) {
+        lock.writeLock().lock();
+        try {
+            vehicles.forEach(plates::add);
+            plates.mergeIfFull();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static void collect(NavigableSet<String> sorted, String prefix, int limit, List<String> matches) {
+        int taken = 0;
+        for (String plate : sorted.tailSet(prefix, true)) {
+            if (!plate.startsWith(prefix) || taken++ == limit) {
+                return;
+            }
+            matches.add(plate);
+        }
+    }
+
+    /**
+     * @return the packed code of the plate, or -1 if it is too long or has other characters
+     */
+    static long pack(String plate) {
+        if (plate.length() > PACKED_LENGTH) {
+            return -1;
+        }
+        long code = 0;
+        for (int i = 0; i < plate.length(); i++) {
+            int symbol = ALPHABET.indexOf(plate.charAt(i));
+            if (symbol <= 0) {
+                return -1;
+            }
+            code |= (long) symbol << (BITS_PER_CHAR * (PACKED_LENGTH - 1 - i));
+        }
+        return code;
+    }
+
+    static String unpack(long code) {
+        StringBuilder plate = new StringBuilder(PACKED_LENGTH);
+        for (int i = PACKED_LENGTH - 1; i >= 0; i--) {
+            int symbol = (int) (code >>> (BITS_PER_CHAR * i)) & ((1 << BITS_PER_CHAR) - 1);
+            if (symbol == 0) {
+                break;
+            }
+            plate.append(ALPHABET.charAt(symbol));
+        }
+        return plate.toString();
+    }
+
+    private static final class Plates {
+
+        /** Sorted packed plates in [0, size); unsorted while a scan is collecting */
+        long[] packed = new long[1_024];
+        int size;
+
+        /** Packable plates not merged into {@link #packed} yet */
+        final TreeSet<String> recent = new TreeSet<>();
+
+        /** Plates that cannot be packed; only legacy data, registration validates the format */
+        final TreeSet<String> unpackable = new TreeSet<>();
+
+        final RoaringBitmap vehicleIds = new RoaringBitmap();
+
+        /** Appends during a scan; {@link #seal()} sorts once it is done */
+        void collect(VehiclePlate vehicle) {
+            vehicleIds.add(Math.toIntExact(vehicle.getVehicleId()));
+            long code = pack(vehicle.getLicensePlate());
+            if (code < 0) {
+                unpackable.add(vehicle.getLicensePlate());
+                return;
+            }
+            if (size == packed.length) {
+                packed = Arrays.copyOf(packed, size + (size >> 1));
+            }
+            packed[size++] = code;
+        }
+
+        void seal() {
+            Arrays.sort(packed, 0, size);
+            packed = Arrays.copyOf(packed, size);
+            vehicleIds.runOptimize();
+        }
+
+        void add(VehiclePlate vehicle) {
+            if (!vehicleIds.checkedAdd(Math.toIntExact(vehicle.getVehicleId()))) {
+                return;
+            }
+            (pack(vehicle.getLicensePlate()) < 0 ? unpackable : recent).add(vehicle.getLicensePlate());
+        }
+
+        /** Merges the recent plates into a new array once there are enough of them */
+        void mergeIfFull() {
+            if (recent.size() < MERGE_THRESHOLD) {
+                return;
+            }
+            long[] merged = new long[size + recent.size()];
+            int i = 0;
+            int j = 0;
+            for (String plate : recent) {
+                long code = pack(plate);
+                while (i < size && packed[i] < code) {
+                    merged[j++] = packed[i++];
+                }
+                merged[j++] = code;
+            }
+            System.arraycopy(packed, i, merged, j, size - i);
+            packed = merged;
+            size = merged.length;
+            recent.clear();
+        }
+
+        long sizeInBytes() {
+            return (long) packed.length * Long.BYTES + vehicleIds.getLongSizeInBytes();
+        }
+    }
+}
@@ -0,0 +1,318 @@
+package com.kavak.vehicle_maintenance.availability;
+
+import com.kavak.vehicle_maintenance.cache.CacheInvalidationBus;
+import com.kavak.vehicle_maintenance.cache.CacheInvalidationListener;
+import com.kavak.vehicle_maintenance.domain.VehicleAvailability;
+import com.kavak.vehicle_maintenance.domain.VehicleIdPage;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of which vehicles are available, kept as compressed bitmaps over vehicle ids.
+ *
+ * Holds the available and unavailable sets plus one set per brand and per model year, so
+ * "available Toyotas from 2022" is the intersection of three bitmaps and never reaches the
+ * database. Built from one streaming scan at startup by {@link CacheInvalidationListener},
+ * then kept current after commit by the same events that drive the caches; other instances
+ * are told through {@link CacheInvalidationBus}. Brand and year never change once a vehicle
+ * is registered. Vehicle ids must fit in an int.
+ *
+ * A refresh re-reads the changed vehicles from the primary while holding the refresh lock,
+ * so an older read can never overwrite a newer one. A rebuild scans into fresh bitmaps, swaps
+ * them in, then re-reads the vehicles refreshed while it was scanning.
+ */
+@Slf4j
+@Component
+public class FleetAvailabilityIndex {
+
+    private final VehicleJdbcRepository vehicleJdbcRepository;
+    private final TransactionTemplate scanTransaction;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object refreshLock = new Object();
+    private final Object rebuildLock = new Object();
+
+    /** Guarded by {@link #lock} */
+    private Bitmaps bitmaps = new Bitmaps();
+
+    /** Vehicles refreshed while a rebuild is scanning; guarded by {@link #refreshLock} */
+    private Set<Long> refreshedDuringRebuild;
+
+    public FleetAvailabilityIndex(VehicleJdbcRepository vehicleJdbcRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry) {
+        this.vehicleJdbcRepository = vehicleJdbcRepository;
+        // Its own transaction: rebuilds may be triggered after another transaction committed
+        this.scanTransaction = new TransactionTemplate(transactionManager);
+        this.scanTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Gauge.builder("vehicles.availability.index.available", this, index -> index.count(true))
+                .register(meterRegistry);
+        Gauge.builder("vehicles.availability.index.unavailable", this, index -> index.count(false))
+                .register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMaintenancesChanged(VehicleMaintenancesChangedEvent event) {
+        if (event.isAllVehicles()) {
+            rebuild();
+        } else {
+            refresh(event.getVehicleIds());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehiclesRegistered(VehiclesRegisteredEvent event) {
+        refresh(event.getVehicleIds());
+    }
+
+    /**
+     * Pages through the available vehicles matching the filters, in ascending id order.
+     *
+     * The page is intersected one 65536-id chunk at a time from {@code afterId}, so a page
+     * costs a few container intersections however large the fleet is. The total comes
+     * from counters kept per brand and year rather than from the intersection.
+     *
+     * @param brand only this brand, case-insensitive; null for any
+     * @param year only this model year; null for any
+     * @param afterId only ids greater than this one; 0 for the first page
+     * @param limit page size
+     */
+    public VehicleIdPage findAvailable(String brand, Integer year, long afterId, int limit) {
+        String brandKey = brand == null ? null : brandKey(brand);
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> filters = new ArrayList<>(3);
+            filters.add(bitmaps.available);
+            if (brandKey != null) {
+                RoaringBitmap ofBrand = bitmaps.byBrand.get(brandKey);
+                if (ofBrand == null) {
+                    return VehicleIdPage.empty();
+                }
+                filters.add(ofBrand);
+            }
+            if (year != null) {
+                RoaringBitmap ofYear = bitmaps.byYear.get(year);
+                if (ofYear == null) {
+                    return VehicleIdPage.empty();
+                }
+                filters.add(ofYear);
+            }
+            long total = bitmaps.countAvailable(brandKey, year);
+            if (afterId >= Integer.MAX_VALUE) {
+                return new VehicleIdPage(List.of(), total, false);
+            }
+
+            List<Long> page = new ArrayList<>(limit + 1);
+            if (filters.size() == 1) {
+                PeekableIntIterator ids = bitmaps.available.getIntIterator();
+                ids.advanceIfNeeded((int) Math.max(afterId + 1, 0));
+                while (ids.hasNext() && page.size() <= limit) {
+                    page.add((long) ids.next());
+                }
+            } else {
+                RoaringBitmap smallest = filters.stream()
+                        .min(Comparator.comparingLong(RoaringBitmap::getLongCardinality))
+                        .orElseThrow();
+                long from = Math.max(afterId + 1, 0);
+                while (page.size() <= limit && from < Integer.MAX_VALUE) {
+                    // Skip straight to the next chunk that can contain a match
+                    long next = smallest.nextValue((int) from);
+                    if (next < 0) {
+                        break;
+                    }
+                    long chunkEnd = ((next >>> 16) + 1) << 16;
+                    IntIterator ids = RoaringBitmap.and(filters.iterator(), next, chunkEnd).getIntIterator();
+                    while (ids.hasNext() && page.size() <= limit) {
+                        page.add((long) ids.next());
+                    }
+                    from = chunkEnd;
+                }
+            }
+            boolean hasMore = page.size() > limit;
+            return new VehicleIdPage(hasMore ? page.subList(0, limit) : page, total, hasMore);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Re-reads the given vehicles from the database; unknown ids are ignored.
+     */
+    public void refresh(Collection<Long> vehicleIds) {
+        if (vehicleIds.isEmpty()) {
+            return;
+        }
+        synchronized (refreshLock) {
+            if (refreshedDuringRebuild != null) {
+                refreshedDuringRebuild.addAll(vehicleIds);
+            }
+            apply(vehicleJdbcRepository.findAvailability(vehicleIds));
+        }
+    }
+
+    /**
+     * Replaces the whole index with a fresh scan of every vehicle.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            long start = System.nanoTime();
+            synchronized (refreshLock) {
+                refreshedDuringRebuild = new HashSet<>();
+            }
+            Bitmaps fresh = new Bitmaps();
+            try {
+                scanTransaction.executeWithoutResult(status -> vehicleJdbcRepository.scanAvailability(fresh::put));
+            } catch (RuntimeException ex) {
+                synchronized (refreshLock) {
+                    refreshedDuringRebuild = null;
+                }
+                throw ex;
+            }
+            fresh.optimize();
+
+            synchronized (refreshLock) {
+                Set<Long> refreshed = refreshedDuringRebuild;
+                refreshedDuringRebuild = null;
+                lock.writeLock().lock();
+                try {
+                    bitmaps = fresh;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                if (!refreshed.isEmpty()) {
+                    apply(vehicleJdbcRepository.findAvailability(refreshed));
+                }
+            }
+            log.info("Fleet availability index rebuilt: {} available, {} unavailable, {} bytes in {} ms",
+                    fresh.available.getLongCardinality(), fresh.unavailable.getLongCardinality(),
+                    fresh.sizeInBytes(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    private long count(boolean available) {
+        lock.readLock().lock();
+        try {
+            return (available ? bitmaps.available : bitmaps.unavailable).getLongCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(List<VehicleAvailability> vehicles) {
+        lock.writeLock().lock();
+        try {
+            vehicles.forEach(bitmaps::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String brandKey(String brand) {
+        return brand.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Bitmaps {
+
+        final RoaringBitmap available = new RoaringBitmap();
+        final RoaringBitmap unavailable = new RoaringBitmap();
+        final Map<String, RoaringBitmap> byBrand = new HashMap<>();
+        final Map<Integer, RoaringBitmap> byYear = new HashMap<>();
+
+        /** Available vehicles per brand and year; exact totals without intersecting bitmaps */
+        final Map<BrandYear, Long> availableCounts = new HashMap<>();
+
+        void put(VehicleAvailability vehicle) {
+            int id = Math.toIntExact(vehicle.getVehicleId());
+            boolean wasAvailable = available.contains(id);
+            boolean known = wasAvailable || unavailable.contains(id);
+            if (known && wasAvailable == vehicle.isAvailable()) {
+                return;
+            }
+            BrandYear brandYear = new BrandYear(brandKey(vehicle.getBrand()), vehicle.getYear());
+            if (vehicle.isAvailable()) {
+                unavailable.remove(id);
+                available.add(id);
+                availableCounts.merge(brandYear, 1L, Long::sum);
+            } else {
+                available.remove(id);
+                unavailable.add(id);
+                if (wasAvailable) {
+                    availableCounts.merge(brandYear, -1L, Long::sum);
+                }
+            }
+            if (!known) {
+                byBrand.computeIfAbsent(brandYear.getBrand(), key -> new RoaringBitmap()).add(id);
+                byYear.computeIfAbsent(brandYear.getYear(), key -> new RoaringBitmap()).add(id);
+            }
+        }
+
+        long countAvailable(String brandKey, Integer year) {
+            if (brandKey == null && year == null) {
+                return available.getLongCardinality();
+            }
+            if (brandKey != null && year != null) {
+                return availableCounts.getOrDefault(new BrandYear(brandKey, year), 0L);
+            }
+            long count = 0;
+            for (Map.Entry<BrandYear, Long> entry : availableCounts.entrySet()) {
+                if ((brandKey == null || brandKey.equals(entry.getKey().getBrand()))
+                        && (year == null || year == entry.getKey().getYear())) {
+                    count += entry.getValue();
+                }
+            }
+            return count;
+        }
+
+        /** Converts dense stretches of ids to run containers */
+        void optimize() {
+            available.runOptimize();
+            unavailable.runOptimize();
+            byBrand.values().forEach(RoaringBitmap::runOptimize);
+            byYear.values().forEach(RoaringBitmap::runOptimize);
+        }
+
+        long sizeInBytes() {
+            long size = available.getLongSizeInBytes() + unavailable.getLongSizeInBytes();
+            for (RoaringBitmap bitmap : byBrand.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            for (RoaringBitmap bitmap : byYear.values()) {
+                size += bitmap.getLongSizeInBytes();
+            }
+            return size;
+        }
+    }
+
+    @Value
+    private static class BrandYear {
+
+        String brand;
+
+        int year;
+    }
+}
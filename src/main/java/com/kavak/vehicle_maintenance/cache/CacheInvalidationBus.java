@@ -0,0 +1,145 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import com.kavak.vehicle_maintenance.domain.event.VehicleChangedEvent;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
+import com.kavak.vehicle_maintenance.repository.CacheInvalidationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Tells the other instances which cache keys a write made stale, over PostgreSQL NOTIFY.
+ * 
+ * The keys of every change event raised in a transaction are coalesced and sent with one
+ * NOTIFY just before it commits. PostgreSQL only delivers a notification once its
+ * transaction commits, so listeners never hear of a rolled back write and never miss a
+ * committed one. Changes outside a transaction are sent right away.
+ * {@link CacheInvalidationListener} applies the messages on the receiving side.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+    
+    /** PostgreSQL rejects payloads of 8000 bytes or more; keys are ASCII */
+    static final int MAX_PAYLOAD_LENGTH = 7_900;
+    
+    private final String nodeId = UUID.randomUUID().toString().substring(0, 8);
+    private final CacheInvalidationRepository invalidationRepository;
+    private final boolean enabled;
+    private final Counter sentCounter;
+    
+    public CacheInvalidationBus(CacheInvalidationRepository invalidationRepository,
+                                CacheInvalidationProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.invalidationRepository = invalidationRepository;
+        this.enabled = properties.isEnabled();
+        this.sentCounter = meterRegistry.counter("cache.invalidation.sent");
+    }
+    
+    /**
+     * @return id of this instance, so it can skip its own messages
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+    
+    @EventListener
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        if (enabled) {
+            PendingInvalidation pending = pending();
+            pending.licensePlates.add(event.getLicensePlate());
+            sendIfUnbound(pending);
+        }
+    }
+    
+    @EventListener
+    public void onMaintenancesChanged(VehicleMaintenancesChangedEvent event) {
+        if (enabled) {
+            PendingInvalidation pending = pending();
+            if (event.isAllVehicles()) {
+                pending.all = true;
+            } else {
+                pending.vehicleIds.addAll(event.getVehicleIds());
+            }
+            sendIfUnbound(pending);
+        }
+    }
+    
+    @EventListener
+    public void onVehiclesRegistered(VehiclesRegisteredEvent event) {
+        if (enabled) {
+            PendingInvalidation pending = pending();
+            pending.vehicleIds.addAll(event.getVehicleIds());
+            sendIfUnbound(pending);
+        }
+    }
+    
+    /**
+     * @return the keys collected by the current transaction, or a fresh set to send at once
+     */
+    private PendingInvalidation pending() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return new PendingInvalidation(false);
+        }
+        PendingInvalidation pending = (PendingInvalidation) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            PendingInvalidation created = new PendingInvalidation(true);
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    send(created);
+                }
+                
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CacheInvalidationBus.this);
+                }
+            });
+            pending = created;
+        }
+        return pending;
+    }
+    
+    private void sendIfUnbound(PendingInvalidation pending) {
+        if (!pending.bound) {
+            send(pending);
+        }
+    }
+    
+    private void send(PendingInvalidation pending) {
+        List<String> payloads = pending.all
+                ? List.of(CacheInvalidationMessage.encodeAll(nodeId))
+                : CacheInvalidationMessage.encode(nodeId, pending.vehicleIds, pending.licensePlates,
+                        MAX_PAYLOAD_LENGTH);
+        for (String payload : payloads) {
+            invalidationRepository.notify(payload);
+        }
+        sentCounter.increment(payloads.size());
+        log.debug("Sent {} cache invalidation messages", payloads.size());
+    }
+    
+    private static final class PendingInvalidation {
+        
+        /** Bound to a transaction and sent before it commits */
+        final boolean bound;
+        final Set<Long> vehicleIds = new HashSet<>();
+        final Set<String> licensePlates = new HashSet<>();
+        boolean all;
+        
+        PendingInvalidation(boolean bound) {
+            this.bound = bound;
+        }
+    }
+}
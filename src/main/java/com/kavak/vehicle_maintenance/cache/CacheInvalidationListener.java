@@ -0,0 +1,238 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import com.kavak.vehicle_maintenance.autocomplete.LicensePlateIndex;
+import com.kavak.vehicle_maintenance.availability.FleetAvailabilityIndex;
+import com.kavak.vehicle_maintenance.repository.CacheInvalidationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Applies the invalidations sent by other instances through {@link CacheInvalidationBus}.
+ * 
+ * One thread holds a dedicated connection to the primary, outside the pool, and waits
+ * on LISTEN. Notifications sent while that connection is down are lost, so both caches
+ * are flushed whenever it is lost and again once LISTEN is back; entries cached during
+ * the outage may have missed an invalidation. The {@link FleetAvailabilityIndex} and the
+ * {@link LicensePlateIndex} have no database fallback, so they re-read the vehicles named in
+ * each message and are rebuilt once LISTEN is back rather than flushed. The connection is probed every
+ * {@code heartbeatInterval} so a silently dropped socket is noticed too.
+ *
+ * Both indexes are first built here at startup, right after LISTEN, so nothing committed
+ * after their scan began can be missed and the fleet is scanned once per boot; later
+ * rebuilds only follow a reconnect or a full invalidation.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationListener {
+    
+    private final DataSourceProperties dataSourceProperties;
+    private final CacheInvalidationProperties properties;
+    private final String nodeId;
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final VehicleMaintenanceTotalsCache totalsCache;
+    private final FleetAvailabilityIndex availabilityIndex;
+    private final LicensePlateIndex licensePlateIndex;
+    
+    private final Counter receivedCounter;
+    private final Counter flushCounter;
+    
+    private volatile boolean running;
+    private volatile boolean listening;
+    private volatile Connection connection;
+    private Thread thread;
+    
+    public CacheInvalidationListener(DataSourceProperties dataSourceProperties,
+                                     CacheInvalidationProperties properties,
+                                     CacheInvalidationBus bus,
+                                     VehicleIdentityCache vehicleIdentityCache,
+                                     VehicleMaintenanceTotalsCache totalsCache,
+                                     FleetAvailabilityIndex availabilityIndex,
+                                     LicensePlateIndex licensePlateIndex,
+                                     MeterRegistry meterRegistry) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.properties = properties;
+        this.nodeId = bus.getNodeId();
+        this.vehicleIdentityCache = vehicleIdentityCache;
+        this.totalsCache = totalsCache;
+        this.availabilityIndex = availabilityIndex;
+        this.licensePlateIndex = licensePlateIndex;
+        this.receivedCounter = meterRegistry.counter("cache.invalidation.received");
+        this.flushCounter = meterRegistry.counter("cache.invalidation.flushes");
+        Gauge.builder("cache.invalidation.listening", this, listener -> listener.listening ? 1 : 0)
+                .register(meterRegistry);
+    }
+    
+    @PostConstruct
+    void start() {
+        if (!properties.isEnabled()) {
+            rebuildIndexes();
+            return;
+        }
+        try {
+            connect();
+        } catch (SQLException | DataAccessException ex) {
+            // The background thread keeps retrying and rebuilds once it is connected
+            log.warn("Cache invalidation listener could not connect at startup, retrying", ex);
+            closeQuietly(connection);
+            connection = null;
+        }
+        rebuildIndexes();
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        if (thread == null) {
+            return;
+        }
+        thread.interrupt();
+        closeQuietly(connection);
+        thread.join(Duration.ofSeconds(5).toMillis());
+    }
+    
+    /**
+     * Drops the keys of a message sent by another instance; this instance's own
+     * messages were already applied locally when its transaction committed.
+     */
+    void apply(String payload) {
+        CacheInvalidationMessage message = CacheInvalidationMessage.decode(payload);
+        if (message.getSender().equals(nodeId)) {
+            return;
+        }
+        receivedCounter.increment();
+        if (message.isAll()) {
+            resync();
+            return;
+        }
+        if (!message.getVehicleIds().isEmpty()) {
+            totalsCache.invalidateAll(message.getVehicleIds());
+            availabilityIndex.refresh(message.getVehicleIds());
+            licensePlateIndex.refresh(message.getVehicleIds());
+        }
+        if (!message.getLicensePlates().isEmpty()) {
+            vehicleIdentityCache.invalidateAll(message.getLicensePlates());
+        }
+    }
+    
+    void flushAll() {
+        flushCounter.increment();
+        totalsCache.invalidateAll();
+        vehicleIdentityCache.invalidateAll();
+    }
+    
+    /**
+     * Flushes the caches and rebuilds both indexes, for when any vehicle may have changed.
+     */
+    private void resync() {
+        flushAll();
+        rebuildIndexes();
+    }
+    
+    private void rebuildIndexes() {
+        availabilityIndex.rebuild();
+        licensePlateIndex.rebuild();
+    }
+    
+    private void run() {
+        long delayMillis = properties.getReconnectDelay().toMillis();
+        while (running) {
+            try {
+                if (connection == null) {
+                    connect();
+                    // Whatever was sent before LISTEN took effect is lost
+                    resync();
+                }
+                listen();
+            } catch (SQLException | DataAccessException ex) {
+                if (running) {
+                    log.warn("Cache invalidation listener connection failed, reconnecting", ex);
+                }
+            } finally {
+                closeQuietly(connection);
+                connection = null;
+                if (listening) {
+                    listening = false;
+                    flushAll();
+                    delayMillis = properties.getReconnectDelay().toMillis();
+                }
+            }
+            if (!sleep(delayMillis)) {
+                return;
+            }
+            delayMillis = Math.min(delayMillis * 2, properties.getMaxReconnectDelay().toMillis());
+        }
+    }
+    
+    /**
+     * Opens the dedicated connection and starts listening on it.
+     */
+    private void connect() throws SQLException {
+        connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CacheInvalidationRepository.CHANNEL);
+        }
+        listening = true;
+        log.info("Cache invalidation listener connected");
+    }
+    
+    /**
+     * Listens until the connection fails or the listener stops.
+     */
+    private void listen() throws SQLException {
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+        int heartbeatMillis = (int) properties.getHeartbeatInterval().toMillis();
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(heartbeatMillis);
+            if (notifications == null || notifications.length == 0) {
+                if (!connection.isValid(heartbeatMillis / 1000 + 1)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+            for (PGNotification notification : notifications) {
+                apply(notification.getParameter());
+            }
+        }
+    }
+    
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return running;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+    
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException ex) {
+            // already broken
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keys to drop from the in-process caches, as carried by one NOTIFY payload.
+ * 
+ * The payload is space separated: the sender's node id first, then {@code *} to drop
+ * everything, or one token per key: {@code v<vehicleId>} for the totals cache and
+ * {@code p<licensePlate>} for the identity cache. License plates never contain spaces.
+ */
+@Value
+class CacheInvalidationMessage {
+    
+    static final String ALL = "*";
+    
+    String sender;
+    boolean all;
+    Set<Long> vehicleIds;
+    Set<String> licensePlates;
+    
+    static String encodeAll(String sender) {
+        return sender + " " + ALL;
+    }
+    
+    /**
+     * Encodes the keys into as few payloads as possible, none longer than {@code maxLength}.
+     */
+    static List<String> encode(String sender, Set<Long> vehicleIds, Set<String> licensePlates, int maxLength) {
+        List<String> tokens = new ArrayList<>(vehicleIds.size() + licensePlates.size());
+        vehicleIds.forEach(id -> tokens.add("v" + id));
+        licensePlates.forEach(plate -> tokens.add("p" + plate));
+        
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder(sender);
+        for (String token : tokens) {
+            if (payload.length() + 1 + token.length() > maxLength) {
+                payloads.add(payload.toString());
+                payload = new StringBuilder(sender);
+            }
+            payload.append(' ').append(token);
+        }
+        if (payload.length() > sender.length()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+    
+    /**
+     * Tokens of unknown kinds are skipped, so an older node keeps working with a newer one's messages.
+     */
+    static CacheInvalidationMessage decode(String payload) {
+        String[] tokens = payload.split(" ");
+        Set<Long> vehicleIds = new HashSet<>();
+        Set<String> licensePlates = new HashSet<>();
+        boolean all = false;
+        for (int i = 1; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (token.equals(ALL)) {
+                all = true;
+            } else if (token.length() > 1 && token.charAt(0) == 'v') {
+                try {
+                    vehicleIds.add(Long.valueOf(token.substring(1)));
+                } catch (NumberFormatException ex) {
+                    // Cannot tell which vehicle, so drop them all
+                    all = true;
+                }
+            } else if (token.length() > 1 && token.charAt(0) == 'p') {
+                licensePlates.add(token.substring(1));
+            }
+        }
+        return new CacheInvalidationMessage(tokens[0], all, vehicleIds, licensePlates);
+    }
+}
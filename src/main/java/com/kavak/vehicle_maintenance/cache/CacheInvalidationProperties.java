@@ -0,0 +1,22 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicles.cache-invalidation")
+public class CacheInvalidationProperties {
+    
+    /** Share cache invalidations with the other instances over LISTEN/NOTIFY. */
+    private boolean enabled = true;
+    
+    /** How long the listener waits for notifications before checking its connection is alive. */
+    private Duration heartbeatInterval = Duration.ofSeconds(10);
+    
+    /** First wait before reconnecting a lost listener connection; doubles up to maxReconnectDelay. */
+    private Duration reconnectDelay = Duration.ofSeconds(1);
+    
+    private Duration maxReconnectDelay = Duration.ofSeconds(30);
+}
@@ -0,0 +1,96 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.domain.event.VehicleChangedEvent;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache from license plate to {@link VehicleIdentity}, so use cases that only
+ * need the vehicle id skip the plate lookup.
+ * 
+ * Size-bounded with W-TinyLFU eviction and a write TTL. Unknown plates are never cached,
+ * so a plate registered right after a failed lookup is found on the next request.
+ * A {@link VehicleChangedEvent} drops its plate; other instances are told through
+ * {@link CacheInvalidationBus}.
+ * Hit, miss and eviction counts are published as the {@code cache.*} metrics with
+ * {@code cache=vehicle-identity}.
+ */
+@Component
+public class VehicleIdentityCache {
+    
+    static final String CACHE_NAME = "vehicle-identity";
+    
+    private final VehicleRepository vehicleRepository;
+    private final Cache<String, VehicleIdentity> cache;
+    
+    public VehicleIdentityCache(VehicleRepository vehicleRepository,
+                                VehicleIdentityCacheProperties properties,
+                                MeterRegistry meterRegistry) {
+        this.vehicleRepository = vehicleRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    public Optional<VehicleIdentity> find(String licensePlate) {
+        return Optional.ofNullable(cache.get(licensePlate,
+                plate -> vehicleRepository.findIdentityByLicensePlate(plate).orElse(null)));
+    }
+    
+    /**
+     * Resolves many plates, loading every missing one with a single query.
+     * 
+     * @return identities by plate; unknown plates are absent
+     */
+    public Map<String, VehicleIdentity> findAll(Collection<String> licensePlates) {
+        return cache.getAll(licensePlates, missing -> vehicleRepository.findIdentitiesByLicensePlateIn(missing)
+                .stream()
+                .collect(Collectors.toMap(VehicleIdentity::getLicensePlate, Function.identity())));
+    }
+    
+    @EventListener
+    public void onVehicleChanged(VehicleChangedEvent event) {
+        invalidate(event.getLicensePlate());
+    }
+    
+    /**
+     * Drops the plate now and again once the surrounding transaction completes, so a
+     * concurrent read cannot cache a row this transaction is still changing.
+     */
+    public void invalidate(String licensePlate) {
+        cache.invalidate(licensePlate);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    cache.invalidate(licensePlate);
+                }
+            });
+        }
+    }
+    
+    public void invalidateAll(Collection<String> licensePlates) {
+        cache.invalidateAll(licensePlates);
+    }
+    
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
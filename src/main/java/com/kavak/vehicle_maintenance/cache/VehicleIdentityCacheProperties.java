@@ -0,0 +1,17 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicles.identity-cache")
+public class VehicleIdentityCacheProperties {
+    
+    /** Plates kept in memory; beyond this the least valuable entries are evicted. */
+    private long maximumSize = 100_000;
+    
+    /** How long an entry is trusted after it was loaded. */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
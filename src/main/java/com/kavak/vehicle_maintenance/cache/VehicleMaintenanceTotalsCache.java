@@ -0,0 +1,64 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kavak.vehicle_maintenance.domain.VehicleMaintenanceTotals;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+
+/**
+ * In-process cache of each vehicle's availability and total cost, so polling those
+ * endpoints does not reach the database.
+ * 
+ * Entries have no TTL: they are dropped when a {@link VehicleMaintenancesChangedEvent}
+ * commits. A load that overlaps the commit cannot survive it, because invalidating a
+ * key waits for its in-flight load. Loads must therefore read the primary; a lagging
+ * replica could re-cache the value the invalidation just removed. Other instances are
+ * told through {@link CacheInvalidationBus}.
+ */
+@Component
+public class VehicleMaintenanceTotalsCache {
+    
+    static final String CACHE_NAME = "vehicle-maintenance-totals";
+    
+    private final VehicleMaintenanceSummaryRepository summaryRepository;
+    private final Cache<Long, VehicleMaintenanceTotals> cache;
+    
+    public VehicleMaintenanceTotalsCache(VehicleMaintenanceSummaryRepository summaryRepository,
+                                         VehicleMaintenanceTotalsCacheProperties properties,
+                                         MeterRegistry meterRegistry) {
+        this.summaryRepository = summaryRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    public VehicleMaintenanceTotals get(Long vehicleId) {
+        return cache.get(vehicleId, summaryRepository::findTotals);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMaintenancesChanged(VehicleMaintenancesChangedEvent event) {
+        if (event.isAllVehicles()) {
+            invalidateAll();
+        } else {
+            invalidateAll(event.getVehicleIds());
+        }
+    }
+    
+    public void invalidateAll(Collection<Long> vehicleIds) {
+        cache.invalidateAll(vehicleIds);
+    }
+    
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,12 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "vehicles.totals-cache")
+public class VehicleMaintenanceTotalsCacheProperties {
+    
+    /** Vehicles kept in memory; entries never expire, they are invalidated when maintenances change. */
+    private long maximumSize = 100_000;
+}
@@ -0,0 +1,45 @@
+package com.kavak.vehicle_maintenance.controller;
+
+import com.kavak.vehicle_maintenance.dto.response.CostRollupJobResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceArchiveJobResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSummaryRebuildResponseDTO;
+import com.kavak.vehicle_maintenance.service.MaintenanceService;
+import com.kavak.vehicle_maintenance.service.ReportService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "Maintenance and repair jobs")
+public class AdminController {
+    
+    private final MaintenanceService maintenanceService;
+    private final ReportService reportService;
+    
+    @PostMapping("/maintenance-summary/rebuild")
+    public ResponseEntity<MaintenanceSummaryRebuildResponseDTO> rebuildMaintenanceSummary() {
+        MaintenanceSummaryRebuildResponseDTO response = maintenanceService.rebuildSummaries();
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/maintenance-archive/run")
+    public ResponseEntity<MaintenanceArchiveJobResponseDTO> archiveClosedMaintenances() {
+        MaintenanceArchiveJobResponseDTO response = maintenanceService.archiveClosedMaintenances();
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/cost-rollup/refresh")
+    public ResponseEntity<CostRollupJobResponseDTO> refreshCostRollup() {
+        CostRollupJobResponseDTO response = reportService.refreshCostRollup();
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/cost-rollup/rebuild")
+    public ResponseEntity<CostRollupJobResponseDTO> rebuildCostRollup() {
+        CostRollupJobResponseDTO response = reportService.rebuildCostRollup();
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,53 @@
+package com.kavak.vehicle_maintenance.controller;
+
+import com.kavak.vehicle_maintenance.domain.enums.ExportFormat;
+import com.kavak.vehicle_maintenance.service.MaintenanceService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@Tag(name = "Exports", description = "Bulk data export endpoints")
+public class ExportController {
+    
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    
+    private final MaintenanceService maintenanceService;
+    
+    @GetMapping("/maintenances")
+    public ResponseEntity<StreamingResponseBody> exportMaintenances(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        String fileName = "maintenances." + format.name().toLowerCase() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : switch (format) {
+                    case NDJSON -> MediaType.parseMediaType("application/x-ndjson");
+                    case CSV -> MediaType.parseMediaType("text/csv");
+                };
+        
+        StreamingResponseBody body = outputStream -> {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE) : outputStream;
+            maintenanceService.exportMaintenances(format, target);
+        };
+        
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(fileName).build().toString())
+                .body(body);
+    }
+}
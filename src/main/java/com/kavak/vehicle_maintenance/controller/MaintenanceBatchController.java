@@ -0,0 +1,34 @@
+package com.kavak.vehicle_maintenance.controller;
+
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceBatchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceStatusBatchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchResponseDTO;
+import com.kavak.vehicle_maintenance.service.MaintenanceService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/maintenances/batch")
+@RequiredArgsConstructor
+@Tag(name = "Maintenances", description = "Maintenance management endpoints")
+public class MaintenanceBatchController {
+    
+    private final MaintenanceService maintenanceService;
+    
+    @PostMapping
+    public ResponseEntity<BatchResponseDTO> registerMaintenances(
+            @Valid @RequestBody MaintenanceBatchRequestDTO requestDTO) {
+        BatchResponseDTO response = maintenanceService.registerMaintenances(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PatchMapping("/status")
+    public ResponseEntity<BatchResponseDTO> changeStatuses(
+            @Valid @RequestBody MaintenanceStatusBatchRequestDTO requestDTO) {
+        BatchResponseDTO response = maintenanceService.changeStatuses(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+}
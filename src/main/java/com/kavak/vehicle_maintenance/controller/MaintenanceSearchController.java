@@ -0,0 +1,27 @@
+package com.kavak.vehicle_maintenance.controller;
+
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSearchResponseDTO;
+import com.kavak.vehicle_maintenance.service.MaintenanceService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/maintenances")
+@RequiredArgsConstructor
+@Tag(name = "Maintenances", description = "Maintenance management endpoints")
+public class MaintenanceSearchController {
+
+    private final MaintenanceService maintenanceService;
+
+    @GetMapping("/search")
+    public ResponseEntity<MaintenanceSearchResponseDTO> searchMaintenances(
+            @Valid @ParameterObject MaintenanceSearchRequestDTO requestDTO) {
+        MaintenanceSearchResponseDTO response = maintenanceService.searchMaintenances(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+}
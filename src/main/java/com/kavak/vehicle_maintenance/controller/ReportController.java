@@ -0,0 +1,27 @@
+package com.kavak.vehicle_maintenance.controller;
+
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceCostReportRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceCostReportResponseDTO;
+import com.kavak.vehicle_maintenance.service.ReportService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Fleet-wide reporting endpoints")
+public class ReportController {
+    
+    private final ReportService reportService;
+    
+    @GetMapping("/maintenance-costs")
+    public ResponseEntity<MaintenanceCostReportResponseDTO> getMaintenanceCosts(
+            @Valid @ParameterObject MaintenanceCostReportRequestDTO requestDTO) {
+        MaintenanceCostReportResponseDTO response = reportService.getMaintenanceCosts(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,27 @@
+package com.kavak.vehicle_maintenance.controller;
+
+import com.kavak.vehicle_maintenance.dto.request.OdometerReadingBatchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.OdometerIngestionResponseDTO;
+import com.kavak.vehicle_maintenance.service.VehicleService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/telemetry")
+@RequiredArgsConstructor
+@Tag(name = "Telemetry", description = "Telematics ingestion endpoints")
+public class TelemetryController {
+    
+    private final VehicleService vehicleService;
+    
+    @PostMapping("/odometer")
+    public ResponseEntity<OdometerIngestionResponseDTO> ingestOdometerReadings(
+            @Valid @RequestBody OdometerReadingBatchRequestDTO requestDTO) {
+        OdometerIngestionResponseDTO response = vehicleService.ingestOdometerReadings(requestDTO);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+}
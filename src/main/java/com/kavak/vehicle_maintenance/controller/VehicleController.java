@@ -1,21 +1,41 @@
 package com.kavak.vehicle_maintenance.controller;
 
+import com.kavak.vehicle_maintenance.domain.Versioned;
+import com.kavak.vehicle_maintenance.dto.request.AvailableVehiclesRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceHistoryRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.PlateAutocompleteRequestDTO;
 import com.kavak.vehicle_maintenance.dto.request.UpdateMileageRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.VehicleBatchRequestDTO;
 import com.kavak.vehicle_maintenance.dto.request.VehicleRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.VehicleSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenancePageResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.PlateAutocompleteResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.VehicleAvailabilityResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.VehicleMaintenanceCostResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehiclePageResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.VehicleResponseDTO;
 import com.kavak.vehicle_maintenance.service.VehicleService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.function.Supplier;
 
+/**
+ * GET endpoints send a strong ETag derived from the version of the data they return.
+ * A request whose If-None-Match still matches is answered with 304 from a version lookup,
+ * without loading the vehicle or its maintenances.
+ */
 @RestController
 @RequestMapping("/api/vehicles")
 @RequiredArgsConstructor
@@ -31,12 +51,44 @@ public class VehicleController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
     
-    @GetMapping("/{licensePlate}")
-    public ResponseEntity<VehicleResponseDTO> getVehicle(@PathVariable String licensePlate) {
-        VehicleResponseDTO response = vehicleService.getVehicle(licensePlate);
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponseDTO> registerVehicles(
+            @Valid @RequestBody VehicleBatchRequestDTO requestDTO) {
+        BatchResponseDTO response = vehicleService.registerVehicles(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/available")
+    public ResponseEntity<VehiclePageResponseDTO> getAvailableVehicles(
+            @Valid @ParameterObject AvailableVehiclesRequestDTO requestDTO) {
+        VehiclePageResponseDTO response = vehicleService.findAvailableVehicles(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/search")
+    public ResponseEntity<VehiclePageResponseDTO> searchVehicles(
+            @Valid @ParameterObject VehicleSearchRequestDTO requestDTO) {
+        VehiclePageResponseDTO response = vehicleService.searchVehicles(requestDTO);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/autocomplete")
+    public ResponseEntity<PlateAutocompleteResponseDTO> autocompleteLicensePlates(
+            @Valid @ParameterObject PlateAutocompleteRequestDTO requestDTO) {
+        PlateAutocompleteResponseDTO response = vehicleService.autocompleteLicensePlates(requestDTO);
         return ResponseEntity.ok(response);
     }
     
+    @GetMapping("/{licensePlate}")
+    public ResponseEntity<VehicleResponseDTO> getVehicle(@PathVariable String licensePlate, WebRequest request) {
+        ResponseEntity<VehicleResponseDTO> notModified =
+                notModified(request, () -> vehicleService.getVehicleTag(licensePlate));
+        if (notModified != null) {
+            return notModified;
+        }
+        return withETag(vehicleService.getVehicle(licensePlate));
+    }
+    
     @PatchMapping("/{licensePlate}/mileage")
     public ResponseEntity<VehicleResponseDTO> updateMileage(
             @PathVariable String licensePlate,
@@ -46,30 +98,69 @@ public class VehicleController {
     }
     
     @GetMapping("/{licensePlate}/maintenances")
-    public ResponseEntity<List<MaintenanceResponseDTO>> getVehicleMaintenances(
-            @PathVariable String licensePlate) {
-        List<MaintenanceResponseDTO> response = vehicleService.getVehicleMaintenances(licensePlate);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<MaintenancePageResponseDTO> getVehicleMaintenances(
+            @PathVariable String licensePlate,
+            @Valid @ParameterObject MaintenanceHistoryRequestDTO requestDTO,
+            WebRequest request) {
+        ResponseEntity<MaintenancePageResponseDTO> notModified =
+                notModified(request, () -> vehicleService.getMaintenancesTag(licensePlate));
+        if (notModified != null) {
+            return notModified;
+        }
+        return withETag(vehicleService.getVehicleMaintenances(licensePlate, requestDTO));
     }
     
     @GetMapping("/{licensePlate}/maintenances/active")
     public ResponseEntity<List<MaintenanceResponseDTO>> getActiveMaintenances(
-            @PathVariable String licensePlate) {
-        List<MaintenanceResponseDTO> response = vehicleService.getActiveMaintenances(licensePlate);
-        return ResponseEntity.ok(response);
+            @PathVariable String licensePlate, WebRequest request) {
+        ResponseEntity<List<MaintenanceResponseDTO>> notModified =
+                notModified(request, () -> vehicleService.getMaintenancesTag(licensePlate));
+        if (notModified != null) {
+            return notModified;
+        }
+        return withETag(vehicleService.getActiveMaintenances(licensePlate));
     }
     
+    /**
+     * Served from memory, so the response's own ETag is compared; a match is sent as 304 without a body.
+     */
     @GetMapping("/{licensePlate}/maintenances/total-cost")
     public ResponseEntity<VehicleMaintenanceCostResponseDTO> calculateTotalMaintenanceCost(
             @PathVariable String licensePlate) {
-        VehicleMaintenanceCostResponseDTO response = vehicleService.calculateTotalMaintenanceCost(licensePlate);
-        return ResponseEntity.ok(response);
+        return withETag(vehicleService.calculateTotalMaintenanceCost(licensePlate));
     }
     
+    /**
+     * Served from memory, so the response's own ETag is compared; a match is sent as 304 without a body.
+     */
     @GetMapping("/{licensePlate}/availability")
     public ResponseEntity<VehicleAvailabilityResponseDTO> checkAvailability(
             @PathVariable String licensePlate) {
-        VehicleAvailabilityResponseDTO response = vehicleService.checkAvailability(licensePlate);
-        return ResponseEntity.ok(response);
+        return withETag(vehicleService.checkAvailability(licensePlate));
+    }
+    
+    /**
+     * Spring answers 304 by itself when the returned ETag matches If-None-Match and skips the body.
+     */
+    private static <T> ResponseEntity<T> withETag(Versioned<T> response) {
+        return ResponseEntity.ok().eTag(response.getTag()).body(response.getValue());
+    }
+    
+    /**
+     * Compares If-None-Match with the current tag before anything else is read.
+     * The tag is only looked up when the request is conditional.
+     * 
+     * @return a 304 response, or null if the request must be served in full
+     */
+    private static <T> ResponseEntity<T> notModified(WebRequest request, Supplier<String> currentTag) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String tag = currentTag.get();
+        ETag current = ETag.create(tag);
+        boolean matches = ETag.parse(ifNoneMatch).stream()
+                .anyMatch(etag -> etag.isWildcard() || etag.compare(current, false));
+        return matches ? ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(tag).build() : null;
     }
 }
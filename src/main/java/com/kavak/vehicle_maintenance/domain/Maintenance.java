@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class Maintenance {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "maintenances_id_seq")
+    @SequenceGenerator(name = "maintenances_id_seq", sequenceName = "maintenances_id_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -46,4 +47,7 @@ public class Maintenance {
     
     @Column(precision = 10, scale = 2)
     private BigDecimal finalCost;
+    
+    @Version
+    private Long version;
 }
@@ -0,0 +1,39 @@
+package com.kavak.vehicle_maintenance.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Change to apply to one vehicle's row of vehicle_maintenance_summary
+ * as the effect of registering or transitioning maintenances.
+ */
+@Value
+@AllArgsConstructor
+public class MaintenanceSummaryDelta {
+
+    Long vehicleId;
+    int activeCount;
+    int completedCount;
+    BigDecimal completedCost;
+
+    /** Newest creation date involved, or null if unchanged */
+    LocalDateTime lastMaintenanceDate;
+
+    /**
+     * Combines two deltas of the same vehicle.
+     */
+    public MaintenanceSummaryDelta plus(MaintenanceSummaryDelta other) {
+        LocalDateTime lastDate = lastMaintenanceDate == null
+                || (other.lastMaintenanceDate != null && other.lastMaintenanceDate.isAfter(lastMaintenanceDate))
+                ? other.lastMaintenanceDate
+                : lastMaintenanceDate;
+        return new MaintenanceSummaryDelta(vehicleId,
+                activeCount + other.activeCount,
+                completedCount + other.completedCount,
+                completedCost.add(other.completedCost),
+                lastDate);
+    }
+}
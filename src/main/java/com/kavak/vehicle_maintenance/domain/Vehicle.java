@@ -17,7 +17,8 @@ import java.util.List;
 public class Vehicle {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "vehicles_id_seq")
+    @SequenceGenerator(name = "vehicles_id_seq", sequenceName = "vehicles_id_seq", allocationSize = 50)
     private Long id;
     
     @Column(unique = true, nullable = false, length = 20)
@@ -35,6 +36,9 @@ public class Vehicle {
     @Column(nullable = false)
     private Integer currentMileage;
     
+    @Version
+    private Long version;
+    
     @OneToMany(mappedBy = "vehicle", cascade = CascadeType.ALL, orphanRemoval = true)
     @Builder.Default
     private List<Maintenance> maintenances = new ArrayList<>();
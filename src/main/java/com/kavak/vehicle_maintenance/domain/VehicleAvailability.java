@@ -0,0 +1,21 @@
+package com.kavak.vehicle_maintenance.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * What the fleet availability index keeps of a vehicle.
+ */
+@Value
+@AllArgsConstructor
+public class VehicleAvailability {
+
+    long vehicleId;
+
+    String brand;
+
+    int year;
+
+    /** No PENDING or IN_PROGRESS maintenance */
+    boolean available;
+}
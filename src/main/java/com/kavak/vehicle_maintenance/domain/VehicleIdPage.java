@@ -0,0 +1,25 @@
+package com.kavak.vehicle_maintenance.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * One page of vehicle ids matching a query, in ascending id order.
+ */
+@Value
+@AllArgsConstructor
+public class VehicleIdPage {
+
+    List<Long> vehicleIds;
+
+    /** Vehicles matching the query across all pages */
+    long total;
+
+    boolean hasMore;
+
+    public static VehicleIdPage empty() {
+        return new VehicleIdPage(List.of(), 0, false);
+    }
+}
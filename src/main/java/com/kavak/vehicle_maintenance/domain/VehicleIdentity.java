@@ -0,0 +1,19 @@
+package com.kavak.vehicle_maintenance.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * The attributes of a vehicle that never change after registration.
+ * Mileage is deliberately left out: it moves with every odometer reading.
+ */
+@Value
+@AllArgsConstructor
+public class VehicleIdentity {
+
+    Long id;
+    String licensePlate;
+    String brand;
+    String model;
+    Integer year;
+}
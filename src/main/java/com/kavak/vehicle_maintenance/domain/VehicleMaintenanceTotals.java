@@ -0,0 +1,27 @@
+package com.kavak.vehicle_maintenance.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.math.BigDecimal;
+
+/**
+ * A vehicle's row of vehicle_maintenance_summary as far as availability and total cost need it.
+ */
+@Value
+@AllArgsConstructor
+public class VehicleMaintenanceTotals {
+
+    /** PENDING and IN_PROGRESS maintenances */
+    int activeCount;
+
+    /** Sum of finalCost over COMPLETED maintenances */
+    BigDecimal completedCost;
+
+    /** Bumped by every change to the vehicle's maintenances */
+    long maintenancesVersion;
+
+    public boolean isAvailable() {
+        return activeCount == 0;
+    }
+}
@@ -0,0 +1,16 @@
+package com.kavak.vehicle_maintenance.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+/**
+ * Id and license plate of a vehicle, as kept by the license plate index.
+ */
+@Value
+@AllArgsConstructor
+public class VehiclePlate {
+
+    long vehicleId;
+
+    String licensePlate;
+}
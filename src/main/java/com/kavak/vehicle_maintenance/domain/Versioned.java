@@ -0,0 +1,25 @@
+package com.kavak.vehicle_maintenance.domain;
+
+import lombok.Value;
+
+/**
+ * A read result together with the version of the data it was read from.
+ * Controllers send the tag as a strong ETag; it changes whenever the data does.
+ */
+@Value
+public class Versioned<T> {
+
+    T value;
+    String tag;
+
+    public static <T> Versioned<T> of(T value, long id, long version) {
+        return new Versioned<>(value, tag(id, version));
+    }
+
+    /**
+     * The id is part of the tag so a re-registered license plate never reuses an old tag.
+     */
+    public static String tag(long id, long version) {
+        return id + "-" + version;
+    }
+}
@@ -0,0 +1,11 @@
+package com.kavak.vehicle_maintenance.domain.enums;
+
+/**
+ * Columns a fleet cost report can be grouped by.
+ */
+public enum CostReportDimension {
+    MONTH,
+    BRAND,
+    MODEL,
+    TYPE
+}
@@ -0,0 +1,6 @@
+package com.kavak.vehicle_maintenance.domain.enums;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,12 @@
+package com.kavak.vehicle_maintenance.domain.event;
+
+import lombok.Value;
+
+/**
+ * Published inside the transaction that registered a vehicle or changed it.
+ */
+@Value
+public class VehicleChangedEvent {
+
+    String licensePlate;
+}
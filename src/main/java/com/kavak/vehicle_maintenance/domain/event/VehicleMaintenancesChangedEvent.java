@@ -0,0 +1,35 @@
+package com.kavak.vehicle_maintenance.domain.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published inside the transaction that registered maintenances or changed their status.
+ * Listeners that must only see committed data react after commit.
+ */
+@Value
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class VehicleMaintenancesChangedEvent {
+
+    /** Vehicles whose maintenances changed; ignored when {@link #allVehicles} is set */
+    Set<Long> vehicleIds;
+
+    /** Set when any vehicle may have changed, e.g. after a summary rebuild */
+    boolean allVehicles;
+
+    public static VehicleMaintenancesChangedEvent of(Long vehicleId) {
+        return new VehicleMaintenancesChangedEvent(Set.of(vehicleId), false);
+    }
+
+    public static VehicleMaintenancesChangedEvent of(Collection<Long> vehicleIds) {
+        return new VehicleMaintenancesChangedEvent(Set.copyOf(vehicleIds), false);
+    }
+
+    public static VehicleMaintenancesChangedEvent allVehicles() {
+        return new VehicleMaintenancesChangedEvent(Set.of(), true);
+    }
+}
@@ -0,0 +1,24 @@
+package com.kavak.vehicle_maintenance.domain.event;
+
+import lombok.Value;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published inside the transaction that registered new vehicles.
+ * Listeners that must only see committed data react after commit.
+ */
+@Value
+public class VehiclesRegisteredEvent {
+
+    Set<Long> vehicleIds;
+
+    public static VehiclesRegisteredEvent of(Long vehicleId) {
+        return new VehiclesRegisteredEvent(Set.of(vehicleId));
+    }
+
+    public static VehiclesRegisteredEvent of(Collection<Long> vehicleIds) {
+        return new VehiclesRegisteredEvent(Set.copyOf(vehicleIds));
+    }
+}
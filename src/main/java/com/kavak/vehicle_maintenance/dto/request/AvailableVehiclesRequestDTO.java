@@ -0,0 +1,33 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableVehiclesRequestDTO {
+    
+    @Schema(description = "Only vehicles of this brand, case-insensitive", example = "Toyota")
+    private String brand;
+    
+    @Schema(description = "Only vehicles of this model year", example = "2022")
+    private Integer year;
+    
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page")
+    private String cursor;
+    
+    @Schema(description = "Page size", example = "20")
+    @NotNull(message = "Limit is required")
+    @Min(value = 1, message = "Limit must be greater than or equal to 1")
+    @Max(value = 100, message = "Limit must be less than or equal to 100")
+    @Builder.Default
+    private Integer limit = 20;
+}
@@ -0,0 +1,25 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceBatchItemDTO {
+    
+    @Schema(description = "License plate of the vehicle to schedule", example = "ABC-1234")
+    @NotBlank(message = "License plate is required")
+    private String licensePlate;
+    
+    @NotNull(message = "Maintenance is required")
+    @Valid
+    private MaintenanceRequestDTO maintenance;
+}
@@ -0,0 +1,42 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import com.kavak.vehicle_maintenance.domain.enums.CostReportDimension;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceCostReportRequestDTO {
+    
+    @Schema(description = "First month included", example = "2026-01")
+    @DateTimeFormat(pattern = "yyyy-MM")
+    private YearMonth fromMonth;
+    
+    @Schema(description = "Last month included", example = "2026-06")
+    @DateTimeFormat(pattern = "yyyy-MM")
+    private YearMonth toMonth;
+    
+    @Schema(description = "Only vehicles of this brand", example = "Toyota")
+    private String brand;
+    
+    @Schema(description = "Only vehicles of this model", example = "Corolla")
+    private String model;
+    
+    @Schema(description = "Only maintenances of this type", example = "OIL_CHANGE")
+    private MaintenanceType type;
+    
+    @Schema(description = "Dimensions to group by; none returns a single fleet total", example = "MONTH,BRAND")
+    @Builder.Default
+    private List<CostReportDimension> groupBy = new ArrayList<>(List.of(CostReportDimension.MONTH));
+}
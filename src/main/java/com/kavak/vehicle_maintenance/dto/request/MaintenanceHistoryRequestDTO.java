@@ -0,0 +1,50 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceHistoryRequestDTO {
+    
+    @Schema(description = "Only maintenances with this status", example = "COMPLETED")
+    private MaintenanceStatus status;
+    
+    @Schema(description = "Only maintenances of this type", example = "OIL_CHANGE")
+    private MaintenanceType type;
+    
+    @Schema(description = "Created at or after this date-time (inclusive)", example = "2026-01-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+    
+    @Schema(description = "Created before this date-time (exclusive)", example = "2026-02-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+    
+    @Schema(description = "Also return maintenances moved to the cold archive (full history)", example = "false")
+    @Builder.Default
+    private Boolean includeArchived = false;
+    
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page")
+    private String cursor;
+    
+    @Schema(description = "Page size", example = "20")
+    @NotNull(message = "Limit is required")
+    @Min(value = 1, message = "Limit must be greater than or equal to 1")
+    @Max(value = 100, message = "Limit must be less than or equal to 100")
+    @Builder.Default
+    private Integer limit = 20;
+}
@@ -0,0 +1,60 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceSearchRequestDTO {
+
+    @Schema(description = "Words to find in the description; \"quoted phrases\", OR and -excluded words are supported",
+            example = "\"transmission slipping\"")
+    @NotBlank(message = "Query is required")
+    @Size(max = 200, message = "Query must not exceed 200 characters")
+    private String q;
+
+    @Schema(description = "Also match misspelled words: each word is replaced by its most similar indexed words "
+            + "and all of them must match; phrase, OR and - syntax do not apply",
+            example = "false")
+    @Builder.Default
+    private Boolean fuzzy = false;
+
+    @Schema(description = "Only maintenances of this type", example = "TRANSMISSION")
+    private MaintenanceType type;
+
+    @Schema(description = "Only maintenances with this status", example = "COMPLETED")
+    private MaintenanceStatus status;
+
+    @Schema(description = "Created at or after this date-time (inclusive)", example = "2026-01-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @Schema(description = "Created before this date-time (exclusive)", example = "2026-02-01T00:00:00")
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page")
+    private String cursor;
+
+    @Schema(description = "Page size", example = "20")
+    @NotNull(message = "Limit is required")
+    @Min(value = 1, message = "Limit must be greater than or equal to 1")
+    @Max(value = 100, message = "Limit must be less than or equal to 100")
+    @Builder.Default
+    private Integer limit = 20;
+}
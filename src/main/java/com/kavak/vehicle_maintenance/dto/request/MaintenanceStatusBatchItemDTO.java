@@ -0,0 +1,26 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceStatusBatchItemDTO {
+    
+    @Schema(description = "Maintenance to transition", example = "1")
+    @NotNull(message = "Maintenance id is required")
+    private Long maintenanceId;
+    
+    @Schema(description = "Final cost (required only when completing)", example = "175.50")
+    @Positive(message = "Final cost must be positive")
+    private BigDecimal finalCost;
+}
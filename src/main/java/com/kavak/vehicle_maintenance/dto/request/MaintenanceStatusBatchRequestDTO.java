@@ -0,0 +1,29 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceStatusBatchRequestDTO {
+    
+    @Schema(description = "Status every listed maintenance moves to", example = "COMPLETED")
+    @NotNull(message = "New status is required")
+    private MaintenanceStatus newStatus;
+    
+    @NotEmpty(message = "At least one maintenance is required")
+    @Size(max = 1000, message = "A batch must not exceed 1000 maintenances")
+    private List<@Valid MaintenanceStatusBatchItemDTO> items;
+}
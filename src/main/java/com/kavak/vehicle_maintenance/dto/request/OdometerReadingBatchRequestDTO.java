@@ -0,0 +1,22 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OdometerReadingBatchRequestDTO {
+    
+    @NotEmpty(message = "At least one reading is required")
+    @Size(max = 10000, message = "A batch must not exceed 10000 readings")
+    private List<@Valid OdometerReadingDTO> readings;
+}
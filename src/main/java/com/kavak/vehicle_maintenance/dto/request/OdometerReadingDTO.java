@@ -0,0 +1,33 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OdometerReadingDTO {
+    
+    @Schema(description = "Vehicle license plate", example = "ABC-1234")
+    @NotBlank(message = "License plate is required")
+    private String licensePlate;
+    
+    @Schema(description = "Odometer value in kilometers", example = "15230")
+    @NotNull(message = "Mileage is required")
+    @Min(value = 0, message = "Mileage must be greater than or equal to 0")
+    private Integer mileage;
+    
+    @Schema(description = "When the device took the reading. Odometers only move forward, "
+            + "so readings are ordered by mileage, not by this timestamp", example = "2026-10-18T09:15:00Z")
+    @NotNull(message = "Timestamp is required")
+    private Instant timestamp;
+}
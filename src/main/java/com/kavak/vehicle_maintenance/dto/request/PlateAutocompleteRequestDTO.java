@@ -0,0 +1,31 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlateAutocompleteRequestDTO {
+    
+    @Schema(description = "Start of the license plate, case-sensitive", example = "ABC")
+    @NotBlank(message = "Prefix is required")
+    @Size(max = 20, message = "Prefix must not exceed 20 characters")
+    private String prefix;
+    
+    @Schema(description = "Maximum plates to return", example = "10")
+    @NotNull(message = "Limit is required")
+    @Min(value = 1, message = "Limit must be greater than or equal to 1")
+    @Max(value = 50, message = "Limit must be less than or equal to 50")
+    @Builder.Default
+    private Integer limit = 10;
+}
@@ -0,0 +1,24 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleBatchRequestDTO {
+    
+    @Schema(description = "Vehicles to register, processed in order")
+    @NotEmpty(message = "At least one vehicle is required")
+    @Size(max = 1000, message = "A batch must not exceed 1000 vehicles")
+    private List<@Valid VehicleRequestDTO> vehicles;
+}
@@ -0,0 +1,47 @@
+package com.kavak.vehicle_maintenance.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehicleSearchRequestDTO {
+
+    @Schema(description = "Only vehicles of this brand, exact match", example = "Audi")
+    private String brand;
+
+    @Schema(description = "Only vehicles of this model, exact match", example = "A4")
+    private String model;
+
+    @Schema(description = "Manufactured in or after this year (inclusive)", example = "2019")
+    private Integer yearFrom;
+
+    @Schema(description = "Manufactured in or before this year (inclusive)", example = "2022")
+    private Integer yearTo;
+
+    @Schema(description = "Current mileage at least this many kilometers (inclusive)", example = "0")
+    @Min(value = 0, message = "Minimum mileage must be greater than or equal to 0")
+    private Integer minMileage;
+
+    @Schema(description = "Current mileage at most this many kilometers (inclusive)", example = "60000")
+    @Min(value = 0, message = "Maximum mileage must be greater than or equal to 0")
+    private Integer maxMileage;
+
+    @Schema(description = "Opaque cursor returned as nextCursor by the previous page")
+    private String cursor;
+
+    @Schema(description = "Page size", example = "20")
+    @NotNull(message = "Limit is required")
+    @Min(value = 1, message = "Limit must be greater than or equal to 1")
+    @Max(value = 100, message = "Limit must be less than or equal to 100")
+    @Builder.Default
+    private Integer limit = 20;
+}
@@ -0,0 +1,46 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchItemResultDTO {
+    
+    @Schema(description = "Position of the item in the request")
+    private int index;
+    
+    @Schema(description = "Business key of the item, e.g. the license plate", example = "ABC-1234")
+    private String reference;
+    
+    @Schema(description = "Id of the created or updated record, null when the item failed")
+    private Long id;
+    
+    private boolean success;
+    
+    @Schema(description = "Reason the item was rejected, null on success")
+    private String error;
+    
+    public static BatchItemResultDTO success(int index, String reference, Long id) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .reference(reference)
+                .id(id)
+                .success(true)
+                .build();
+    }
+    
+    public static BatchItemResultDTO failure(int index, String reference, String error) {
+        return BatchItemResultDTO.builder()
+                .index(index)
+                .reference(reference)
+                .success(false)
+                .error(error)
+                .build();
+    }
+}
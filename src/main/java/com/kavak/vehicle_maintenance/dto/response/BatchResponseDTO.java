@@ -0,0 +1,30 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDTO {
+    
+    private int succeeded;
+    
+    private int failed;
+    
+    private List<BatchItemResultDTO> results;
+    
+    public static BatchResponseDTO of(List<BatchItemResultDTO> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResultDTO::isSuccess).count();
+        return BatchResponseDTO.builder()
+                .succeeded(succeeded)
+                .failed(results.size() - succeeded)
+                .results(results)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CostRollupJobResponseDTO {
+    
+    @Schema(description = "Completed maintenances aggregated by this run")
+    private long maintenances;
+    
+    @Schema(description = "Parallel read chunks used (1 for an incremental refresh)")
+    private int chunks;
+    
+    @Schema(description = "Wall-clock duration of the run")
+    private long elapsedMillis;
+}
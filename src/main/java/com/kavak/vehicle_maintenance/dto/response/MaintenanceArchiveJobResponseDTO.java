@@ -0,0 +1,23 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceArchiveJobResponseDTO {
+    
+    @Schema(description = "Maintenances moved from the hot table to the archive")
+    private long maintenances;
+    
+    @Schema(description = "Segment files written")
+    private int segments;
+    
+    @Schema(description = "Wall-clock duration of the run")
+    private long elapsedMillis;
+}
@@ -0,0 +1,22 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceCostReportResponseDTO {
+    
+    @Schema(description = "Last time the rollup caught up; later completions are not included yet")
+    private LocalDateTime refreshedAt;
+    
+    private List<MaintenanceCostReportRowDTO> rows;
+}
@@ -0,0 +1,37 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Completed spend of one slice of the fleet.
+ * Dimensions that were not grouped by are null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceCostReportRowDTO {
+    
+    @Schema(example = "2026-01")
+    private YearMonth month;
+    
+    private String brand;
+    
+    private String model;
+    
+    private MaintenanceType type;
+    
+    @Schema(description = "Completed maintenances in the slice")
+    private long maintenanceCount;
+    
+    @Schema(description = "Sum of their final costs")
+    private BigDecimal totalCost;
+}
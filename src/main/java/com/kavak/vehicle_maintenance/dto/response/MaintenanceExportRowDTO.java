@@ -0,0 +1,31 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the fleet-wide maintenance export.
+ * Carries the license plate so the warehouse does not need a second extract of vehicles.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceExportRowDTO {
+    private Long id;
+    private Long vehicleId;
+    private String licensePlate;
+    private MaintenanceType type;
+    private String description;
+    private LocalDateTime creationDate;
+    private MaintenanceStatus status;
+    private BigDecimal estimatedCost;
+    private BigDecimal finalCost;
+}
@@ -0,0 +1,41 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One maintenance matching a description search, with its relevance.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceSearchHitDTO {
+
+    @Schema(example = "1")
+    private Long id;
+
+    @Schema(example = "1")
+    private Long vehicleId;
+
+    @Schema(example = "ABC-1234")
+    private String licensePlate;
+
+    private MaintenanceType type;
+    private String description;
+    private LocalDateTime creationDate;
+    private MaintenanceStatus status;
+    private BigDecimal estimatedCost;
+    private BigDecimal finalCost;
+
+    @Schema(description = "Relevance to the query, higher first; only comparable within one search", example = "0.1")
+    private float rank;
+}
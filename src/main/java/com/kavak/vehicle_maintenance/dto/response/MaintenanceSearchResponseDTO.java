@@ -0,0 +1,21 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceSearchResponseDTO {
+
+    private List<MaintenanceSearchHitDTO> items;
+
+    @Schema(description = "Cursor for the next page, null when this is the last page")
+    private String nextCursor;
+}
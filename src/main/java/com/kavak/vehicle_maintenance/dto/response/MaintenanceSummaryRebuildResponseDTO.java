@@ -0,0 +1,26 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MaintenanceSummaryRebuildResponseDTO {
+
+    @Schema(description = "Vehicle id ranges processed, one transaction each")
+    private int chunks;
+
+    @Schema(description = "Ranges that could not be rebuilt; run the job again to retry them")
+    private int failedChunks;
+
+    @Schema(description = "Vehicles whose summary was recomputed")
+    private long vehicles;
+
+    @Schema(description = "Wall-clock duration of the rebuild")
+    private long elapsedMillis;
+}
@@ -0,0 +1,17 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OdometerIngestionResponseDTO {
+    
+    @Schema(description = "Readings buffered for the next flush")
+    private int accepted;
+}
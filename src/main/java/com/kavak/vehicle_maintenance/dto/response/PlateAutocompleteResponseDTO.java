@@ -0,0 +1,19 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PlateAutocompleteResponseDTO {
+    
+    @Schema(description = "Plates starting with the prefix, in alphabetical order", example = "[\"ABC-1234\", \"ABC-1235\"]")
+    private List<String> licensePlates;
+}
@@ -0,0 +1,24 @@
+package com.kavak.vehicle_maintenance.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VehiclePageResponseDTO {
+    
+    private List<VehicleResponseDTO> items;
+    
+    @Schema(description = "Vehicles matching the filters across all pages, null when not counted", example = "1250")
+    private Long total;
+    
+    @Schema(description = "Cursor for the next page, null when this is the last page")
+    private String nextCursor;
+}
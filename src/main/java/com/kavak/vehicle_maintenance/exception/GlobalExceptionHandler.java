@@ -23,11 +23,16 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.NOT_FOUND, ex.getMessage());
     }
     
-    @ExceptionHandler({InvalidStateTransitionException.class, InvalidMileageException.class})
+    @ExceptionHandler({InvalidStateTransitionException.class, InvalidMileageException.class, InvalidCursorException.class})
     public ResponseEntity<ErrorResponseDTO> handleBusinessRuleViolation(DomainException ex) {
         return buildErrorResponse(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
     
+    @ExceptionHandler(IngestionBufferFullException.class)
+    public ResponseEntity<ErrorResponseDTO> handleIngestionBackpressure(IngestionBufferFullException ex) {
+        return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, ex.getMessage());
+    }
+    
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponseDTO> handleValidationErrors(MethodArgumentNotValidException ex) {
         ErrorResponseDTO error = ErrorResponseDTO.builder()
@@ -0,0 +1,13 @@
+package com.kavak.vehicle_maintenance.exception;
+
+/**
+ * Exception thrown when the odometer ingestion buffer cannot take more vehicles.
+ * Clients should back off and resend the batch; readings that were accepted are
+ * idempotent, so resending them is harmless.
+ */
+public class IngestionBufferFullException extends DomainException {
+    
+    public IngestionBufferFullException(int accepted, int total) {
+        super("Ingestion buffer is full: accepted " + accepted + " of " + total + " readings, retry the batch later");
+    }
+}
@@ -0,0 +1,11 @@
+package com.kavak.vehicle_maintenance.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded.
+ */
+public class InvalidCursorException extends DomainException {
+    
+    public InvalidCursorException(String cursor) {
+        super("Invalid pagination cursor '" + cursor + "'");
+    }
+}
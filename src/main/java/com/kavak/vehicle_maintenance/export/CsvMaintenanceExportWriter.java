@@ -0,0 +1,70 @@
+package com.kavak.vehicle_maintenance.export;
+
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceExportRowDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes RFC 4180 CSV with a header line.
+ */
+public class CsvMaintenanceExportWriter implements MaintenanceExportWriter {
+    
+    private static final String HEADER =
+            "id,vehicleId,licensePlate,type,description,creationDate,status,estimatedCost,finalCost";
+    
+    private final Writer writer;
+    
+    public CsvMaintenanceExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+    
+    @Override
+    public void write(MaintenanceExportRowDTO row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getVehicleId()));
+        writer.write(',');
+        writeEscaped(row.getLicensePlate());
+        writer.write(',');
+        writer.write(row.getType().name());
+        writer.write(',');
+        writeEscaped(row.getDescription());
+        writer.write(',');
+        writer.write(row.getCreationDate().toString());
+        writer.write(',');
+        writer.write(row.getStatus().name());
+        writer.write(',');
+        writeNullable(row.getEstimatedCost());
+        writer.write(',');
+        writeNullable(row.getFinalCost());
+        writer.write("\r\n");
+    }
+    
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+    
+    private void writeNullable(Object value) throws IOException {
+        if (value != null) {
+            writer.write(value.toString());
+        }
+    }
+    
+    private void writeEscaped(String value) throws IOException {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,14 @@
+package com.kavak.vehicle_maintenance.export;
+
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceExportRowDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Serializes export rows one at a time into an output stream, without buffering the dataset.
+ */
+public interface MaintenanceExportWriter extends Closeable {
+    
+    void write(MaintenanceExportRowDTO row) throws IOException;
+}
@@ -0,0 +1,38 @@
+package com.kavak.vehicle_maintenance.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceExportRowDTO;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes one JSON object per line (newline-delimited JSON).
+ */
+public class NdjsonMaintenanceExportWriter implements MaintenanceExportWriter {
+    
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+    
+    public NdjsonMaintenanceExportWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        // Flushing after every row would turn each line into its own socket write
+        this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(outputStream);
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+    }
+    
+    @Override
+    public void write(MaintenanceExportRowDTO row) throws IOException {
+        objectWriter.writeValue(generator, row);
+        generator.writeRaw('\n');
+    }
+    
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
@@ -0,0 +1,159 @@
+package com.kavak.vehicle_maintenance.ingestion;
+
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Coalesces high-rate odometer readings and writes them in bulk.
+ * 
+ * Readings land in an {@link OdometerReadingBuffer}; a single flusher thread drains it
+ * every {@code flushInterval}, or earlier once {@code flushThreshold} vehicles are
+ * buffered, and applies the drained maxima with one monotonic UPDATE. When the buffer
+ * is full new vehicles are refused, which callers surface as backpressure.
+ */
+@Slf4j
+@Component
+public class OdometerIngestionPipeline {
+    
+    private final OdometerReadingBuffer buffer;
+    private final VehicleJdbcRepository vehicleJdbcRepository;
+    private final OdometerIngestionProperties properties;
+    private final ScheduledExecutorService flusher;
+    private final AtomicBoolean earlyFlushPending = new AtomicBoolean();
+    
+    private final Counter receivedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+    private final Counter flushedCounter;
+    private final Counter flushFailureCounter;
+    private final Timer flushTimer;
+    
+    public OdometerIngestionPipeline(VehicleJdbcRepository vehicleJdbcRepository,
+                                     OdometerIngestionProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.vehicleJdbcRepository = vehicleJdbcRepository;
+        this.properties = properties;
+        this.buffer = new OdometerReadingBuffer(properties.getBufferCapacity(), properties.getStripes());
+        
+        this.receivedCounter = meterRegistry.counter("odometer.readings.received");
+        this.coalescedCounter = meterRegistry.counter("odometer.readings.coalesced");
+        this.rejectedCounter = meterRegistry.counter("odometer.readings.rejected");
+        this.flushedCounter = meterRegistry.counter("odometer.readings.flushed");
+        this.flushFailureCounter = meterRegistry.counter("odometer.flush.failures");
+        this.flushTimer = Timer.builder("odometer.flush.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("odometer.buffer.size", buffer, OdometerReadingBuffer::size)
+                .register(meterRegistry);
+        // Share of readings absorbed in memory instead of reaching the database
+        Gauge.builder("odometer.coalescing.ratio", this,
+                        pipeline -> pipeline.receivedCounter.count() == 0 ? 0
+                                : pipeline.coalescedCounter.count() / pipeline.receivedCounter.count())
+                .register(meterRegistry);
+        
+        this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "odometer-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getFlushInterval().toMillis();
+        flusher.scheduleWithFixedDelay(this::flushSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Buffers a reading.
+     * 
+     * @return false if the buffer is full and the reading was refused
+     */
+    public boolean offer(String licensePlate, int mileage) {
+        receivedCounter.increment();
+        OdometerReadingBuffer.OfferResult result = buffer.offer(licensePlate, mileage);
+        switch (result) {
+            case COALESCED -> coalescedCounter.increment();
+            case REJECTED -> rejectedCounter.increment();
+            case ADDED -> requestEarlyFlushIfNeeded();
+        }
+        return result != OdometerReadingBuffer.OfferResult.REJECTED;
+    }
+    
+    /**
+     * Writes everything buffered so far. Runs on the flusher thread, and once more on shutdown.
+     * 
+     * @return number of vehicles written
+     */
+    int flush() {
+        Map<String, Integer> drained = buffer.drain();
+        if (drained.isEmpty()) {
+            return 0;
+        }
+        // Sorted so concurrent flushes from several instances lock rows in the same order
+        Map<String, Integer> ordered = new TreeMap<>(drained);
+        List<String> licensePlates = new ArrayList<>(ordered.keySet());
+        List<Integer> mileages = new ArrayList<>(ordered.values());
+        try {
+            int advanced = flushTimer.record(() -> vehicleJdbcRepository.advanceMileages(licensePlates, mileages));
+            flushedCounter.increment(drained.size());
+            log.debug("Flushed {} odometer readings, {} vehicles advanced", drained.size(), advanced);
+            return drained.size();
+        } catch (RuntimeException ex) {
+            buffer.restore(drained);
+            flushFailureCounter.increment();
+            throw ex;
+        }
+    }
+    
+    int bufferedVehicles() {
+        return buffer.size();
+    }
+    
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        flusher.shutdown();
+        if (!flusher.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("Odometer flusher did not stop in time");
+        }
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.error("Final odometer flush failed, {} buffered vehicles were not written", buffer.size(), ex);
+        }
+    }
+    
+    private void requestEarlyFlushIfNeeded() {
+        if (buffer.size() >= properties.getFlushThreshold() && earlyFlushPending.compareAndSet(false, true)) {
+            try {
+                flusher.execute(() -> {
+                    earlyFlushPending.set(false);
+                    flushSafely();
+                });
+            } catch (RejectedExecutionException ex) {
+                // Shutting down: the final flush picks these readings up
+                earlyFlushPending.set(false);
+            }
+        }
+    }
+    
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            log.warn("Odometer flush failed, readings kept for the next attempt", ex);
+        }
+    }
+}
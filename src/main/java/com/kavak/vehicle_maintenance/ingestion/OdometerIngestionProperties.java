@@ -0,0 +1,23 @@
+package com.kavak.vehicle_maintenance.ingestion;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "telemetry.odometer")
+public class OdometerIngestionProperties {
+    
+    /** Maximum number of distinct vehicles buffered before readings are refused. */
+    private int bufferCapacity = 100_000;
+    
+    /** Number of independently locked buffer stripes. */
+    private int stripes = 64;
+    
+    /** Buffered vehicle count that triggers an early flush. */
+    private int flushThreshold = 5_000;
+    
+    /** Maximum time a reading waits in the buffer. */
+    private Duration flushInterval = Duration.ofSeconds(2);
+}
@@ -0,0 +1,124 @@
+package com.kavak.vehicle_maintenance.ingestion;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded in-memory buffer that keeps only the highest odometer reading per license plate.
+ * 
+ * Plates are spread over lock-protected stripes so concurrent ingest requests rarely
+ * contend. The bound applies to distinct plates: a reading for a plate that is already
+ * buffered is merged in place and always accepted.
+ */
+public class OdometerReadingBuffer {
+    
+    public enum OfferResult { ADDED, COALESCED, REJECTED }
+    
+    private final int capacity;
+    private final Stripe[] stripes;
+    private final AtomicInteger size = new AtomicInteger();
+    
+    public OdometerReadingBuffer(int capacity, int stripeCount) {
+        if (capacity <= 0 || stripeCount <= 0) {
+            throw new IllegalArgumentException("Capacity and stripe count must be positive");
+        }
+        this.capacity = capacity;
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+    
+    public OfferResult offer(String licensePlate, int mileage) {
+        Stripe stripe = stripeFor(licensePlate);
+        stripe.lock.lock();
+        try {
+            Integer buffered = stripe.readings.get(licensePlate);
+            if (buffered != null) {
+                if (mileage > buffered) {
+                    stripe.readings.put(licensePlate, mileage);
+                }
+                return OfferResult.COALESCED;
+            }
+            if (!reserveSlot()) {
+                return OfferResult.REJECTED;
+            }
+            stripe.readings.put(licensePlate, mileage);
+            return OfferResult.ADDED;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+    
+    /**
+     * Removes and returns everything buffered so far. Stripes are swapped one at a time,
+     * so writers are only blocked for the duration of a single stripe swap.
+     */
+    public Map<String, Integer> drain() {
+        Map<String, Integer> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            Map<String, Integer> readings;
+            stripe.lock.lock();
+            try {
+                readings = stripe.readings;
+                stripe.readings = new HashMap<>();
+                size.addAndGet(-readings.size());
+            } finally {
+                stripe.lock.unlock();
+            }
+            drained.putAll(readings);
+        }
+        return drained;
+    }
+    
+    /**
+     * Puts back readings whose flush failed, keeping the maximum per plate.
+     * Ignores the capacity bound so no accepted reading is ever lost.
+     */
+    public void restore(Map<String, Integer> readings) {
+        readings.forEach((licensePlate, mileage) -> {
+            Stripe stripe = stripeFor(licensePlate);
+            stripe.lock.lock();
+            try {
+                if (stripe.readings.putIfAbsent(licensePlate, mileage) == null) {
+                    size.incrementAndGet();
+                } else {
+                    stripe.readings.merge(licensePlate, mileage, Math::max);
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        });
+    }
+    
+    public int size() {
+        return size.get();
+    }
+    
+    public int capacity() {
+        return capacity;
+    }
+    
+    private boolean reserveSlot() {
+        while (true) {
+            int current = size.get();
+            if (current >= capacity) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+    
+    private Stripe stripeFor(String licensePlate) {
+        return stripes[Math.floorMod(licensePlate.hashCode(), stripes.length)];
+    }
+    
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<String, Integer> readings = new HashMap<>();
+    }
+}
@@ -0,0 +1,46 @@
+package com.kavak.vehicle_maintenance.mapper;
+
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset pagination positions as opaque, URL-safe cursors.
+ */
+@Component
+public class CursorMapper {
+    
+    private static final String SEPARATOR = "|";
+    
+    public String encode(Object... parts) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(parts[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * Decodes a cursor into its parts.
+     * 
+     * @throws InvalidCursorException if the cursor is malformed or has an unexpected number of parts
+     */
+    public String[] decode(String cursor, int expectedParts) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != expectedParts) {
+                throw new InvalidCursorException(cursor);
+            }
+            return parts;
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
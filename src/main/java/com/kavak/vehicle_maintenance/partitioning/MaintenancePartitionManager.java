@@ -0,0 +1,104 @@
+package com.kavak.vehicle_maintenance.partitioning;
+
+import com.kavak.vehicle_maintenance.repository.MaintenancePartitionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Keeps the monthly partitions of maintenances in shape: the partitions of the
+ * current month and the next {@code maintenance.partitions.months-ahead} months
+ * always exist, and, if a retention is configured, partitions older than it are
+ * dropped once they are empty.
+ *
+ * Only empty partitions go: closed maintenances leave the table through the archiver,
+ * which keeps the vehicle summaries, the cost rollup and the caches right, and open
+ * maintenances are never removed, however old. A month still holding rows is kept
+ * and retried on the next run.
+ *
+ * Runs at startup and daily. All changes happen in one transaction guarded by
+ * an advisory lock, so several application instances never race on the DDL.
+ */
+@Slf4j
+@Component
+public class MaintenancePartitionManager {
+
+    private final MaintenancePartitionRepository partitionRepository;
+    private final MaintenancePartitionProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+
+    @Autowired
+    public MaintenancePartitionManager(MaintenancePartitionRepository partitionRepository,
+                                       MaintenancePartitionProperties properties,
+                                       TransactionTemplate transactionTemplate) {
+        this(partitionRepository, properties, transactionTemplate, Clock.systemDefaultZone());
+    }
+
+    MaintenancePartitionManager(MaintenancePartitionRepository partitionRepository,
+                                MaintenancePartitionProperties properties,
+                                TransactionTemplate transactionTemplate,
+                                Clock clock) {
+        this.partitionRepository = partitionRepository;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${maintenance.partitions.cron:0 0 3 * * *}")
+    public void maintain() {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!partitionRepository.tryLock()) {
+                    log.debug("Partition maintenance already running elsewhere, skipping");
+                    return;
+                }
+                apply();
+            });
+        } catch (DataAccessException ex) {
+            // Nothing was changed; partitions are created months ahead, so the next run has time to retry
+            log.error("Maintenance partition upkeep failed", ex);
+        }
+    }
+
+    private void apply() {
+        YearMonth current = YearMonth.now(clock);
+        Set<YearMonth> existing = new HashSet<>(partitionRepository.findPartitionMonths());
+
+        for (int ahead = 0; ahead <= properties.getMonthsAhead(); ahead++) {
+            YearMonth month = current.plusMonths(ahead);
+            if (!existing.contains(month)) {
+                partitionRepository.createPartition(month);
+                log.info("Created maintenance partition {}", MaintenancePartitionRepository.partitionName(month));
+            }
+        }
+
+        if (properties.getRetentionMonths() > 0) {
+            YearMonth oldestKept = current.minusMonths(properties.getRetentionMonths());
+            existing.stream()
+                    .filter(month -> month.isBefore(oldestKept))
+                    .sorted()
+                    .forEach(month -> {
+                        String partition = MaintenancePartitionRepository.partitionName(month);
+                        if (partitionRepository.lockIfEmpty(month)) {
+                            partitionRepository.dropPartition(month);
+                            log.info("Dropped empty maintenance partition {}", partition);
+                        } else {
+                            log.info("Kept maintenance partition {} past retention: it still has open or unarchived maintenances",
+                                    partition);
+                        }
+                    });
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.kavak.vehicle_maintenance.partitioning;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "maintenance.partitions")
+public class MaintenancePartitionProperties {
+
+    /** Monthly partitions kept created ahead of the current month. */
+    private int monthsAhead = 3;
+
+    /** Months of partitions always kept; older ones are dropped once the archiver has emptied them. 0 keeps everything. */
+    private int retentionMonths = 0;
+
+    /** When the partitions are checked, besides at startup. */
+    private String cron = "0 0 3 * * *";
+}
@@ -0,0 +1,20 @@
+package com.kavak.vehicle_maintenance.reporting;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "reports.cost-rollup")
+public class CostRollupProperties {
+    
+    /** Delay between incremental refreshes of the rollup. */
+    private Duration refreshInterval = Duration.ofMinutes(1);
+    
+    /** Concurrent read queries during a full rebuild. */
+    private int rebuildParallelism = 4;
+    
+    /** Maintenance id range aggregated by each rebuild read. */
+    private int rebuildChunkSize = 100_000;
+}
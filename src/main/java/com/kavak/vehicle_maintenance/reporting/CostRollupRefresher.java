@@ -0,0 +1,30 @@
+package com.kavak.vehicle_maintenance.reporting;
+
+import com.kavak.vehicle_maintenance.usecase.RefreshMaintenanceCostRollupUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps the fleet cost rollup current by refreshing it every
+ * {@code reports.cost-rollup.refresh-interval}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CostRollupRefresher {
+    
+    private final RefreshMaintenanceCostRollupUseCase refreshMaintenanceCostRollupUseCase;
+    
+    @Scheduled(fixedDelayString = "${reports.cost-rollup.refresh-interval:1m}")
+    public void refresh() {
+        try {
+            refreshMaintenanceCostRollupUseCase.execute();
+        } catch (DataAccessException ex) {
+            // The watermark did not move, the next run picks these completions up
+            log.error("Cost rollup refresh failed", ex);
+        }
+    }
+}
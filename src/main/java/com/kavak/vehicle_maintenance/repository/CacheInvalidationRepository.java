@@ -0,0 +1,31 @@
+package com.kavak.vehicle_maintenance.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+
+/**
+ * Plain JDBC access to the PostgreSQL notification channel that carries cache invalidations.
+ */
+@Repository
+public class CacheInvalidationRepository {
+    
+    public static final String CHANNEL = "cache_invalidation";
+    
+    private static final String NOTIFY_SQL = "SELECT pg_notify(?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public CacheInvalidationRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+    
+    /**
+     * Queues a notification on the current transaction; listeners receive it once the
+     * transaction commits, and never if it rolls back. Outside a transaction it is sent at once.
+     */
+    public void notify(String payload) {
+        jdbcTemplate.query(NOTIFY_SQL, rs -> null, CHANNEL, payload);
+    }
+}
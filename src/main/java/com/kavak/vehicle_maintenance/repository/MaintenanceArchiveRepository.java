@@ -0,0 +1,197 @@
+package com.kavak.vehicle_maintenance.repository;
+
+import com.kavak.vehicle_maintenance.archive.ArchiveBlock;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Plain JDBC access for moving closed maintenances out of the hot table and for
+ * the per-vehicle offset index (maintenance_archive_blocks) of the archive segments.
+ */
+@Repository
+public class MaintenanceArchiveRepository {
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('maintenance_archive'))";
+
+    private static final String LOCK_ROLLUP_WATERMARK_SQL =
+            "SELECT watermark_xid::text FROM report_watermarks WHERE name = ? FOR SHARE";
+
+    private static final String NEXT_SEGMENT_ID_SQL = "SELECT nextval('maintenance_archive_segment_seq')";
+
+    private static final String FIND_ARCHIVABLE_SQL = """
+            SELECT id, vehicle_id, type, description, creation_date, status, estimated_cost, final_cost
+            FROM maintenances
+            WHERE creation_date < ? AND id > ?
+              AND status IN ('COMPLETED', 'CANCELLED')
+              AND (completed_xid IS NULL OR completed_xid < ?::xid8)
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE
+            """;
+
+    private static final String ARCHIVE_COSTS_SQL = """
+            INSERT INTO maintenance_cost_archived AS a (month, brand, model, type, maintenance_count, total_cost)
+            SELECT date_trunc('month', m.completed_date)::date, v.brand, v.model, m.type,
+                   COUNT(*), COALESCE(SUM(m.final_cost), 0)
+            FROM maintenances m
+            JOIN vehicles v ON v.id = m.vehicle_id
+            WHERE m.id = ANY(?::bigint[]) AND m.creation_date < ? AND m.status = 'COMPLETED'
+            GROUP BY 1, 2, 3, 4
+            ON CONFLICT (month, brand, model, type) DO UPDATE SET
+                maintenance_count = a.maintenance_count + EXCLUDED.maintenance_count,
+                total_cost = a.total_cost + EXCLUDED.total_cost
+            """;
+
+    private static final String INSERT_BLOCKS_SQL = """
+            INSERT INTO maintenance_archive_blocks (vehicle_id, segment_id, block_offset, block_length, row_count,
+                                                    completed_count, completed_cost, min_creation_date, max_creation_date)
+            SELECT * FROM unnest(?::bigint[], ?::bigint[], ?::bigint[], ?::integer[], ?::integer[],
+                                 ?::integer[], ?::numeric[], ?::timestamp[], ?::timestamp[])
+            """;
+
+    private static final String DELETE_ARCHIVED_SQL =
+            "DELETE FROM maintenances WHERE id = ANY(?::bigint[]) AND creation_date < ?";
+
+    private static final String BUMP_MAINTENANCES_VERSIONS_SQL = """
+            UPDATE vehicle_maintenance_summary s SET maintenances_version = s.maintenances_version + 1
+            FROM (
+                SELECT vehicle_id FROM vehicle_maintenance_summary
+                WHERE vehicle_id = ANY(?::bigint[])
+                ORDER BY vehicle_id
+                FOR UPDATE
+            ) l
+            WHERE s.vehicle_id = l.vehicle_id
+            """;
+
+    private static final String SEGMENT_REFERENCED_SQL =
+            "SELECT EXISTS (SELECT 1 FROM maintenance_archive_blocks WHERE segment_id = ?)";
+
+    private static final String FIND_BLOCKS_SQL = """
+            SELECT vehicle_id, segment_id, block_offset, block_length, row_count,
+                   completed_count, completed_cost, min_creation_date, max_creation_date
+            FROM maintenance_archive_blocks
+            WHERE vehicle_id = ?
+            ORDER BY max_creation_date DESC
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MaintenanceArchiveRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Takes the archiver lock for the current transaction.
+     *
+     * @return false if another instance is archiving
+     */
+    public boolean tryLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class));
+    }
+
+    /**
+     * Share-locks the cost rollup watermark until the transaction ends, so a rollup
+     * rebuild never sees a batch half in maintenances and half archived.
+     *
+     * @return the watermark; completions below it are already rolled up
+     */
+    public long lockRollupWatermark() {
+        return Long.parseLong(jdbcTemplate.queryForObject(LOCK_ROLLUP_WATERMARK_SQL, String.class,
+                MaintenanceCostRollupRepository.WATERMARK));
+    }
+
+    public long nextSegmentId() {
+        return jdbcTemplate.queryForObject(NEXT_SEGMENT_ID_SQL, Long.class);
+    }
+
+    /**
+     * Locks and returns the next COMPLETED or CANCELLED maintenances created before
+     * {@code cutoff}, in id order, skipping completions the cost rollup has not seen yet.
+     */
+    public List<MaintenanceResponseDTO> findArchivable(LocalDateTime cutoff, long afterId, long rolledUpBeforeXid,
+                                                       int limit) {
+        return jdbcTemplate.query(FIND_ARCHIVABLE_SQL, (rs, rowNum) -> MaintenanceResponseDTO.builder()
+                .id(rs.getLong("id"))
+                .vehicleId(rs.getLong("vehicle_id"))
+                .type(MaintenanceType.valueOf(rs.getString("type")))
+                .description(rs.getString("description"))
+                .creationDate(rs.getObject("creation_date", LocalDateTime.class))
+                .status(MaintenanceStatus.valueOf(rs.getString("status")))
+                .estimatedCost(rs.getBigDecimal("estimated_cost"))
+                .finalCost(rs.getBigDecimal("final_cost"))
+                .build(), Timestamp.valueOf(cutoff), afterId, Long.toString(rolledUpBeforeXid), limit);
+    }
+
+    /**
+     * Records the blocks of a written segment and removes their maintenances from the
+     * hot table, keeping their completed spend for the cost rollup rebuild. The vehicles'
+     * maintenance lists change, so their maintenances version is bumped, in vehicle id
+     * order like every other summary writer.
+     *
+     * @param ids the archived maintenance ids, all created before {@code cutoff}
+     * @return number of maintenances removed
+     */
+    public int moveToArchive(List<Long> ids, LocalDateTime cutoff, Collection<ArchiveBlock> blocks) {
+        jdbcTemplate.update(ARCHIVE_COSTS_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+            ps.setTimestamp(2, Timestamp.valueOf(cutoff));
+        });
+        jdbcTemplate.update(INSERT_BLOCKS_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", blocks.stream().map(ArchiveBlock::getVehicleId).toArray()));
+            ps.setArray(2, connection.createArrayOf("bigint", blocks.stream().map(ArchiveBlock::getSegmentId).toArray()));
+            ps.setArray(3, connection.createArrayOf("bigint", blocks.stream().map(ArchiveBlock::getOffset).toArray()));
+            ps.setArray(4, connection.createArrayOf("integer", blocks.stream().map(ArchiveBlock::getLength).toArray()));
+            ps.setArray(5, connection.createArrayOf("integer", blocks.stream().map(ArchiveBlock::getRowCount).toArray()));
+            ps.setArray(6, connection.createArrayOf("integer",
+                    blocks.stream().map(ArchiveBlock::getCompletedCount).toArray()));
+            ps.setArray(7, connection.createArrayOf("numeric",
+                    blocks.stream().map(ArchiveBlock::getCompletedCost).toArray()));
+            ps.setArray(8, connection.createArrayOf("timestamp",
+                    blocks.stream().map(block -> Timestamp.valueOf(block.getMinCreationDate())).toArray()));
+            ps.setArray(9, connection.createArrayOf("timestamp",
+                    blocks.stream().map(block -> Timestamp.valueOf(block.getMaxCreationDate())).toArray()));
+        });
+        jdbcTemplate.update(BUMP_MAINTENANCES_VERSIONS_SQL, ps -> ps.setArray(1, ps.getConnection()
+                .createArrayOf("bigint", blocks.stream().map(ArchiveBlock::getVehicleId).distinct().toArray())));
+        return jdbcTemplate.update(DELETE_ARCHIVED_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray()));
+            ps.setTimestamp(2, Timestamp.valueOf(cutoff));
+        });
+    }
+
+    /**
+     * Scans the block index, which has no index on segment_id; only used when a batch failed.
+     *
+     * @return true if any archive block points into the segment
+     */
+    public boolean isSegmentReferenced(long segmentId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(SEGMENT_REFERENCED_SQL, Boolean.class, segmentId));
+    }
+
+    /**
+     * @return the archive blocks of a vehicle, newest first
+     */
+    public List<ArchiveBlock> findBlocks(Long vehicleId) {
+        return jdbcTemplate.query(FIND_BLOCKS_SQL, (rs, rowNum) -> new ArchiveBlock(
+                rs.getLong("vehicle_id"),
+                rs.getLong("segment_id"),
+                rs.getLong("block_offset"),
+                rs.getInt("block_length"),
+                rs.getInt("row_count"),
+                rs.getInt("completed_count"),
+                rs.getBigDecimal("completed_cost"),
+                rs.getObject("min_creation_date", LocalDateTime.class),
+                rs.getObject("max_creation_date", LocalDateTime.class)), vehicleId);
+    }
+}
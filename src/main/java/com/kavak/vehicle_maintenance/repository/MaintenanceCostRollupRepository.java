@@ -0,0 +1,254 @@
+package com.kavak.vehicle_maintenance.repository;
+
+import com.kavak.vehicle_maintenance.domain.enums.CostReportDimension;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceCostReportRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceCostReportRowDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Plain JDBC access to maintenance_cost_rollup, the completed spend per
+ * month, brand, model and maintenance type, and to its refresh watermark.
+ *
+ * The watermark is a transaction id: completions by transactions below it are
+ * already rolled up. Refreshes only advance it to the oldest transaction still
+ * running, so a completion that commits late is picked up by the next refresh
+ * instead of being skipped.
+ */
+@Repository
+public class MaintenanceCostRollupRepository {
+
+    static final String WATERMARK = "maintenance_cost_rollup";
+
+    private static final String LOCK_WATERMARK_SQL =
+            "SELECT watermark_xid::text FROM report_watermarks WHERE name = ? FOR UPDATE";
+
+    private static final String CURRENT_XMIN_SQL = "SELECT pg_snapshot_xmin(pg_current_snapshot())::text";
+
+    private static final String ADVANCE_WATERMARK_SQL =
+            "UPDATE report_watermarks SET watermark_xid = ?::xid8, refreshed_at = LOCALTIMESTAMP WHERE name = ?";
+
+    private static final String REFRESHED_AT_SQL = "SELECT refreshed_at FROM report_watermarks WHERE name = ?";
+
+    private static final String ROLL_UP_COMPLETIONS_SQL = """
+            WITH completed AS (
+                SELECT date_trunc('month', m.completed_date)::date AS month, v.brand, v.model, m.type,
+                       COUNT(*) AS maintenance_count, COALESCE(SUM(m.final_cost), 0) AS total_cost
+                FROM maintenances m
+                JOIN vehicles v ON v.id = m.vehicle_id
+                WHERE m.completed_xid >= ?::xid8 AND m.completed_xid < ?::xid8
+                GROUP BY 1, 2, 3, 4
+            ), merged AS (
+                INSERT INTO maintenance_cost_rollup AS r (month, brand, model, type, maintenance_count, total_cost)
+                SELECT * FROM completed
+                ON CONFLICT (month, brand, model, type) DO UPDATE SET
+                    maintenance_count = r.maintenance_count + EXCLUDED.maintenance_count,
+                    total_cost = r.total_cost + EXCLUDED.total_cost
+            )
+            SELECT COALESCE(SUM(maintenance_count), 0) FROM completed
+            """;
+
+    private static final String MAINTENANCE_ID_BOUNDS_SQL = "SELECT MIN(id), MAX(id) FROM maintenances";
+
+    private static final String AGGREGATE_RANGE_SQL = """
+            SELECT date_trunc('month', m.completed_date)::date AS month, v.brand, v.model, m.type,
+                   COUNT(*) AS maintenance_count, COALESCE(SUM(m.final_cost), 0) AS total_cost
+            FROM maintenances m
+            JOIN vehicles v ON v.id = m.vehicle_id
+            WHERE m.id BETWEEN ? AND ?
+              AND m.status = 'COMPLETED'
+              AND (m.completed_xid IS NULL OR m.completed_xid < ?::xid8)
+            GROUP BY 1, 2, 3, 4
+            """;
+
+    private static final String ARCHIVED_ROWS_SQL = """
+            SELECT month, brand, model, type, maintenance_count, total_cost FROM maintenance_cost_archived
+            """;
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM maintenance_cost_rollup";
+
+    private static final String INSERT_ROWS_SQL = """
+            INSERT INTO maintenance_cost_rollup (month, brand, model, type, maintenance_count, total_cost)
+            SELECT * FROM unnest(?::date[], ?::varchar[], ?::varchar[], ?::varchar[], ?::bigint[], ?::numeric[])
+            """;
+
+    private static final Map<CostReportDimension, String> DIMENSION_COLUMNS = Map.of(
+            CostReportDimension.MONTH, "month",
+            CostReportDimension.BRAND, "brand",
+            CostReportDimension.MODEL, "model",
+            CostReportDimension.TYPE, "type"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MaintenanceCostRollupRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Locks the watermark until the surrounding transaction ends, so refreshes and
+     * rebuilds never run at the same time.
+     *
+     * @return the current watermark
+     */
+    public long lockWatermark() {
+        return Long.parseLong(jdbcTemplate.queryForObject(LOCK_WATERMARK_SQL, String.class, WATERMARK));
+    }
+
+    /**
+     * @return the oldest transaction still running; every transaction below it has finished
+     */
+    public long currentXmin() {
+        return Long.parseLong(jdbcTemplate.queryForObject(CURRENT_XMIN_SQL, String.class));
+    }
+
+    public void advanceWatermark(long watermark) {
+        jdbcTemplate.update(ADVANCE_WATERMARK_SQL, Long.toString(watermark), WATERMARK);
+    }
+
+    public Optional<LocalDateTime> findRefreshedAt() {
+        return jdbcTemplate.queryForList(REFRESHED_AT_SQL, LocalDateTime.class, WATERMARK).stream().findFirst();
+    }
+
+    /**
+     * Adds the completions of transactions in [fromXid, toXid) to the rollup in one statement.
+     *
+     * @return number of completed maintenances added
+     */
+    public long rollUpCompletions(long fromXid, long toXid) {
+        Long added = jdbcTemplate.queryForObject(ROLL_UP_COMPLETIONS_SQL, Long.class,
+                Long.toString(fromXid), Long.toString(toXid));
+        return added == null ? 0 : added;
+    }
+
+    /**
+     * @return {min, max} maintenance id, or empty if there are no maintenances
+     */
+    public Optional<long[]> findMaintenanceIdBounds() {
+        return Optional.ofNullable(jdbcTemplate.query(MAINTENANCE_ID_BOUNDS_SQL, rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        }));
+    }
+
+    /**
+     * Aggregates the completed maintenances with id in [fromId, toId] whose completion
+     * is below {@code beforeXid}. Read-only, safe to run in parallel for disjoint ranges.
+     */
+    public List<MaintenanceCostReportRowDTO> aggregateRange(long fromId, long toId, long beforeXid) {
+        return jdbcTemplate.query(AGGREGATE_RANGE_SQL, rollupRowMapper(), fromId, toId, Long.toString(beforeXid));
+    }
+
+    /**
+     * @return the completed spend of maintenances moved to the archive, which aggregateRange no longer sees
+     */
+    public List<MaintenanceCostReportRowDTO> findArchivedRows() {
+        return jdbcTemplate.query(ARCHIVED_ROWS_SQL, rollupRowMapper());
+    }
+
+    /**
+     * Replaces the whole rollup with the given rows.
+     */
+    public void replaceAll(Collection<MaintenanceCostReportRowDTO> rows) {
+        jdbcTemplate.update(DELETE_ALL_SQL);
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_ROWS_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("date",
+                    rows.stream().map(row -> Date.valueOf(row.getMonth().atDay(1))).toArray()));
+            ps.setArray(2, connection.createArrayOf("varchar",
+                    rows.stream().map(MaintenanceCostReportRowDTO::getBrand).toArray()));
+            ps.setArray(3, connection.createArrayOf("varchar",
+                    rows.stream().map(MaintenanceCostReportRowDTO::getModel).toArray()));
+            ps.setArray(4, connection.createArrayOf("varchar",
+                    rows.stream().map(row -> row.getType().name()).toArray()));
+            ps.setArray(5, connection.createArrayOf("bigint",
+                    rows.stream().map(MaintenanceCostReportRowDTO::getMaintenanceCount).toArray()));
+            ps.setArray(6, connection.createArrayOf("numeric",
+                    rows.stream().map(MaintenanceCostReportRowDTO::getTotalCost).toArray()));
+        });
+    }
+
+    /**
+     * Sums the rollup over the requested filters, grouped by the requested dimensions.
+     * Only whitelisted column names are ever concatenated into the SQL.
+     */
+    public List<MaintenanceCostReportRowDTO> query(MaintenanceCostReportRequestDTO request) {
+        Set<CostReportDimension> groupBy = request.getGroupBy() == null || request.getGroupBy().isEmpty()
+                ? EnumSet.noneOf(CostReportDimension.class)
+                : EnumSet.copyOf(request.getGroupBy());
+        String columns = groupBy.stream().map(DIMENSION_COLUMNS::get).collect(Collectors.joining(", "));
+
+        StringBuilder sql = new StringBuilder("SELECT ");
+        if (!groupBy.isEmpty()) {
+            sql.append(columns).append(", ");
+        }
+        sql.append("COALESCE(SUM(maintenance_count), 0) AS maintenance_count, ")
+                .append("COALESCE(SUM(total_cost), 0) AS total_cost FROM maintenance_cost_rollup WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (request.getFromMonth() != null) {
+            sql.append(" AND month >= ?");
+            args.add(Date.valueOf(request.getFromMonth().atDay(1)));
+        }
+        if (request.getToMonth() != null) {
+            sql.append(" AND month <= ?");
+            args.add(Date.valueOf(request.getToMonth().atDay(1)));
+        }
+        if (request.getBrand() != null) {
+            sql.append(" AND brand = ?");
+            args.add(request.getBrand());
+        }
+        if (request.getModel() != null) {
+            sql.append(" AND model = ?");
+            args.add(request.getModel());
+        }
+        if (request.getType() != null) {
+            sql.append(" AND type = ?");
+            args.add(request.getType().name());
+        }
+        if (!groupBy.isEmpty()) {
+            sql.append(" GROUP BY ").append(columns).append(" ORDER BY ").append(columns);
+        }
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> MaintenanceCostReportRowDTO.builder()
+                .month(groupBy.contains(CostReportDimension.MONTH)
+                        ? YearMonth.from(rs.getObject("month", LocalDate.class)) : null)
+                .brand(groupBy.contains(CostReportDimension.BRAND) ? rs.getString("brand") : null)
+                .model(groupBy.contains(CostReportDimension.MODEL) ? rs.getString("model") : null)
+                .type(groupBy.contains(CostReportDimension.TYPE) ? MaintenanceType.valueOf(rs.getString("type")) : null)
+                .maintenanceCount(rs.getLong("maintenance_count"))
+                .totalCost(rs.getBigDecimal("total_cost"))
+                .build(), args.toArray());
+    }
+
+    private RowMapper<MaintenanceCostReportRowDTO> rollupRowMapper() {
+        return (rs, rowNum) -> MaintenanceCostReportRowDTO.builder()
+                .month(YearMonth.from(rs.getObject("month", LocalDate.class)))
+                .brand(rs.getString("brand"))
+                .model(rs.getString("model"))
+                .type(MaintenanceType.valueOf(rs.getString("type")))
+                .maintenanceCount(rs.getLong("maintenance_count"))
+                .totalCost(rs.getBigDecimal("total_cost"))
+                .build();
+    }
+}
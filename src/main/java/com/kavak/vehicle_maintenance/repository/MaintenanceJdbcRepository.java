@@ -0,0 +1,258 @@
+package com.kavak.vehicle_maintenance.repository;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceExportRowDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSearchHitDTO;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access to maintenances for set-based and streaming operations
+ * that do not fit the entity model.
+ */
+@Repository
+public class MaintenanceJdbcRepository {
+    
+    static final int EXPORT_FETCH_SIZE = 1_000;
+    
+    private static final String EXPORT_SQL = """
+            SELECT m.id, m.vehicle_id, v.license_plate, m.type, m.description,
+                   m.creation_date, m.status, m.estimated_cost, m.final_cost
+            FROM maintenances m
+            JOIN vehicles v ON v.id = m.vehicle_id
+            """;
+    
+    private static final String TRANSITION_STATUS_SQL = """
+            UPDATE maintenances m
+            SET status = t.status, final_cost = COALESCE(c.final_cost, m.final_cost),
+                completed_date = CASE WHEN t.status = 'COMPLETED' THEN LOCALTIMESTAMP END,
+                completed_xid = CASE WHEN t.status = 'COMPLETED' THEN pg_current_xact_id() END,
+                version = m.version + 1
+            FROM unnest(?::bigint[], ?::numeric[]) AS c(id, final_cost), (SELECT ?::varchar AS status) t
+            WHERE m.id = c.id AND m.status = ANY(?::varchar[])
+            RETURNING m.id, m.vehicle_id
+            """;
+    
+    private static final String FIND_STATUSES_SQL = "SELECT id, status FROM maintenances WHERE id = ANY(?::bigint[])";
+    
+    /** Relevance and match condition of a full-text search; both take the query text */
+    private static final String TEXT_RANK = "ts_rank_cd(m.description_tsv, websearch_to_tsquery('english', ?))";
+    private static final String TEXT_MATCH = "m.description_tsv @@ websearch_to_tsquery('english', ?)";
+    
+    /** Relevance and match condition of a fuzzy search; both take the corrected query from CORRECT_QUERY_SQL */
+    private static final String FUZZY_RANK = "ts_rank_cd(m.description_tsv, to_tsquery('simple', ?))";
+    private static final String FUZZY_MATCH = "m.description_tsv @@ to_tsquery('simple', ?)";
+    
+    private static final String ADD_SEARCH_WORDS_SQL = """
+            INSERT INTO maintenance_search_words (word)
+            SELECT DISTINCT w.word
+            FROM unnest(?::text[]) AS d(description),
+                 unnest(tsvector_to_array(to_tsvector('english', d.description))) AS w(word)
+            WHERE w.word ~ '^[[:alnum:]]+$'
+            ORDER BY w.word
+            ON CONFLICT DO NOTHING
+            """;
+    
+    /**
+     * Rewrites each word of the query, stop words aside, as the alternatives of its three most
+     * similar indexed words, and ANDs them; null when some word has no similar indexed word.
+     */
+    private static final String CORRECT_QUERY_SQL = """
+            WITH terms AS (
+                SELECT t.term, t.ord
+                FROM regexp_split_to_table(lower(?), '[^[:alnum:]]+') WITH ORDINALITY AS t(term, ord)
+                WHERE t.term <> '' AND numnode(plainto_tsquery('english', t.term)) > 0
+            ), alternatives AS (
+                SELECT t.ord, string_agg(quote_literal(c.word), ' | ') AS words
+                FROM terms t
+                CROSS JOIN LATERAL (
+                    SELECT w.word FROM maintenance_search_words w
+                    WHERE w.word % t.term
+                    ORDER BY similarity(w.word, t.term) DESC, w.word
+                    LIMIT 3
+                ) c
+                GROUP BY t.ord
+            )
+            SELECT CASE WHEN count(*) = (SELECT count(*) FROM terms)
+                        THEN string_agg('(' || a.words || ')', ' & ' ORDER BY a.ord) END
+            FROM alternatives a
+            """;
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate exportJdbcTemplate;
+    
+    public MaintenanceJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(EXPORT_FETCH_SIZE);
+    }
+    
+    /**
+     * Streams every maintenance of the fleet through a forward-only cursor.
+     * PostgreSQL only honours the fetch size inside a transaction (autocommit off),
+     * so callers must run this within a read-only transaction to keep memory bounded.
+     * 
+     * @param rowConsumer receives each row as it is read
+     * @return the number of rows streamed
+     */
+    public long streamAll(Consumer<MaintenanceExportRowDTO> rowConsumer) {
+        long[] count = {0};
+        exportJdbcTemplate.query(EXPORT_SQL, rs -> {
+            rowConsumer.accept(MaintenanceExportRowDTO.builder()
+                    .id(rs.getLong("id"))
+                    .vehicleId(rs.getLong("vehicle_id"))
+                    .licensePlate(rs.getString("license_plate"))
+                    .type(MaintenanceType.valueOf(rs.getString("type")))
+                    .description(rs.getString("description"))
+                    .creationDate(rs.getObject("creation_date", LocalDateTime.class))
+                    .status(MaintenanceStatus.valueOf(rs.getString("status")))
+                    .estimatedCost(rs.getBigDecimal("estimated_cost"))
+                    .finalCost(rs.getBigDecimal("final_cost"))
+                    .build());
+            count[0]++;
+        });
+        return count[0];
+    }
+    
+    /**
+     * Moves every listed maintenance to {@code target} in one statement, but only rows whose
+     * current status is one of {@code allowedCurrent}; the status check and the write are atomic.
+     * Completing also stamps the completion date and transaction for the cost rollup.
+     * 
+     * @param ids maintenance ids, without duplicates
+     * @param finalCosts final cost per id (same order), null entries keep the stored cost
+     * @return vehicle id of each row that was actually updated, keyed by maintenance id
+     */
+    public Map<Long, Long> transitionStatus(List<Long> ids, List<BigDecimal> finalCosts,
+                                            MaintenanceStatus target, Set<MaintenanceStatus> allowedCurrent) {
+        Map<Long, Long> updated = new HashMap<>();
+        jdbcTemplate.query(TRANSITION_STATUS_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            ps.setArray(2, connection.createArrayOf("numeric", finalCosts.toArray()));
+            ps.setString(3, target.name());
+            ps.setArray(4, connection.createArrayOf("varchar",
+                    allowedCurrent.stream().map(Enum::name).toArray()));
+        }, rs -> {
+            updated.put(rs.getLong("id"), rs.getLong("vehicle_id"));
+        });
+        return updated;
+    }
+    
+    /**
+     * @return current status of each listed maintenance that exists
+     */
+    public Map<Long, MaintenanceStatus> findStatuses(Collection<Long> ids) {
+        Map<Long, MaintenanceStatus> statuses = new HashMap<>();
+        jdbcTemplate.query(FIND_STATUSES_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())),
+                rs -> {
+                    statuses.put(rs.getLong("id"), MaintenanceStatus.valueOf(rs.getString("status")));
+                });
+        return statuses;
+    }
+    
+    /**
+     * Finds the maintenances whose description matches the query, most relevant first, then
+     * newest first. Matches come from the GIN index on description_tsv; only they are ranked, and
+     * the license plate is joined for the page alone. A fuzzy query is first corrected against
+     * maintenance_search_words, so it runs on the same index. Archived maintenances are not searched.
+     * 
+     * @param afterRank with afterDate and afterId, the keyset position of the previous page; null for the first page
+     * @param limit maximum rows to return
+     */
+    public List<MaintenanceSearchHitDTO> search(MaintenanceSearchRequestDTO request, Float afterRank,
+                                                LocalDateTime afterDate, Long afterId, int limit) {
+        boolean fuzzy = Boolean.TRUE.equals(request.getFuzzy());
+        String query = request.getQ();
+        if (fuzzy) {
+            query = jdbcTemplate.queryForObject(CORRECT_QUERY_SQL, String.class, query);
+            if (query == null) {
+                return List.of();
+            }
+        }
+        List<Object> args = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("""
+                SELECT h.*, v.license_plate
+                FROM (
+                    SELECT * FROM (
+                        SELECT m.id, m.vehicle_id, m.type, m.description, m.creation_date, m.status,
+                               m.estimated_cost, m.final_cost, \
+                """);
+        sql.append(fuzzy ? FUZZY_RANK : TEXT_RANK).append(" AS rank FROM maintenances m WHERE ")
+                .append(fuzzy ? FUZZY_MATCH : TEXT_MATCH);
+        args.add(query);
+        args.add(query);
+        if (request.getType() != null) {
+            sql.append(" AND m.type = ?");
+            args.add(request.getType().name());
+        }
+        if (request.getStatus() != null) {
+            sql.append(" AND m.status = ?");
+            args.add(request.getStatus().name());
+        }
+        if (request.getFrom() != null) {
+            sql.append(" AND m.creation_date >= ?");
+            args.add(request.getFrom());
+        }
+        if (request.getTo() != null) {
+            sql.append(" AND m.creation_date < ?");
+            args.add(request.getTo());
+        }
+        sql.append(") ranked");
+        if (afterRank != null) {
+            sql.append(" WHERE (rank, creation_date, id) < (CAST(? AS real), ?, ?)");
+            args.add(afterRank);
+            args.add(afterDate);
+            args.add(afterId);
+        }
+        sql.append("""
+                 ORDER BY rank DESC, creation_date DESC, id DESC LIMIT ?
+                ) h
+                JOIN vehicles v ON v.id = h.vehicle_id
+                ORDER BY h.rank DESC, h.creation_date DESC, h.id DESC
+                """);
+        args.add(limit);
+        
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> MaintenanceSearchHitDTO.builder()
+                .id(rs.getLong("id"))
+                .vehicleId(rs.getLong("vehicle_id"))
+                .licensePlate(rs.getString("license_plate"))
+                .type(MaintenanceType.valueOf(rs.getString("type")))
+                .description(rs.getString("description"))
+                .creationDate(rs.getObject("creation_date", LocalDateTime.class))
+                .status(MaintenanceStatus.valueOf(rs.getString("status")))
+                .estimatedCost(rs.getBigDecimal("estimated_cost"))
+                .finalCost(rs.getBigDecimal("final_cost"))
+                .rank(rs.getFloat("rank"))
+                .build(), args.toArray());
+    }
+    
+    /**
+     * Adds the words of the given descriptions that fuzzy search does not know yet.
+     * Must run in the transaction that stores the maintenances, so a word never goes
+     * missing for a committed description. Words are inserted in order, so concurrent
+     * registrations sharing new words wait for each other instead of deadlocking.
+     */
+    public void addSearchWords(Collection<String> descriptions) {
+        if (descriptions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(ADD_SEARCH_WORDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("text", descriptions.toArray())));
+    }
+}
@@ -0,0 +1,105 @@
+package com.kavak.vehicle_maintenance.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * DDL access to the monthly partitions of maintenances.
+ * Partitions are named maintenances_pYYYY_MM and cover [first day of month, first day of next month).
+ */
+@Repository
+public class MaintenancePartitionRepository {
+
+    static final String PARTITION_PREFIX = "maintenances_p";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LOCK_SQL = "SELECT pg_try_advisory_xact_lock(hashtext('maintenance_partitions'))";
+
+    private static final String LOCK_TIMEOUT_SQL = "SET LOCAL lock_timeout = '5s'";
+
+    private static final String FIND_PARTITIONS_SQL = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'maintenances'::regclass
+            ORDER BY c.relname
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public MaintenancePartitionRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * Takes the partition maintenance lock for the current transaction, so only one
+     * instance changes partitions at a time, and bounds how long DDL may queue for its
+     * table locks so it never stalls regular traffic behind it.
+     *
+     * @return false if another instance holds the lock
+     */
+    public boolean tryLock() {
+        jdbcTemplate.execute(LOCK_TIMEOUT_SQL);
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(LOCK_SQL, Boolean.class));
+    }
+
+    /**
+     * @return months of the attached monthly partitions, ascending; the default partition is not included
+     */
+    public List<YearMonth> findPartitionMonths() {
+        return jdbcTemplate.queryForList(FIND_PARTITIONS_SQL, String.class).stream()
+                .map(MaintenancePartitionRepository::monthOf)
+                .flatMap(Optional::stream)
+                .sorted()
+                .toList();
+    }
+
+    public void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF maintenances FOR VALUES FROM ('" + month.atDay(1)
+                + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    /**
+     * Locks the partition of {@code month} until the transaction ends, so no row can move in
+     * or out of it, and tells whether it holds any maintenance.
+     */
+    public boolean lockIfEmpty(YearMonth month) {
+        String partition = partitionName(month);
+        jdbcTemplate.execute("LOCK TABLE " + partition + " IN ACCESS EXCLUSIVE MODE");
+        return Boolean.FALSE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + partition + ")", Boolean.class));
+    }
+
+    /**
+     * Detaches and drops the partition of {@code month}. Only for partitions that
+     * {@link #lockIfEmpty} found empty in the same transaction.
+     */
+    public void dropPartition(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE maintenances DETACH PARTITION " + partitionName(month));
+        jdbcTemplate.execute("DROP TABLE " + partitionName(month));
+    }
+
+    public static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(PARTITION_SUFFIX);
+    }
+
+    static Optional<YearMonth> monthOf(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), PARTITION_SUFFIX));
+        } catch (DateTimeParseException ex) {
+            return Optional.empty();
+        }
+    }
+}
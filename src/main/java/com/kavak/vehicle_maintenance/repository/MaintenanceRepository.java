@@ -2,15 +2,58 @@ package com.kavak.vehicle_maintenance.repository;
 
 import com.kavak.vehicle_maintenance.domain.Maintenance;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface MaintenanceRepository extends JpaRepository<Maintenance, Long> {
+public interface MaintenanceRepository extends JpaRepository<Maintenance, Long>, JpaSpecificationExecutor<Maintenance> {
     
     List<Maintenance> findByVehicleId(Long vehicleId);
     
-    List<Maintenance> findByVehicleIdAndStatus(Long vehicleId, MaintenanceStatus status);
+    /**
+     * Reads the maintenances of a vehicle whose status is in the given set straight into response DTOs.
+     * No managed entities are created, so there is no persistence-context or dirty-checking overhead.
+     * 
+     * @param licensePlate the vehicle license plate
+     * @param statuses the statuses to include
+     * @return matching maintenances ordered by creation date
+     */
+    @Query("""
+            SELECT new com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO(
+                m.id, m.vehicle.id, m.type, m.description, m.creationDate, m.status, m.estimatedCost, m.finalCost)
+            FROM Maintenance m
+            WHERE m.vehicle.licensePlate = :licensePlate
+              AND m.status IN :statuses
+            ORDER BY m.creationDate, m.id
+            """)
+    List<MaintenanceResponseDTO> findResponsesByLicensePlateAndStatusIn(String licensePlate, Collection<MaintenanceStatus> statuses);
+    
+    /**
+     * Compare-and-set status change: the row is only written if its current status is still one
+     * of {@code allowedCurrent}, so of two racing transitions exactly one can win.
+     * Completing also stamps the completion date and transaction for the cost rollup.
+     * 
+     * @param finalCost new final cost, or null to keep the stored one
+     * @return the updated maintenance, or empty if it does not exist or its status did not allow the change
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE maintenances
+            SET status = :newStatus, final_cost = COALESCE(CAST(:finalCost AS numeric), final_cost),
+                completed_date = CASE WHEN :newStatus = 'COMPLETED' THEN LOCALTIMESTAMP END,
+                completed_xid = CASE WHEN :newStatus = 'COMPLETED' THEN pg_current_xact_id() END,
+                version = version + 1
+            WHERE id = :id AND status IN (:allowedCurrent)
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Maintenance> transitionStatus(Long id, String newStatus, Collection<String> allowedCurrent, BigDecimal finalCost);
 }
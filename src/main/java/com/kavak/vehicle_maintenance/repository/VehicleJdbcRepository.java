@@ -0,0 +1,178 @@
+package com.kavak.vehicle_maintenance.repository;
+
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehicleAvailability;
+import com.kavak.vehicle_maintenance.domain.VehiclePlate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plain JDBC access to vehicles for set-based operations that do not fit the entity model.
+ */
+@Repository
+public class VehicleJdbcRepository {
+    
+    private static final String ADVANCE_MILEAGES_SQL = """
+            UPDATE vehicles v SET current_mileage = r.mileage, version = v.version + 1
+            FROM unnest(?::varchar[], ?::integer[]) AS r(license_plate, mileage)
+            WHERE v.license_plate = r.license_plate AND v.current_mileage < r.mileage
+            """;
+    
+    /** Must match allocationSize of the vehicles_id_seq generator on Vehicle (see V5) */
+    private static final int ID_ALLOCATION_SIZE = 50;
+    
+    private static final String ALLOCATE_ID_BLOCKS_SQL =
+            "SELECT nextval('vehicles_id_seq') FROM generate_series(1, ?)";
+    
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO vehicles (id, license_plate, brand, model, year, current_mileage)
+            SELECT * FROM unnest(?::bigint[], ?::varchar[], ?::varchar[], ?::varchar[], ?::integer[], ?::integer[])
+            ON CONFLICT (license_plate) DO NOTHING
+            RETURNING id, license_plate
+            """;
+    
+    private static final String AVAILABILITY_SQL = """
+            SELECT v.id, v.brand, v.year, COALESCE(s.active_count, 0) = 0 AS available
+            FROM vehicles v
+            LEFT JOIN vehicle_maintenance_summary s ON s.vehicle_id = v.id
+            """;
+    
+    private static final String AVAILABILITY_BY_IDS_SQL = AVAILABILITY_SQL + "WHERE v.id = ANY(?)";
+    
+    private static final String PLATES_SQL = "SELECT v.id, v.license_plate FROM vehicles v ";
+    
+    private static final String PLATES_BY_IDS_SQL = PLATES_SQL + "WHERE v.id = ANY(?)";
+    
+    private static final int SCAN_FETCH_SIZE = 10_000;
+    
+    private static final RowMapper<VehicleAvailability> AVAILABILITY_ROW_MAPPER = (rs, rowNum) ->
+            new VehicleAvailability(rs.getLong("id"), rs.getString("brand"), rs.getInt("year"),
+                    rs.getBoolean("available"));
+    
+    private static final RowMapper<VehiclePlate> PLATE_ROW_MAPPER = (rs, rowNum) ->
+            new VehiclePlate(rs.getLong("id"), rs.getString("license_plate"));
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public VehicleJdbcRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+    
+    /**
+     * Applies many mileage readings in one statement with the same monotonic rule as
+     * {@link VehicleRepository#updateMileageIfGreater}: a vehicle only moves forward.
+     * Unknown plates and stale readings are skipped silently.
+     * 
+     * @param licensePlates plates, without duplicates
+     * @param mileages reading per plate, same order
+     * @return number of vehicles whose mileage advanced
+     */
+    public int advanceMileages(List<String> licensePlates, List<Integer> mileages) {
+        return jdbcTemplate.update(ADVANCE_MILEAGES_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("varchar", licensePlates.toArray()));
+            ps.setArray(2, connection.createArrayOf("integer", mileages.toArray()));
+        });
+    }
+    
+    /**
+     * Registers many vehicles in one statement. The unique constraint on license_plate
+     * decides, as in {@link VehicleRepository#insertIfAbsent}, so a plate registered
+     * concurrently by another transaction is skipped instead of failing the statement.
+     * Rows are inserted in plate order, so two batches sharing plates wait on each other
+     * in the same order and cannot deadlock.
+     * 
+     * @param vehicles vehicles to register, without repeated plates
+     * @return id and plate of the vehicles inserted; the others were already registered
+     */
+    public List<VehiclePlate> insertIfAbsent(List<Vehicle> vehicles) {
+        if (vehicles.isEmpty()) {
+            return List.of();
+        }
+        List<Vehicle> sorted = vehicles.stream().sorted(Comparator.comparing(Vehicle::getLicensePlate)).toList();
+        List<Long> ids = allocateIds(sorted.size());
+        return jdbcTemplate.query(INSERT_IF_ABSENT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+            ps.setArray(2, connection.createArrayOf("varchar", sorted.stream().map(Vehicle::getLicensePlate).toArray()));
+            ps.setArray(3, connection.createArrayOf("varchar", sorted.stream().map(Vehicle::getBrand).toArray()));
+            ps.setArray(4, connection.createArrayOf("varchar", sorted.stream().map(Vehicle::getModel).toArray()));
+            ps.setArray(5, connection.createArrayOf("integer", sorted.stream().map(Vehicle::getYear).toArray()));
+            ps.setArray(6, connection.createArrayOf("integer", sorted.stream().map(Vehicle::getCurrentMileage).toArray()));
+        }, PLATE_ROW_MAPPER);
+    }
+    
+    /**
+     * Reserves ids the way Hibernate's pooled optimizer does: each nextval hands out the
+     * {@value #ID_ALLOCATION_SIZE} ids ending at the returned value, so these never collide
+     * with ids the entity mapping assigns.
+     */
+    private List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+            for (long hi : jdbcTemplate.queryForList(ALLOCATE_ID_BLOCKS_SQL, Long.class, blocks)) {
+                // The first block of a fresh sequence starts below 1
+                for (long id = Math.max(hi - ID_ALLOCATION_SIZE + 1, 1); id <= hi && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+    
+    /**
+     * Streams the availability of every vehicle in one scan, {@value #SCAN_FETCH_SIZE} rows
+     * per round trip. Must run inside a transaction, otherwise the driver reads the whole
+     * result into memory.
+     */
+    public void scanAvailability(Consumer<VehicleAvailability> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(AVAILABILITY_SQL);
+            ps.setFetchSize(SCAN_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(AVAILABILITY_ROW_MAPPER.mapRow(rs, 0)));
+    }
+    
+    /**
+     * @return availability of the given vehicles; unknown ids are absent
+     */
+    public List<VehicleAvailability> findAvailability(Collection<Long> vehicleIds) {
+        return jdbcTemplate.query(AVAILABILITY_BY_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", vehicleIds.toArray())),
+                AVAILABILITY_ROW_MAPPER);
+    }
+    
+    /**
+     * Streams the license plate of every vehicle in one scan, {@value #SCAN_FETCH_SIZE} rows
+     * per round trip. Must run inside a transaction, otherwise the driver reads the whole
+     * result into memory.
+     */
+    public void scanLicensePlates(Consumer<VehiclePlate> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(PLATES_SQL);
+            ps.setFetchSize(SCAN_FETCH_SIZE);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(PLATE_ROW_MAPPER.mapRow(rs, 0)));
+    }
+    
+    /**
+     * @return license plates of the given vehicles; unknown ids are absent
+     */
+    public List<VehiclePlate> findLicensePlates(Collection<Long> vehicleIds) {
+        return jdbcTemplate.query(PLATES_BY_IDS_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", vehicleIds.toArray())),
+                PLATE_ROW_MAPPER);
+    }
+}
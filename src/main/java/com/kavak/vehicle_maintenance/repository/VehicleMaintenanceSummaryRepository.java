@@ -0,0 +1,167 @@
+package com.kavak.vehicle_maintenance.repository;
+
+import com.kavak.vehicle_maintenance.domain.MaintenanceSummaryDelta;
+import com.kavak.vehicle_maintenance.domain.VehicleMaintenanceTotals;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Plain JDBC access to vehicle_maintenance_summary, the per-vehicle counters that
+ * answer availability and total cost without touching the maintenance history.
+ */
+@Repository
+public class VehicleMaintenanceSummaryRepository {
+
+    private static final String TOTALS_SQL = """
+            SELECT active_count, completed_cost, maintenances_version FROM vehicle_maintenance_summary WHERE vehicle_id = ?
+            """;
+
+    private static final String MAINTENANCES_VERSION_SQL =
+            "SELECT maintenances_version FROM vehicle_maintenance_summary WHERE vehicle_id = ?";
+
+    private static final String APPLY_DELTAS_SQL = """
+            INSERT INTO vehicle_maintenance_summary AS s
+                (vehicle_id, active_count, completed_count, completed_cost, last_maintenance_date, maintenances_version)
+            SELECT d.*, 1 FROM unnest(?::bigint[], ?::integer[], ?::integer[], ?::numeric[], ?::timestamp[]) AS d
+            ON CONFLICT (vehicle_id) DO UPDATE SET
+                active_count = s.active_count + EXCLUDED.active_count,
+                completed_count = s.completed_count + EXCLUDED.completed_count,
+                completed_cost = s.completed_cost + EXCLUDED.completed_cost,
+                last_maintenance_date = GREATEST(s.last_maintenance_date, EXCLUDED.last_maintenance_date),
+                maintenances_version = s.maintenances_version + 1
+            """;
+
+    private static final String VEHICLE_ID_BOUNDS_SQL = "SELECT MIN(id), MAX(id) FROM vehicles";
+
+    private static final String ENSURE_ROWS_SQL = """
+            INSERT INTO vehicle_maintenance_summary (vehicle_id)
+            SELECT id FROM vehicles WHERE id BETWEEN ? AND ? ORDER BY id
+            ON CONFLICT (vehicle_id) DO NOTHING
+            """;
+
+    private static final String LOCK_ROWS_SQL = """
+            SELECT vehicle_id FROM vehicle_maintenance_summary
+            WHERE vehicle_id BETWEEN ? AND ?
+            ORDER BY vehicle_id
+            FOR UPDATE
+            """;
+
+    private static final String RECOMPUTE_ROWS_SQL = """
+            UPDATE vehicle_maintenance_summary s
+            SET active_count = a.active_count,
+                completed_count = a.completed_count + COALESCE(b.completed_count, 0),
+                completed_cost = a.completed_cost + COALESCE(b.completed_cost, 0),
+                last_maintenance_date = GREATEST(a.last_maintenance_date, b.last_maintenance_date),
+                maintenances_version = s.maintenances_version + 1
+            FROM (
+                SELECT k.vehicle_id,
+                       COUNT(m.id) FILTER (WHERE m.status IN ('PENDING', 'IN_PROGRESS')) AS active_count,
+                       COUNT(m.id) FILTER (WHERE m.status = 'COMPLETED') AS completed_count,
+                       COALESCE(SUM(m.final_cost) FILTER (WHERE m.status = 'COMPLETED'), 0) AS completed_cost,
+                       MAX(m.creation_date) AS last_maintenance_date
+                FROM vehicle_maintenance_summary k
+                LEFT JOIN maintenances m ON m.vehicle_id = k.vehicle_id
+                WHERE k.vehicle_id BETWEEN ? AND ?
+                GROUP BY k.vehicle_id
+            ) a
+            LEFT JOIN (
+                SELECT vehicle_id,
+                       SUM(completed_count) AS completed_count,
+                       SUM(completed_cost) AS completed_cost,
+                       MAX(max_creation_date) AS last_maintenance_date
+                FROM maintenance_archive_blocks
+                WHERE vehicle_id BETWEEN ? AND ?
+                GROUP BY vehicle_id
+            ) b ON b.vehicle_id = a.vehicle_id
+            WHERE s.vehicle_id = a.vehicle_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VehicleMaintenanceSummaryRepository(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /**
+     * @return the vehicle's counters; zero for a vehicle that never had a maintenance
+     */
+    public VehicleMaintenanceTotals findTotals(long vehicleId) {
+        return jdbcTemplate.query(TOTALS_SQL, rs -> rs.next()
+                ? new VehicleMaintenanceTotals(rs.getInt(1), rs.getBigDecimal(2), rs.getLong(3))
+                : new VehicleMaintenanceTotals(0, BigDecimal.ZERO, 0), vehicleId);
+    }
+
+    /**
+     * @return the version of the vehicle's maintenance lists; zero for a vehicle that never had a maintenance
+     */
+    public long findMaintenancesVersion(long vehicleId) {
+        return jdbcTemplate.query(MAINTENANCES_VERSION_SQL, rs -> rs.next() ? rs.getLong(1) : 0L, vehicleId);
+    }
+
+    /**
+     * Adds the deltas to the summary rows in one upsert and bumps their maintenances version;
+     * must run in the transaction that wrote the maintenances so the counters never diverge
+     * from the history. A delta of all zeros still counts as a change of the vehicle's list.
+     * Deltas of the same vehicle are merged and rows are locked in vehicle id order,
+     * so concurrent writers cannot deadlock on each other's summary rows.
+     */
+    public void applyDeltas(Collection<MaintenanceSummaryDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        Map<Long, MaintenanceSummaryDelta> byVehicle = new TreeMap<>();
+        deltas.forEach(delta -> byVehicle.merge(delta.getVehicleId(), delta, MaintenanceSummaryDelta::plus));
+
+        jdbcTemplate.update(APPLY_DELTAS_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            Collection<MaintenanceSummaryDelta> merged = byVehicle.values();
+            ps.setArray(1, connection.createArrayOf("bigint", byVehicle.keySet().toArray()));
+            ps.setArray(2, connection.createArrayOf("integer",
+                    merged.stream().map(MaintenanceSummaryDelta::getActiveCount).toArray()));
+            ps.setArray(3, connection.createArrayOf("integer",
+                    merged.stream().map(MaintenanceSummaryDelta::getCompletedCount).toArray()));
+            ps.setArray(4, connection.createArrayOf("numeric",
+                    merged.stream().map(MaintenanceSummaryDelta::getCompletedCost).toArray()));
+            ps.setArray(5, connection.createArrayOf("timestamp", merged.stream()
+                    .map(delta -> delta.getLastMaintenanceDate() == null
+                            ? null
+                            : Timestamp.valueOf(delta.getLastMaintenanceDate()))
+                    .toArray()));
+        });
+    }
+
+    /**
+     * @return {min, max} vehicle id, or empty if there are no vehicles
+     */
+    public Optional<long[]> findVehicleIdBounds() {
+        return Optional.ofNullable(jdbcTemplate.query(VEHICLE_ID_BOUNDS_SQL, rs -> {
+            rs.next();
+            long min = rs.getLong(1);
+            return rs.wasNull() ? null : new long[]{min, rs.getLong(2)};
+        }));
+    }
+
+    /**
+     * Recomputes the summary rows of every vehicle with id in [fromId, toId] from the maintenances table
+     * plus the totals of their archived maintenances.
+     * Must run inside a transaction: the rows are created and locked first, so writers touching these
+     * vehicles wait for the rebuild, and the recompute then sees every maintenance committed before it.
+     *
+     * @return number of vehicles rebuilt
+     */
+    public int rebuildRange(long fromId, long toId) {
+        jdbcTemplate.update(ENSURE_ROWS_SQL, fromId, toId);
+        jdbcTemplate.query(LOCK_ROWS_SQL, rs -> {
+        }, fromId, toId);
+        return jdbcTemplate.update(RECOMPUTE_ROWS_SQL, fromId, toId, fromId, toId);
+    }
+}
@@ -1,15 +1,65 @@
 package com.kavak.vehicle_maintenance.repository;
 
 import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface VehicleRepository extends JpaRepository<Vehicle, Long> {
+public interface VehicleRepository extends JpaRepository<Vehicle, Long>, JpaSpecificationExecutor<Vehicle> {
     
     Optional<Vehicle> findByLicensePlate(String licensePlate);
     
     boolean existsByLicensePlate(String licensePlate);
+    
+    @Query("""
+            SELECT new com.kavak.vehicle_maintenance.domain.VehicleIdentity(v.id, v.licensePlate, v.brand, v.model, v.year)
+            FROM Vehicle v WHERE v.licensePlate = :licensePlate
+            """)
+    Optional<VehicleIdentity> findIdentityByLicensePlate(String licensePlate);
+    
+    @Query("""
+            SELECT new com.kavak.vehicle_maintenance.domain.VehicleIdentity(v.id, v.licensePlate, v.brand, v.model, v.year)
+            FROM Vehicle v WHERE v.licensePlate IN :licensePlates
+            """)
+    List<VehicleIdentity> findIdentitiesByLicensePlateIn(Collection<? extends String> licensePlates);
+    
+    @Query("SELECT v.version FROM Vehicle v WHERE v.id = :id")
+    Optional<Long> findVersionById(Long id);
+    
+    /**
+     * Sets the mileage only if it moves forward; check and write happen in one statement,
+     * so concurrent readings can never overwrite a higher value with a lower one.
+     * 
+     * @return the updated vehicle, or empty if the plate is unknown or the mileage is not greater
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE vehicles SET current_mileage = :newMileage, version = version + 1
+            WHERE license_plate = :licensePlate AND current_mileage < :newMileage
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Vehicle> updateMileageIfGreater(String licensePlate, Integer newMileage);
+    
+    /**
+     * Registers a vehicle in one round trip. The unique constraint on license_plate decides,
+     * so concurrent registrations of the same plate cannot both succeed.
+     * 
+     * @return the stored vehicle, or empty if the plate is already registered
+     */
+    @Transactional
+    @Query(value = """
+            INSERT INTO vehicles (license_plate, brand, model, year, current_mileage)
+            VALUES (:licensePlate, :brand, :model, :year, :currentMileage)
+            ON CONFLICT (license_plate) DO NOTHING
+            RETURNING *
+            """, nativeQuery = true)
+    Optional<Vehicle> insertIfAbsent(String licensePlate, String brand, String model, Integer year, Integer currentMileage);
 }
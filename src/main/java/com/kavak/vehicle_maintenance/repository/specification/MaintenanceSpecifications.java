@@ -0,0 +1,56 @@
+package com.kavak.vehicle_maintenance.repository.specification;
+
+import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.Maintenance_;
+import com.kavak.vehicle_maintenance.domain.Vehicle_;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Type-safe criteria building blocks for Maintenance queries.
+ * Built on the generated JPA static metamodel.
+ */
+public final class MaintenanceSpecifications {
+    
+    private MaintenanceSpecifications() {
+    }
+    
+    public static Specification<Maintenance> belongsToVehicle(Long vehicleId) {
+        return (root, query, cb) -> cb.equal(root.get(Maintenance_.vehicle).get(Vehicle_.id), vehicleId);
+    }
+    
+    public static Specification<Maintenance> hasStatus(MaintenanceStatus status) {
+        return (root, query, cb) -> cb.equal(root.get(Maintenance_.status), status);
+    }
+    
+    public static Specification<Maintenance> hasType(MaintenanceType type) {
+        return (root, query, cb) -> cb.equal(root.get(Maintenance_.type), type);
+    }
+    
+    public static Specification<Maintenance> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(Maintenance_.creationDate), from);
+    }
+    
+    public static Specification<Maintenance> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get(Maintenance_.creationDate), to);
+    }
+    
+    /**
+     * Keyset predicate for a (creationDate DESC, id DESC) ordering:
+     * only rows strictly after the given position are matched.
+     * The redundant upper bound on creationDate becomes the index range condition,
+     * so the scan starts at the cursor instead of filtering from the first row.
+     */
+    public static Specification<Maintenance> after(LocalDateTime creationDate, Long id) {
+        return (root, query, cb) -> cb.and(
+                cb.lessThanOrEqualTo(root.get(Maintenance_.creationDate), creationDate),
+                cb.or(
+                        cb.lessThan(root.get(Maintenance_.creationDate), creationDate),
+                        cb.lessThan(root.get(Maintenance_.id), id)
+                )
+        );
+    }
+}
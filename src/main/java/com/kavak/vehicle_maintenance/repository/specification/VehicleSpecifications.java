@@ -0,0 +1,47 @@
+package com.kavak.vehicle_maintenance.repository.specification;
+
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.Vehicle_;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Type-safe criteria building blocks for Vehicle queries.
+ * Built on the generated JPA static metamodel.
+ */
+public final class VehicleSpecifications {
+
+    private VehicleSpecifications() {
+    }
+
+    public static Specification<Vehicle> hasBrand(String brand) {
+        return (root, query, cb) -> cb.equal(root.get(Vehicle_.brand), brand);
+    }
+
+    public static Specification<Vehicle> hasModel(String model) {
+        return (root, query, cb) -> cb.equal(root.get(Vehicle_.model), model);
+    }
+
+    public static Specification<Vehicle> yearFrom(Integer year) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(Vehicle_.year), year);
+    }
+
+    public static Specification<Vehicle> yearTo(Integer year) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(Vehicle_.year), year);
+    }
+
+    public static Specification<Vehicle> mileageFrom(Integer mileage) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(Vehicle_.currentMileage), mileage);
+    }
+
+    public static Specification<Vehicle> mileageTo(Integer mileage) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(Vehicle_.currentMileage), mileage);
+    }
+
+    /**
+     * Keyset predicate for an id ascending ordering:
+     * only vehicles strictly after the given one are matched.
+     */
+    public static Specification<Vehicle> after(Long id) {
+        return (root, query, cb) -> cb.greaterThan(root.get(Vehicle_.id), id);
+    }
+}
@@ -0,0 +1,45 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Returns the primary's WAL position as {@value ReadConsistency#TOKEN_HEADER} on responses
+ * of requests that committed on the primary. Clients echo it on their next reads to see
+ * their own writes even when those reads are served by the replica.
+ */
+@Slf4j
+@RestControllerAdvice
+@RequiredArgsConstructor
+public class ConsistencyTokenAdvice implements ResponseBodyAdvice<Object> {
+    
+    private final ReplicaLagMonitor lagMonitor;
+    
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return lagMonitor.isReplicaConfigured();
+    }
+    
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (ReadConsistency.wroteToPrimary()) {
+            try {
+                response.getHeaders().set(ReadConsistency.TOKEN_HEADER, lagMonitor.currentPrimaryLsn());
+            } catch (DataAccessException ex) {
+                // The write already committed; without a token the next read may just be stale
+                log.warn("Could not read the primary WAL position for the consistency token", ex);
+            }
+        }
+        return body;
+    }
+}
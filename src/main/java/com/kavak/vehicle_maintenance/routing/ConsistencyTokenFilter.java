@@ -0,0 +1,41 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the {@value ReadConsistency#TOKEN_HEADER} request header to the request thread, so
+ * read-only transactions of the request only use the replica once it has caught up with it.
+ * A token that cannot be parsed sends the request's reads to the primary.
+ */
+@Component
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String token = request.getHeader(ReadConsistency.TOKEN_HEADER);
+        if (token != null && !token.isBlank()) {
+            ReadConsistency.require(parse(token.trim()));
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadConsistency.clear();
+        }
+    }
+    
+    private static long parse(String token) {
+        try {
+            return ReadConsistency.parseLsn(token);
+        } catch (IllegalArgumentException ex) {
+            return ReadConsistency.UNSATISFIABLE;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.kavak.vehicle_maintenance.routing;
+
+/**
+ * Per-request read-your-writes state, bound to the request thread by {@link ConsistencyTokenFilter}.
+ * 
+ * A consistency token is a PostgreSQL WAL position (LSN, e.g. {@code 3A/1CCFC0}) on the primary.
+ * A request that wrote gets the primary's position back as a token; a read that presents it is
+ * only served by the replica once the replica has replayed up to that position.
+ */
+public final class ReadConsistency {
+    
+    public static final String TOKEN_HEADER = "X-Consistency-Token";
+    
+    /** Required position of a token that could not be parsed: only the primary satisfies it */
+    static final long UNSATISFIABLE = Long.MAX_VALUE;
+    
+    private static final ThreadLocal<Long> REQUIRED_LSN = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> WROTE_TO_PRIMARY = new ThreadLocal<>();
+    
+    private ReadConsistency() {
+    }
+    
+    /**
+     * @return WAL position the current request must observe, or null if it has no token
+     */
+    public static Long requiredLsn() {
+        return REQUIRED_LSN.get();
+    }
+    
+    static void require(Long lsn) {
+        REQUIRED_LSN.set(lsn);
+    }
+    
+    static void markWroteToPrimary() {
+        WROTE_TO_PRIMARY.set(Boolean.TRUE);
+    }
+    
+    static boolean wroteToPrimary() {
+        return Boolean.TRUE.equals(WROTE_TO_PRIMARY.get());
+    }
+    
+    static void clear() {
+        REQUIRED_LSN.remove();
+        WROTE_TO_PRIMARY.remove();
+    }
+    
+    /**
+     * @param lsn textual LSN as printed by PostgreSQL ({@code hi/lo} in hex)
+     * @throws IllegalArgumentException if the text is not an LSN
+     */
+    static long parseLsn(String lsn) {
+        int slash = lsn.indexOf('/');
+        if (slash <= 0 || slash == lsn.length() - 1) {
+            throw new IllegalArgumentException("Not an LSN: " + lsn);
+        }
+        long hi = Long.parseLong(lsn.substring(0, slash), 16);
+        long lo = Long.parseLong(lsn.substring(slash + 1), 16);
+        if (hi > 0xFFFFFFFFL || lo > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Not an LSN: " + lsn);
+        }
+        return hi << 32 | lo;
+    }
+}
@@ -0,0 +1,29 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceProperties {
+    
+    /** Route read-only transactions to the replica; when off everything uses the primary. */
+    private boolean enabled = false;
+    
+    private String url;
+    private String username;
+    private String password;
+    
+    private int maximumPoolSize = 10;
+    
+    /** How long a read waits for a replica connection before falling back to the primary. */
+    private Duration connectionTimeout = Duration.ofSeconds(1);
+    
+    /** Reads go to the primary while the replica is further behind than this. */
+    private Duration maxLag = Duration.ofSeconds(5);
+    
+    /** How often replication progress is sampled. */
+    private Duration probeInterval = Duration.ofSeconds(1);
+}
@@ -0,0 +1,121 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Tracks whether the replica may serve reads: it must be reachable, no more than
+ * {@code datasource.replica.max-lag} behind the primary, and, for a read carrying a
+ * consistency token, already past the token's WAL position.
+ * 
+ * Positions are sampled every {@code probe-interval}, so decisions never cost a query.
+ * A replica that is not a PostgreSQL streaming standby (a second independent database,
+ * an embedded one in tests) cannot report its position: it serves token-less reads
+ * while reachable, and reads with a token always go to the primary.
+ */
+@Slf4j
+@Component
+public class ReplicaLagMonitor {
+    
+    static final long UNKNOWN_LSN = -1;
+    
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+    private static final String REPLAY_LSN_SQL =
+            "SELECT CASE WHEN pg_is_in_recovery() THEN pg_last_wal_replay_lsn()::text END";
+    
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagNanos;
+    private final ReplicationLagTracker lagTracker;
+    
+    private volatile boolean replicaAvailable;
+    private volatile long replayedLsn = UNKNOWN_LSN;
+    
+    public ReplicaLagMonitor(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                             @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                             ReplicaDataSourceProperties properties) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        DataSource replica = replicaDataSource.getIfAvailable();
+        this.replicaJdbcTemplate = replica == null ? null : new JdbcTemplate(replica);
+        this.maxLagNanos = properties.getMaxLag().toNanos();
+        this.lagTracker = new ReplicationLagTracker(maxLagNanos + 2 * properties.getProbeInterval().toNanos());
+    }
+    
+    public boolean isReplicaConfigured() {
+        return replicaJdbcTemplate != null;
+    }
+    
+    /**
+     * @param requiredLsn WAL position the read must observe, or null
+     */
+    public boolean canServe(Long requiredLsn) {
+        if (!replicaAvailable) {
+            return false;
+        }
+        return requiredLsn == null || (replayedLsn != UNKNOWN_LSN && replayedLsn >= requiredLsn);
+    }
+    
+    /**
+     * Stops routing reads to the replica until the next successful probe.
+     */
+    public void markUnavailable() {
+        replicaAvailable = false;
+    }
+    
+    /**
+     * @return the primary's current WAL position, to hand out as a consistency token
+     */
+    public String currentPrimaryLsn() {
+        return primaryJdbcTemplate.queryForObject(PRIMARY_LSN_SQL, String.class);
+    }
+    
+    @Scheduled(fixedDelayString = "${datasource.replica.probe-interval:1s}")
+    public void probe() {
+        if (replicaJdbcTemplate == null) {
+            return;
+        }
+        try {
+            lagTracker.recordPrimary(ReadConsistency.parseLsn(currentPrimaryLsn()), System.nanoTime());
+            String replayed = replayedPosition();
+            if (replayed == null) {
+                replayedLsn = UNKNOWN_LSN;
+                replicaAvailable = true;
+                return;
+            }
+            long lsn = ReadConsistency.parseLsn(replayed);
+            long lagNanos = lagTracker.lagNanos(lsn, System.nanoTime());
+            replayedLsn = lsn;
+            boolean available = lagNanos <= maxLagNanos;
+            if (available != replicaAvailable) {
+                log.info("Replica {} for reads (lag {} ms)", available ? "enabled" : "disabled", lagNanos / 1_000_000);
+            }
+            replicaAvailable = available;
+        } catch (DataAccessException ex) {
+            if (replicaAvailable) {
+                log.warn("Replica unreachable, reading from the primary", ex);
+            }
+            replicaAvailable = false;
+        }
+    }
+    
+    /**
+     * @return the replica's replayed WAL position, or null if it is not a streaming standby
+     */
+    private String replayedPosition() {
+        try {
+            return replicaJdbcTemplate.queryForObject(REPLAY_LSN_SQL, String.class);
+        } catch (BadSqlGrammarException ex) {
+            // Not PostgreSQL; reachable, but its position is unknown
+            replicaJdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends connections of read-only transactions ({@code @Transactional(readOnly = true)}) to
+ * the replica and everything else to the primary.
+ * 
+ * A read-only transaction still goes to the primary when the replica is lagging, unreachable,
+ * or has not replayed the consistency token of the request yet. Must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so the connection
+ * is only fetched once the transaction's read-only flag is known.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    
+    enum Target { PRIMARY, REPLICA }
+    
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaLagMonitor lagMonitor;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    
+    /**
+     * @param replica null to send every connection to the primary
+     */
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replica = replica;
+        this.lagMonitor = lagMonitor;
+        this.primaryCounter = meterRegistry.counter("datasource.routed.connections", "target", "primary");
+        this.replicaCounter = meterRegistry.counter("datasource.routed.connections", "target", "replica");
+        
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(Target.PRIMARY, primary);
+        if (replica != null) {
+            targets.put(Target.REPLICA, replica);
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+    
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replica != null
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagMonitor.canServe(ReadConsistency.requiredLsn())) {
+            return Target.REPLICA;
+        }
+        return Target.PRIMARY;
+    }
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+    
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+    
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (determineCurrentLookupKey() == Target.REPLICA) {
+            try {
+                Connection connection = opener.open(replica);
+                replicaCounter.increment();
+                return connection;
+            } catch (SQLException ex) {
+                log.warn("Replica connection failed, reading from the primary: {}", ex.getMessage());
+                lagMonitor.markUnavailable();
+            }
+        }
+        Connection connection = opener.open(primary);
+        primaryCounter.increment();
+        recordPrimaryUse();
+        return connection;
+    }
+    
+    /**
+     * A read-write transaction on the primary may write; once it commits, the request gets a
+     * consistency token so its next reads see the write. Connections taken outside a
+     * transaction are plain reads, e.g. cache loads, and leave the request unmarked.
+     */
+    private void recordPrimaryUse() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReadConsistency.markWroteToPrimary();
+            }
+        });
+    }
+    
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+}
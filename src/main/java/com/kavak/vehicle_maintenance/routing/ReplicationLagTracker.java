@@ -0,0 +1,44 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Estimates replication lag in time from WAL positions.
+ * 
+ * The primary's position is sampled periodically; the lag is the age of the oldest
+ * sample the replica has not replayed yet. Unlike comparing against the time of the
+ * last replayed transaction, an idle primary does not look like a lagging replica.
+ */
+class ReplicationLagTracker {
+    
+    private final long windowNanos;
+    private final Deque<long[]> samples = new ArrayDeque<>();
+    
+    /**
+     * @param windowNanos how long samples are kept; a replica behind every kept sample
+     *                    is reported as lagging by at least the age of the oldest one
+     */
+    ReplicationLagTracker(long windowNanos) {
+        this.windowNanos = windowNanos;
+    }
+    
+    synchronized void recordPrimary(long lsn, long nowNanos) {
+        samples.addLast(new long[]{nowNanos, lsn});
+        while (samples.size() > 1 && nowNanos - samples.peekFirst()[0] > windowNanos) {
+            samples.removeFirst();
+        }
+    }
+    
+    /**
+     * @return how long ago the primary was at a position the replica has not replayed, 0 if caught up
+     */
+    synchronized long lagNanos(long replayedLsn, long nowNanos) {
+        for (long[] sample : samples) {
+            if (sample[1] > replayedLsn) {
+                return nowNanos - sample[0];
+            }
+        }
+        return 0;
+    }
+}
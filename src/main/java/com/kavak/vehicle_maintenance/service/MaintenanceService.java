@@ -1,15 +1,32 @@
 package com.kavak.vehicle_maintenance.service;
 
 import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.enums.ExportFormat;
 import com.kavak.vehicle_maintenance.dto.request.ChangeStatusRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceBatchRequestDTO;
 import com.kavak.vehicle_maintenance.dto.request.MaintenanceRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceStatusBatchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceArchiveJobResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSearchResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSummaryRebuildResponseDTO;
 import com.kavak.vehicle_maintenance.mapper.MaintenanceMapper;
+import com.kavak.vehicle_maintenance.usecase.ArchiveClosedMaintenancesUseCase;
 import com.kavak.vehicle_maintenance.usecase.ChangeMaintenanceStatusUseCase;
+import com.kavak.vehicle_maintenance.usecase.ChangeMaintenancesStatusBatchUseCase;
+import com.kavak.vehicle_maintenance.usecase.ExportMaintenancesUseCase;
+import com.kavak.vehicle_maintenance.usecase.RebuildMaintenanceSummaryUseCase;
 import com.kavak.vehicle_maintenance.usecase.RegisterMaintenanceUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterMaintenancesBatchUseCase;
+import com.kavak.vehicle_maintenance.usecase.SearchMaintenancesUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 /**
  * Service layer for Maintenance operations.
  * Orchestrates between controllers and use cases.
@@ -19,7 +36,13 @@ import org.springframework.stereotype.Service;
 public class MaintenanceService {
     
     private final RegisterMaintenanceUseCase registerMaintenanceUseCase;
+    private final RegisterMaintenancesBatchUseCase registerMaintenancesBatchUseCase;
     private final ChangeMaintenanceStatusUseCase changeMaintenanceStatusUseCase;
+    private final ChangeMaintenancesStatusBatchUseCase changeMaintenancesStatusBatchUseCase;
+    private final ExportMaintenancesUseCase exportMaintenancesUseCase;
+    private final RebuildMaintenanceSummaryUseCase rebuildMaintenanceSummaryUseCase;
+    private final ArchiveClosedMaintenancesUseCase archiveClosedMaintenancesUseCase;
+    private final SearchMaintenancesUseCase searchMaintenancesUseCase;
     private final MaintenanceMapper maintenanceMapper;
     
     public MaintenanceResponseDTO registerMaintenance(String licensePlate, MaintenanceRequestDTO requestDTO) {
@@ -28,6 +51,10 @@ public class MaintenanceService {
         return maintenanceMapper.toResponseDTO(savedMaintenance);
     }
     
+    public BatchResponseDTO registerMaintenances(MaintenanceBatchRequestDTO requestDTO) {
+        return BatchResponseDTO.of(registerMaintenancesBatchUseCase.execute(requestDTO.getItems()));
+    }
+    
     public MaintenanceResponseDTO changeStatus(Long maintenanceId, ChangeStatusRequestDTO requestDTO) {
         Maintenance updatedMaintenance = changeMaintenanceStatusUseCase.execute(
                 maintenanceId, 
@@ -36,4 +63,27 @@ public class MaintenanceService {
         );
         return maintenanceMapper.toResponseDTO(updatedMaintenance);
     }
+    
+    public BatchResponseDTO changeStatuses(MaintenanceStatusBatchRequestDTO requestDTO) {
+        return BatchResponseDTO.of(changeMaintenancesStatusBatchUseCase.execute(
+                requestDTO.getNewStatus(),
+                requestDTO.getItems()
+        ));
+    }
+    
+    public long exportMaintenances(ExportFormat format, OutputStream outputStream) throws IOException {
+        return exportMaintenancesUseCase.execute(format, outputStream);
+    }
+    
+    public MaintenanceSummaryRebuildResponseDTO rebuildSummaries() {
+        return rebuildMaintenanceSummaryUseCase.execute();
+    }
+    
+    public MaintenanceArchiveJobResponseDTO archiveClosedMaintenances() {
+        return archiveClosedMaintenancesUseCase.execute();
+    }
+    
+    public MaintenanceSearchResponseDTO searchMaintenances(MaintenanceSearchRequestDTO requestDTO) {
+        return searchMaintenancesUseCase.execute(requestDTO);
+    }
 }
@@ -0,0 +1,35 @@
+package com.kavak.vehicle_maintenance.service;
+
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceCostReportRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.CostRollupJobResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceCostReportResponseDTO;
+import com.kavak.vehicle_maintenance.usecase.GetMaintenanceCostReportUseCase;
+import com.kavak.vehicle_maintenance.usecase.RebuildMaintenanceCostRollupUseCase;
+import com.kavak.vehicle_maintenance.usecase.RefreshMaintenanceCostRollupUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service layer for fleet-wide reports.
+ * Orchestrates between controllers and use cases.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReportService {
+    
+    private final GetMaintenanceCostReportUseCase getMaintenanceCostReportUseCase;
+    private final RefreshMaintenanceCostRollupUseCase refreshMaintenanceCostRollupUseCase;
+    private final RebuildMaintenanceCostRollupUseCase rebuildMaintenanceCostRollupUseCase;
+    
+    public MaintenanceCostReportResponseDTO getMaintenanceCosts(MaintenanceCostReportRequestDTO requestDTO) {
+        return getMaintenanceCostReportUseCase.execute(requestDTO);
+    }
+    
+    public CostRollupJobResponseDTO refreshCostRollup() {
+        return refreshMaintenanceCostRollupUseCase.execute();
+    }
+    
+    public CostRollupJobResponseDTO rebuildCostRollup() {
+        return rebuildMaintenanceCostRollupUseCase.execute();
+    }
+}
@@ -1,24 +1,42 @@
 package com.kavak.vehicle_maintenance.service;
 
-import com.kavak.vehicle_maintenance.domain.Maintenance;
 import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.Versioned;
+import com.kavak.vehicle_maintenance.dto.request.AvailableVehiclesRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceHistoryRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.OdometerReadingBatchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.PlateAutocompleteRequestDTO;
 import com.kavak.vehicle_maintenance.dto.request.UpdateMileageRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.VehicleBatchRequestDTO;
 import com.kavak.vehicle_maintenance.dto.request.VehicleRequestDTO;
+import com.kavak.vehicle_maintenance.dto.request.VehicleSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenancePageResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.OdometerIngestionResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.PlateAutocompleteResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.VehicleAvailabilityResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.VehicleMaintenanceCostResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehiclePageResponseDTO;
 import com.kavak.vehicle_maintenance.dto.response.VehicleResponseDTO;
-import com.kavak.vehicle_maintenance.mapper.MaintenanceMapper;
 import com.kavak.vehicle_maintenance.mapper.VehicleMapper;
+import com.kavak.vehicle_maintenance.usecase.AutocompleteLicensePlatesUseCase;
 import com.kavak.vehicle_maintenance.usecase.CalculateTotalMaintenanceCostUseCase;
 import com.kavak.vehicle_maintenance.usecase.CheckVehicleAvailabilityUseCase;
+import com.kavak.vehicle_maintenance.usecase.FindAvailableVehiclesUseCase;
 import com.kavak.vehicle_maintenance.usecase.GetActiveMaintenancesUseCase;
+import com.kavak.vehicle_maintenance.usecase.GetMaintenancesVersionUseCase;
 import com.kavak.vehicle_maintenance.usecase.GetVehicleMaintenancesUseCase;
 import com.kavak.vehicle_maintenance.usecase.GetVehicleUseCase;
+import com.kavak.vehicle_maintenance.usecase.GetVehicleVersionUseCase;
+import com.kavak.vehicle_maintenance.usecase.IngestOdometerReadingsUseCase;
 import com.kavak.vehicle_maintenance.usecase.RegisterVehicleUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterVehiclesBatchUseCase;
+import com.kavak.vehicle_maintenance.usecase.SearchVehiclesUseCase;
 import com.kavak.vehicle_maintenance.usecase.UpdateVehicleMileageUseCase;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -31,14 +49,20 @@ import java.util.List;
 public class VehicleService {
     
     private final RegisterVehicleUseCase registerVehicleUseCase;
+    private final RegisterVehiclesBatchUseCase registerVehiclesBatchUseCase;
     private final UpdateVehicleMileageUseCase updateVehicleMileageUseCase;
+    private final IngestOdometerReadingsUseCase ingestOdometerReadingsUseCase;
     private final GetVehicleUseCase getVehicleUseCase;
+    private final GetVehicleVersionUseCase getVehicleVersionUseCase;
+    private final GetMaintenancesVersionUseCase getMaintenancesVersionUseCase;
     private final GetVehicleMaintenancesUseCase getVehicleMaintenancesUseCase;
     private final GetActiveMaintenancesUseCase getActiveMaintenancesUseCase;
     private final CalculateTotalMaintenanceCostUseCase calculateTotalMaintenanceCostUseCase;
     private final CheckVehicleAvailabilityUseCase checkVehicleAvailabilityUseCase;
+    private final FindAvailableVehiclesUseCase findAvailableVehiclesUseCase;
+    private final SearchVehiclesUseCase searchVehiclesUseCase;
+    private final AutocompleteLicensePlatesUseCase autocompleteLicensePlatesUseCase;
     private final VehicleMapper vehicleMapper;
-    private final MaintenanceMapper maintenanceMapper;
     
     public VehicleResponseDTO registerVehicle(VehicleRequestDTO requestDTO) {
         Vehicle vehicle = vehicleMapper.toEntity(requestDTO);
@@ -46,35 +70,72 @@ public class VehicleService {
         return vehicleMapper.toResponseDTO(savedVehicle);
     }
     
+    public BatchResponseDTO registerVehicles(VehicleBatchRequestDTO requestDTO) {
+        List<Vehicle> vehicles = requestDTO.getVehicles().stream()
+                .map(vehicleMapper::toEntity)
+                .toList();
+        return BatchResponseDTO.of(registerVehiclesBatchUseCase.execute(vehicles));
+    }
+    
     public VehicleResponseDTO updateMileage(String licensePlate, UpdateMileageRequestDTO requestDTO) {
         Vehicle updatedVehicle = updateVehicleMileageUseCase.execute(licensePlate, requestDTO.getCurrentMileage());
         return vehicleMapper.toResponseDTO(updatedVehicle);
     }
     
-    public VehicleResponseDTO getVehicle(String licensePlate) {
+    public OdometerIngestionResponseDTO ingestOdometerReadings(OdometerReadingBatchRequestDTO requestDTO) {
+        return ingestOdometerReadingsUseCase.execute(requestDTO.getReadings());
+    }
+    
+    public Versioned<VehicleResponseDTO> getVehicle(String licensePlate) {
         Vehicle vehicle = getVehicleUseCase.execute(licensePlate);
-        return vehicleMapper.toResponseDTO(vehicle);
+        return Versioned.of(vehicleMapper.toResponseDTO(vehicle), vehicle.getId(), vehicle.getVersion());
     }
     
-    public List<MaintenanceResponseDTO> getVehicleMaintenances(String licensePlate) {
-        List<Maintenance> maintenances = getVehicleMaintenancesUseCase.execute(licensePlate);
-        return maintenances.stream()
-                .map(maintenanceMapper::toResponseDTO)
-                .toList();
+    public String getVehicleTag(String licensePlate) {
+        return getVehicleVersionUseCase.execute(licensePlate);
     }
     
-    public List<MaintenanceResponseDTO> getActiveMaintenances(String licensePlate) {
-        List<Maintenance> activeMaintenances = getActiveMaintenancesUseCase.execute(licensePlate);
-        return activeMaintenances.stream()
-                .map(maintenanceMapper::toResponseDTO)
-                .toList();
+    public String getMaintenancesTag(String licensePlate) {
+        return getMaintenancesVersionUseCase.execute(licensePlate);
+    }
+    
+    /**
+     * The version is read before the page and in the same transaction, so the page is never
+     * older than its tag, even when reads are routed to a replica.
+     */
+    @Transactional(readOnly = true)
+    public Versioned<MaintenancePageResponseDTO> getVehicleMaintenances(String licensePlate,
+                                                                        MaintenanceHistoryRequestDTO requestDTO) {
+        String tag = getMaintenancesVersionUseCase.execute(licensePlate);
+        return new Versioned<>(getVehicleMaintenancesUseCase.execute(licensePlate, requestDTO), tag);
     }
     
-    public VehicleMaintenanceCostResponseDTO calculateTotalMaintenanceCost(String licensePlate) {
+    /**
+     * Same ordering as {@link #getVehicleMaintenances}: version first, then the list.
+     */
+    @Transactional(readOnly = true)
+    public Versioned<List<MaintenanceResponseDTO>> getActiveMaintenances(String licensePlate) {
+        String tag = getMaintenancesVersionUseCase.execute(licensePlate);
+        return new Versioned<>(getActiveMaintenancesUseCase.execute(licensePlate), tag);
+    }
+    
+    public Versioned<VehicleMaintenanceCostResponseDTO> calculateTotalMaintenanceCost(String licensePlate) {
         return calculateTotalMaintenanceCostUseCase.execute(licensePlate);
     }
     
-    public VehicleAvailabilityResponseDTO checkAvailability(String licensePlate) {
+    public Versioned<VehicleAvailabilityResponseDTO> checkAvailability(String licensePlate) {
         return checkVehicleAvailabilityUseCase.execute(licensePlate);
     }
+    
+    public VehiclePageResponseDTO findAvailableVehicles(AvailableVehiclesRequestDTO requestDTO) {
+        return findAvailableVehiclesUseCase.execute(requestDTO);
+    }
+    
+    public VehiclePageResponseDTO searchVehicles(VehicleSearchRequestDTO requestDTO) {
+        return searchVehiclesUseCase.execute(requestDTO);
+    }
+    
+    public PlateAutocompleteResponseDTO autocompleteLicensePlates(PlateAutocompleteRequestDTO requestDTO) {
+        return autocompleteLicensePlatesUseCase.execute(requestDTO);
+    }
 }
@@ -0,0 +1,143 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.archive.ArchiveBlock;
+import com.kavak.vehicle_maintenance.archive.MaintenanceArchiveProperties;
+import com.kavak.vehicle_maintenance.archive.MaintenanceSegmentStore;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceArchiveJobResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceArchiveRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Move COMPLETED and CANCELLED maintenances older than
+ * {@code maintenance.archive.closed-for-months} out of the hot table into
+ * compressed segment files.
+ * 
+ * Works in batches of {@code batch-size} maintenances in id order. For each batch
+ * the segment is written and fsynced first; the index entries and the deletion
+ * from maintenances then commit together, so a maintenance is always either in
+ * the table or reachable through the index. A segment whose transaction fails
+ * is removed again, unless the index references it after all: a commit whose
+ * outcome was lost may still have succeeded. A segment left behind unreferenced
+ * is harmless. Completions the cost rollup has not picked up yet are left for a
+ * later run.
+ */
+@Slf4j
+@Component
+public class ArchiveClosedMaintenancesUseCase {
+    
+    private final MaintenanceArchiveRepository archiveRepository;
+    private final MaintenanceSegmentStore segmentStore;
+    private final MaintenanceArchiveProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    
+    @Autowired
+    public ArchiveClosedMaintenancesUseCase(MaintenanceArchiveRepository archiveRepository,
+                                            MaintenanceSegmentStore segmentStore,
+                                            MaintenanceArchiveProperties properties,
+                                            TransactionTemplate transactionTemplate) {
+        this(archiveRepository, segmentStore, properties, transactionTemplate, Clock.systemDefaultZone());
+    }
+    
+    ArchiveClosedMaintenancesUseCase(MaintenanceArchiveRepository archiveRepository,
+                                     MaintenanceSegmentStore segmentStore,
+                                     MaintenanceArchiveProperties properties,
+                                     TransactionTemplate transactionTemplate,
+                                     Clock clock) {
+        this.archiveRepository = archiveRepository;
+        this.segmentStore = segmentStore;
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+    }
+    
+    public MaintenanceArchiveJobResponseDTO execute() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now(clock).minusMonths(properties.getClosedForMonths());
+        
+        long maintenances = 0;
+        int segments = 0;
+        long afterId = 0;
+        while (true) {
+            long[] batch = archiveBatch(cutoff, afterId);
+            if (batch == null) {
+                break;
+            }
+            maintenances += batch[0];
+            segments++;
+            afterId = batch[1];
+        }
+        
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Archived {} maintenances created before {} into {} segments in {} ms",
+                maintenances, cutoff, segments, elapsedMillis);
+        return MaintenanceArchiveJobResponseDTO.builder()
+                .maintenances(maintenances)
+                .segments(segments)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+    
+    /**
+     * @return {maintenances archived, last id of the batch}, or null when there is nothing left
+     *         to archive or another instance is archiving
+     */
+    private long[] archiveBatch(LocalDateTime cutoff, long afterId) {
+        long segmentId = archiveRepository.nextSegmentId();
+        try {
+            return transactionTemplate.execute(status -> {
+                if (!archiveRepository.tryLock()) {
+                    log.debug("Maintenance archiver already running elsewhere, skipping");
+                    return null;
+                }
+                long rolledUpBefore = archiveRepository.lockRollupWatermark();
+                List<MaintenanceResponseDTO> rows =
+                        archiveRepository.findArchivable(cutoff, afterId, rolledUpBefore, properties.getBatchSize());
+                if (rows.isEmpty()) {
+                    return null;
+                }
+                
+                Map<Long, List<MaintenanceResponseDTO>> byVehicle = rows.stream()
+                        .collect(Collectors.groupingBy(MaintenanceResponseDTO::getVehicleId, TreeMap::new,
+                                Collectors.toList()));
+                List<ArchiveBlock> blocks = segmentStore.write(segmentId, byVehicle);
+                List<Long> ids = rows.stream().map(MaintenanceResponseDTO::getId).toList();
+                archiveRepository.moveToArchive(ids, cutoff, blocks);
+                return new long[]{rows.size(), ids.get(ids.size() - 1)};
+            });
+        } catch (RuntimeException ex) {
+            deleteSegmentIfUnreferenced(segmentId);
+            throw ex;
+        }
+    }
+    
+    /**
+     * Checks in a new transaction before deleting: when the connection drops during COMMIT
+     * the batch may have committed, and the segment is then the only copy of its rows.
+     * If the check fails as well, the segment is kept.
+     */
+    private void deleteSegmentIfUnreferenced(long segmentId) {
+        try {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(
+                    status -> archiveRepository.isSegmentReferenced(segmentId)))) {
+                log.warn("Archive segment {} is referenced although its batch failed, keeping it", segmentId);
+                return;
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not check whether archive segment {} is referenced, keeping it", segmentId, ex);
+            return;
+        }
+        segmentStore.delete(segmentId);
+    }
+}
@@ -0,0 +1,30 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.autocomplete.LicensePlateIndex;
+import com.kavak.vehicle_maintenance.dto.request.PlateAutocompleteRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.PlateAutocompleteResponseDTO;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Use case for completing a partly typed license plate.
+ *
+ * Answered by {@link LicensePlateIndex} in memory, without reaching the database,
+ * so it can run on every keystroke.
+ */
+@Component
+@RequiredArgsConstructor
+public class AutocompleteLicensePlatesUseCase {
+
+    private final LicensePlateIndex licensePlateIndex;
+
+    /**
+     * @param request prefix and maximum number of plates
+     * @return the first plates in alphabetical order that start with the prefix
+     */
+    public PlateAutocompleteResponseDTO execute(PlateAutocompleteRequestDTO request) {
+        return PlateAutocompleteResponseDTO.builder()
+                .licensePlates(licensePlateIndex.complete(request.getPrefix(), request.getLimit()))
+                .build();
+    }
+}
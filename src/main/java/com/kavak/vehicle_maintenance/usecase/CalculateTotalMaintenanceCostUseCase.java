@@ -1,15 +1,15 @@
 package com.kavak.vehicle_maintenance.usecase;
 
-import com.kavak.vehicle_maintenance.domain.Vehicle;
-import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.cache.VehicleMaintenanceTotalsCache;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.domain.VehicleMaintenanceTotals;
+import com.kavak.vehicle_maintenance.domain.Versioned;
 import com.kavak.vehicle_maintenance.dto.response.VehicleMaintenanceCostResponseDTO;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
-import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-
 /**
  * Use case for calculating total maintenance cost of a vehicle.
  * Only considers COMPLETED maintenances with finalCost.
@@ -18,29 +18,29 @@ import java.math.BigDecimal;
 @RequiredArgsConstructor
 public class CalculateTotalMaintenanceCostUseCase {
     
-    private final VehicleRepository vehicleRepository;
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final VehicleMaintenanceTotalsCache totalsCache;
     
     /**
      * Calculates total maintenance cost for a vehicle.
      * Business rule: Only COMPLETED maintenances with finalCost are included.
+     * Read from the vehicle summary row, so the maintenance history is never scanned.
+     * Repeated requests are served from memory until a maintenance of the vehicle changes.
+     * No read-only transaction on purpose: cache misses must read the primary, see
+     * {@link VehicleMaintenanceTotalsCache}.
      * 
      * @param licensePlate the vehicle license plate
-     * @return response with licensePlate and total cost
+     * @return response with licensePlate and total cost, versioned by the vehicle's maintenances
      * @throws VehicleNotFoundException if vehicle not found
      */
-    public VehicleMaintenanceCostResponseDTO execute(String licensePlate) {
-        Vehicle vehicle = vehicleRepository.findByLicensePlate(licensePlate)
+    public Versioned<VehicleMaintenanceCostResponseDTO> execute(String licensePlate) {
+        Long vehicleId = vehicleIdentityCache.find(licensePlate).map(VehicleIdentity::getId)
                 .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
         
-        BigDecimal totalCost = vehicle.getMaintenances().stream()
-                .filter(maintenance -> maintenance.getStatus() == MaintenanceStatus.COMPLETED)
-                .filter(maintenance -> maintenance.getFinalCost() != null)
-                .map(maintenance -> maintenance.getFinalCost())
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        return VehicleMaintenanceCostResponseDTO.builder()
+        VehicleMaintenanceTotals totals = totalsCache.get(vehicleId);
+        return Versioned.of(VehicleMaintenanceCostResponseDTO.builder()
                 .licensePlate(licensePlate)
-                .totalCost(totalCost)
-                .build();
+                .totalCost(totals.getCompletedCost())
+                .build(), vehicleId, totals.getMaintenancesVersion());
     }
 }
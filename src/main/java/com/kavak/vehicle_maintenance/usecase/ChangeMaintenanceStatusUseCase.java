@@ -2,36 +2,43 @@ package com.kavak.vehicle_maintenance.usecase;
 
 import com.kavak.vehicle_maintenance.domain.Maintenance;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.exception.DomainException;
 import com.kavak.vehicle_maintenance.exception.InvalidStateTransitionException;
 import com.kavak.vehicle_maintenance.exception.MaintenanceNotFoundException;
 import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.Map;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Use case for changing the status of a maintenance.
- * Validates state transitions according to business rules.
+ * Validates state transitions according to {@link MaintenanceStatusTransitions}.
  */
 @Component
 @RequiredArgsConstructor
 public class ChangeMaintenanceStatusUseCase {
     
     private final MaintenanceRepository maintenanceRepository;
-    
-    private static final Map<MaintenanceStatus, Set<MaintenanceStatus>> VALID_TRANSITIONS = Map.of(
-        MaintenanceStatus.PENDING, Set.of(MaintenanceStatus.IN_PROGRESS, MaintenanceStatus.CANCELLED),
-        MaintenanceStatus.IN_PROGRESS, Set.of(MaintenanceStatus.COMPLETED, MaintenanceStatus.CANCELLED),
-        MaintenanceStatus.COMPLETED, Set.of(),
-        MaintenanceStatus.CANCELLED, Set.of()
-    );
+    private final VehicleMaintenanceSummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Changes the status of a maintenance.
      * 
+     * The transition is applied as a compare-and-set UPDATE that only matches while the
+     * maintenance is still in an allowed predecessor status, so concurrent clients cannot
+     * both pass the check. The row is only re-read when the update is rejected.
+     * The vehicle summary is adjusted in the same transaction.
+     * 
      * @param maintenanceId the maintenance ID
      * @param newStatus the new status
      * @param finalCost the final cost (required only when completing)
@@ -39,25 +46,32 @@ public class ChangeMaintenanceStatusUseCase {
      * @throws MaintenanceNotFoundException if maintenance not found
      * @throws InvalidStateTransitionException if transition is not valid
      */
+    @Transactional
     public Maintenance execute(Long maintenanceId, MaintenanceStatus newStatus, BigDecimal finalCost) {
-        Maintenance maintenance = maintenanceRepository.findById(maintenanceId)
-                .orElseThrow(() -> new MaintenanceNotFoundException(maintenanceId));
-        
-        MaintenanceStatus currentStatus = maintenance.getStatus();
-        Set<MaintenanceStatus> validNextStates = VALID_TRANSITIONS.get(currentStatus);
-        
-        if (!validNextStates.contains(newStatus)) {
-            throw new InvalidStateTransitionException("Invalid state transition from " + currentStatus + " to " + newStatus);
+        boolean completing = newStatus == MaintenanceStatus.COMPLETED;
+        if (completing && finalCost == null) {
+            throw new InvalidStateTransitionException(MaintenanceStatusTransitions.FINAL_COST_REQUIRED_MESSAGE);
         }
         
-        if (newStatus == MaintenanceStatus.COMPLETED) {
-            if (finalCost == null) {
-                throw new InvalidStateTransitionException("Final cost is required when completing a maintenance");
-            }
-            maintenance.setFinalCost(finalCost);
-        }
+        Set<String> allowedCurrent = MaintenanceStatusTransitions.predecessorsOf(newStatus).stream()
+                .map(Enum::name)
+                .collect(Collectors.toSet());
+        Optional<Maintenance> updated = allowedCurrent.isEmpty()
+                ? Optional.empty()
+                : maintenanceRepository.transitionStatus(
+                        maintenanceId, newStatus.name(), allowedCurrent, completing ? finalCost : null);
         
-        maintenance.setStatus(newStatus);
-        return maintenanceRepository.save(maintenance);
+        Maintenance maintenance = updated.orElseThrow(() -> rejection(maintenanceId, newStatus));
+        summaryRepository.applyDeltas(List.of(MaintenanceStatusTransitions.transitionDelta(
+                maintenance.getVehicle().getId(), newStatus, maintenance.getFinalCost())));
+        eventPublisher.publishEvent(VehicleMaintenancesChangedEvent.of(maintenance.getVehicle().getId()));
+        return maintenance;
+    }
+    
+    private DomainException rejection(Long maintenanceId, MaintenanceStatus newStatus) {
+        return maintenanceRepository.findById(maintenanceId)
+                .<DomainException>map(current -> new InvalidStateTransitionException(
+                        MaintenanceStatusTransitions.invalidTransitionMessage(current.getStatus(), newStatus)))
+                .orElseGet(() -> new MaintenanceNotFoundException(maintenanceId));
     }
 }
@@ -0,0 +1,109 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.MaintenanceSummaryDelta;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceStatusBatchItemDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchItemResultDTO;
+import com.kavak.vehicle_maintenance.exception.MaintenanceNotFoundException;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Use Case: Move many maintenances to the same status at once,
+ * e.g. closing out the day's IN_PROGRESS work as COMPLETED.
+ * 
+ * Business Rules:
+ * - Same transition table and final cost rule as {@link ChangeMaintenanceStatusUseCase}
+ * - Rejected items (unknown id, invalid transition, missing final cost) are reported
+ *   per item; the valid ones are still applied
+ * 
+ * The transition runs as a single conditional UPDATE restricted to the allowed
+ * predecessor statuses; only the rejected ids are read back to explain why.
+ * The vehicle summaries of the updated rows are adjusted in the same transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeMaintenancesStatusBatchUseCase {
+    
+    private final MaintenanceJdbcRepository maintenanceJdbcRepository;
+    private final VehicleMaintenanceSummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public List<BatchItemResultDTO> execute(MaintenanceStatus newStatus, List<MaintenanceStatusBatchItemDTO> items) {
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+        List<Integer> candidates = new ArrayList<>(items.size());
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            MaintenanceStatusBatchItemDTO item = items.get(i);
+            if (!seen.add(item.getMaintenanceId())) {
+                results[i] = failure(i, item, "Maintenance appears more than once in the batch");
+            } else if (newStatus == MaintenanceStatus.COMPLETED && item.getFinalCost() == null) {
+                results[i] = failure(i, item, MaintenanceStatusTransitions.FINAL_COST_REQUIRED_MESSAGE);
+            } else {
+                candidates.add(i);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return Arrays.asList(results);
+        }
+        
+        List<Long> ids = new ArrayList<>(candidates.size());
+        List<BigDecimal> finalCosts = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            ids.add(items.get(i).getMaintenanceId());
+            // The final cost is only recorded when completing, as in the single-item flow
+            finalCosts.add(newStatus == MaintenanceStatus.COMPLETED ? items.get(i).getFinalCost() : null);
+        }
+        Map<Long, Long> updated = maintenanceJdbcRepository.transitionStatus(
+                ids, finalCosts, newStatus, MaintenanceStatusTransitions.predecessorsOf(newStatus));
+        
+        List<MaintenanceSummaryDelta> deltas = new ArrayList<>(updated.size());
+        for (int k = 0; k < ids.size(); k++) {
+            Long vehicleId = updated.get(ids.get(k));
+            if (vehicleId != null) {
+                deltas.add(MaintenanceStatusTransitions.transitionDelta(vehicleId, newStatus, finalCosts.get(k)));
+            }
+        }
+        summaryRepository.applyDeltas(deltas);
+        if (!updated.isEmpty()) {
+            eventPublisher.publishEvent(VehicleMaintenancesChangedEvent.of(updated.values()));
+        }
+        
+        List<Long> rejected = ids.stream().filter(id -> !updated.containsKey(id)).toList();
+        Map<Long, MaintenanceStatus> currentStatuses = rejected.isEmpty()
+                ? Map.of()
+                : maintenanceJdbcRepository.findStatuses(rejected);
+        
+        for (int i : candidates) {
+            MaintenanceStatusBatchItemDTO item = items.get(i);
+            Long id = item.getMaintenanceId();
+            if (updated.containsKey(id)) {
+                results[i] = BatchItemResultDTO.success(i, String.valueOf(id), id);
+            } else if (!currentStatuses.containsKey(id)) {
+                results[i] = failure(i, item, new MaintenanceNotFoundException(id).getMessage());
+            } else {
+                results[i] = failure(i, item,
+                        MaintenanceStatusTransitions.invalidTransitionMessage(currentStatuses.get(id), newStatus));
+            }
+        }
+        return Arrays.asList(results);
+    }
+    
+    private BatchItemResultDTO failure(int index, MaintenanceStatusBatchItemDTO item, String error) {
+        return BatchItemResultDTO.failure(index, String.valueOf(item.getMaintenanceId()), error);
+    }
+}
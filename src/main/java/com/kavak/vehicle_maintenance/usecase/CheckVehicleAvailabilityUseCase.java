@@ -1,10 +1,12 @@
 package com.kavak.vehicle_maintenance.usecase;
 
-import com.kavak.vehicle_maintenance.domain.Vehicle;
-import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.cache.VehicleMaintenanceTotalsCache;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.domain.VehicleMaintenanceTotals;
+import com.kavak.vehicle_maintenance.domain.Versioned;
 import com.kavak.vehicle_maintenance.dto.response.VehicleAvailabilityResponseDTO;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
-import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -16,28 +18,28 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class CheckVehicleAvailabilityUseCase {
     
-    private final VehicleRepository vehicleRepository;
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final VehicleMaintenanceTotalsCache totalsCache;
     
     /**
      * Checks if a vehicle is available for use.
+     * Answered from the vehicle summary row's active count, the maintenance history is never scanned.
+     * Repeated checks are served from memory until a maintenance of the vehicle changes.
+     * No read-only transaction on purpose: cache misses must read the primary, see
+     * {@link VehicleMaintenanceTotalsCache}.
      * 
      * @param licensePlate the vehicle license plate
-     * @return availability response with status
+     * @return availability response with status, versioned by the vehicle's maintenances
      * @throws VehicleNotFoundException if vehicle not found
      */
-    public VehicleAvailabilityResponseDTO execute(String licensePlate) {
-        Vehicle vehicle = vehicleRepository.findByLicensePlate(licensePlate)
+    public Versioned<VehicleAvailabilityResponseDTO> execute(String licensePlate) {
+        Long vehicleId = vehicleIdentityCache.find(licensePlate).map(VehicleIdentity::getId)
                 .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
         
-        boolean available = vehicle.getMaintenances().stream()
-                .noneMatch(maintenance -> 
-                    maintenance.getStatus() == MaintenanceStatus.PENDING || 
-                    maintenance.getStatus() == MaintenanceStatus.IN_PROGRESS
-                );
-        
-        return VehicleAvailabilityResponseDTO.builder()
+        VehicleMaintenanceTotals totals = totalsCache.get(vehicleId);
+        return Versioned.of(VehicleAvailabilityResponseDTO.builder()
                 .licensePlate(licensePlate)
-                .available(available)
-                .build();
+                .available(totals.isAvailable())
+                .build(), vehicleId, totals.getMaintenancesVersion());
     }
 }
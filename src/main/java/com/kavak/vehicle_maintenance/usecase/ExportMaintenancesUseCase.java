@@ -0,0 +1,58 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kavak.vehicle_maintenance.domain.enums.ExportFormat;
+import com.kavak.vehicle_maintenance.export.CsvMaintenanceExportWriter;
+import com.kavak.vehicle_maintenance.export.MaintenanceExportWriter;
+import com.kavak.vehicle_maintenance.export.NdjsonMaintenanceExportWriter;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Use case for exporting every maintenance of the fleet.
+ * Rows are read from a server-side cursor and written straight to the output stream,
+ * so memory stays constant regardless of the number of rows.
+ */
+@Component
+@RequiredArgsConstructor
+public class ExportMaintenancesUseCase {
+    
+    private final MaintenanceJdbcRepository maintenanceJdbcRepository;
+    private final ObjectMapper objectMapper;
+    
+    /**
+     * Streams all maintenances in the given format.
+     * Runs in a read-only transaction so the JDBC driver honours the cursor fetch size.
+     * 
+     * @param format the output format
+     * @param outputStream the destination, closed once the export completes
+     * @return the number of exported rows
+     */
+    @Transactional(readOnly = true)
+    public long execute(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (MaintenanceExportWriter writer = createWriter(format, outputStream)) {
+            return maintenanceJdbcRepository.streamAll(row -> {
+                try {
+                    writer.write(row);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+    
+    private MaintenanceExportWriter createWriter(ExportFormat format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonMaintenanceExportWriter(objectMapper, outputStream);
+            case CSV -> new CsvMaintenanceExportWriter(outputStream);
+        };
+    }
+}
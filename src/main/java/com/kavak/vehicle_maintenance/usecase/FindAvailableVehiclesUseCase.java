@@ -0,0 +1,81 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.availability.FleetAvailabilityIndex;
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehicleIdPage;
+import com.kavak.vehicle_maintenance.dto.request.AvailableVehiclesRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehiclePageResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehicleResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.mapper.VehicleMapper;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Use case for listing the vehicles that are available right now.
+ *
+ * Which vehicles match, how many there are and where the page ends are answered by
+ * {@link FleetAvailabilityIndex} in memory; only the vehicles of the page are then
+ * loaded, by primary key. A vehicle registered an instant ago may not have reached
+ * the replica yet and is left out of the page rather than failing it.
+ */
+@Component
+@RequiredArgsConstructor
+public class FindAvailableVehiclesUseCase {
+
+    private final FleetAvailabilityIndex availabilityIndex;
+    private final VehicleRepository vehicleRepository;
+    private final VehicleMapper vehicleMapper;
+    private final CursorMapper cursorMapper;
+
+    /**
+     * @param request optional brand and year filters, cursor and page size
+     * @return the page of available vehicles in ascending id order
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Transactional(readOnly = true)
+    public VehiclePageResponseDTO execute(AvailableVehiclesRequestDTO request) {
+        long afterId = 0;
+        if (request.getCursor() != null) {
+            String[] position = cursorMapper.decode(request.getCursor(), 1);
+            try {
+                afterId = Long.parseLong(position[0]);
+            } catch (NumberFormatException ex) {
+                throw new InvalidCursorException(request.getCursor());
+            }
+        }
+        String brand = StringUtils.hasText(request.getBrand()) ? request.getBrand() : null;
+
+        VehicleIdPage page = availabilityIndex.findAvailable(brand, request.getYear(), afterId, request.getLimit());
+
+        Map<Long, Vehicle> vehicles = page.getVehicleIds().isEmpty()
+                ? Map.of()
+                : vehicleRepository.findAllById(page.getVehicleIds()).stream()
+                        .collect(Collectors.toMap(Vehicle::getId, Function.identity()));
+        List<VehicleResponseDTO> items = page.getVehicleIds().stream()
+                .map(vehicles::get)
+                .filter(Objects::nonNull)
+                .map(vehicleMapper::toResponseDTO)
+                .toList();
+
+        String nextCursor = page.isHasMore()
+                ? cursorMapper.encode(page.getVehicleIds().get(page.getVehicleIds().size() - 1))
+                : null;
+
+        return VehiclePageResponseDTO.builder()
+                .items(items)
+                .total(page.getTotal())
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
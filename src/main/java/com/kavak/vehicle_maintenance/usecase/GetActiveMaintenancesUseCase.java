@@ -1,12 +1,12 @@
 package com.kavak.vehicle_maintenance.usecase;
 
-import com.kavak.vehicle_maintenance.domain.Maintenance;
-import com.kavak.vehicle_maintenance.domain.Vehicle;
-import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
-import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -18,24 +18,28 @@ import java.util.List;
 @RequiredArgsConstructor
 public class GetActiveMaintenancesUseCase {
     
-    private final VehicleRepository vehicleRepository;
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final MaintenanceRepository maintenanceRepository;
     
     /**
      * Retrieves only active maintenances (PENDING or IN_PROGRESS) for a vehicle.
+     * Rows are filtered by the database and projected directly into response DTOs.
+     * The vehicle existence check only runs when the projection comes back empty.
      * 
      * @param licensePlate the vehicle license plate
      * @return list of active maintenances
      * @throws VehicleNotFoundException if vehicle not found
      */
-    public List<Maintenance> execute(String licensePlate) {
-        Vehicle vehicle = vehicleRepository.findByLicensePlate(licensePlate)
-                .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
+    @Transactional(readOnly = true)
+    public List<MaintenanceResponseDTO> execute(String licensePlate) {
+        List<MaintenanceResponseDTO> activeMaintenances =
+                maintenanceRepository.findResponsesByLicensePlateAndStatusIn(
+                        licensePlate, MaintenanceStatusTransitions.ACTIVE_STATUSES);
         
-        return vehicle.getMaintenances().stream()
-                .filter(maintenance -> 
-                    maintenance.getStatus() == MaintenanceStatus.PENDING || 
-                    maintenance.getStatus() == MaintenanceStatus.IN_PROGRESS
-                )
-                .toList();
+        if (activeMaintenances.isEmpty() && vehicleIdentityCache.find(licensePlate).isEmpty()) {
+            throw new VehicleNotFoundException(licensePlate);
+        }
+        
+        return activeMaintenances;
     }
 }
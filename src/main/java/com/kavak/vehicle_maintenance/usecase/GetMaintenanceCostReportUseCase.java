@@ -0,0 +1,28 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceCostReportRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceCostReportResponseDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceCostRollupRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for fleet-wide completed spend, sliced by month, brand, model
+ * and maintenance type.
+ * Answered from the pre-aggregated rollup, never from the maintenances table.
+ */
+@Component
+@RequiredArgsConstructor
+public class GetMaintenanceCostReportUseCase {
+    
+    private final MaintenanceCostRollupRepository rollupRepository;
+    
+    @Transactional(readOnly = true)
+    public MaintenanceCostReportResponseDTO execute(MaintenanceCostReportRequestDTO request) {
+        return MaintenanceCostReportResponseDTO.builder()
+                .refreshedAt(rollupRepository.findRefreshedAt().orElse(null))
+                .rows(rollupRepository.query(request))
+                .build();
+    }
+}
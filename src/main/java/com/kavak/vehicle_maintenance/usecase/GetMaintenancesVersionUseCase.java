@@ -0,0 +1,35 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.domain.Versioned;
+import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for reading the version of a vehicle's maintenance lists.
+ * One primary-key lookup on the vehicle summary row instead of reading the
+ * versions of the maintenances themselves, whose number is unbounded.
+ */
+@Component
+@RequiredArgsConstructor
+public class GetMaintenancesVersionUseCase {
+    
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final VehicleMaintenanceSummaryRepository summaryRepository;
+    
+    /**
+     * @param licensePlate the vehicle license plate
+     * @return the tag of the current version of the vehicle's maintenances, see {@link Versioned#tag}
+     * @throws VehicleNotFoundException if vehicle not found
+     */
+    @Transactional(readOnly = true)
+    public String execute(String licensePlate) {
+        Long vehicleId = vehicleIdentityCache.find(licensePlate).map(VehicleIdentity::getId)
+                .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
+        return Versioned.tag(vehicleId, summaryRepository.findMaintenancesVersion(vehicleId));
+    }
+}
@@ -1,34 +1,146 @@
 package com.kavak.vehicle_maintenance.usecase;
 
+import com.kavak.vehicle_maintenance.archive.MaintenanceArchiveReader;
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
 import com.kavak.vehicle_maintenance.domain.Maintenance;
-import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceHistoryRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenancePageResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
-import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.mapper.MaintenanceMapper;
+import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+
+import static com.kavak.vehicle_maintenance.repository.specification.MaintenanceSpecifications.*;
 
 /**
- * Use case for retrieving all maintenances of a vehicle.
+ * Use case for retrieving the maintenance history of a vehicle, one page at a time.
+ * Uses keyset pagination on (creationDate, id), newest first, so the cost of a page
+ * does not depend on how deep the client has scrolled.
+ * 
+ * With includeArchived, the page is merged from the hot table and the cold archive;
+ * both are read in the same keyset order, so the cursor works across them.
  */
 @Component
 @RequiredArgsConstructor
 public class GetVehicleMaintenancesUseCase {
     
-    private final VehicleRepository vehicleRepository;
+    private static final Sort HISTORY_ORDER = Sort.by(Sort.Order.desc("creationDate"), Sort.Order.desc("id"));
+    
+    private static final Comparator<MaintenanceResponseDTO> NEWEST_FIRST = Comparator
+            .comparing(MaintenanceResponseDTO::getCreationDate)
+            .thenComparing(MaintenanceResponseDTO::getId)
+            .reversed();
+    
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final MaintenanceRepository maintenanceRepository;
+    private final MaintenanceArchiveReader maintenanceArchiveReader;
+    private final MaintenanceMapper maintenanceMapper;
+    private final CursorMapper cursorMapper;
     
     /**
-     * Retrieves all maintenances for a vehicle identified by license plate.
+     * Retrieves one page of maintenances for a vehicle identified by license plate.
      * 
      * @param licensePlate the vehicle license plate
-     * @return list of all maintenances for the vehicle
+     * @param request optional filters (status, type, date range), cursor and page size
+     * @return the page of maintenances and the cursor of the next page, if any
      * @throws VehicleNotFoundException if vehicle not found
+     * @throws InvalidCursorException if the cursor cannot be decoded
      */
-    public List<Maintenance> execute(String licensePlate) {
-        Vehicle vehicle = vehicleRepository.findByLicensePlate(licensePlate)
+    @Transactional(readOnly = true)
+    public MaintenancePageResponseDTO execute(String licensePlate, MaintenanceHistoryRequestDTO request) {
+        Long vehicleId = vehicleIdentityCache.find(licensePlate).map(VehicleIdentity::getId)
                 .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
         
-        return vehicle.getMaintenances();
+        int limit = request.getLimit();
+        LocalDateTime afterDate = null;
+        Long afterId = null;
+        if (request.getCursor() != null) {
+            String[] position = cursorMapper.decode(request.getCursor(), 2);
+            try {
+                afterDate = LocalDateTime.parse(position[0]);
+                afterId = Long.valueOf(position[1]);
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw new InvalidCursorException(request.getCursor());
+            }
+        }
+        
+        List<Maintenance> rows = maintenanceRepository.findBy(
+                buildSpecification(vehicleId, request, afterDate, afterId),
+                query -> query.sortBy(HISTORY_ORDER).limit(limit + 1).all()
+        );
+        List<MaintenanceResponseDTO> candidates = rows.stream()
+                .map(maintenanceMapper::toResponseDTO)
+                .toList();
+        
+        if (Boolean.TRUE.equals(request.getIncludeArchived())) {
+            // Read after the hot table: a row archived in between shows up in both, never in neither
+            List<MaintenanceResponseDTO> archived =
+                    maintenanceArchiveReader.findNewest(vehicleId, request, afterDate, afterId, limit + 1);
+            candidates = merge(candidates, archived, limit + 1);
+        }
+        
+        boolean hasMore = candidates.size() > limit;
+        List<MaintenanceResponseDTO> items = hasMore ? candidates.subList(0, limit) : candidates;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            MaintenanceResponseDTO last = items.get(items.size() - 1);
+            nextCursor = cursorMapper.encode(last.getCreationDate(), last.getId());
+        }
+        
+        return MaintenancePageResponseDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+    
+    private Specification<Maintenance> buildSpecification(Long vehicleId, MaintenanceHistoryRequestDTO request,
+                                                          LocalDateTime afterDate, Long afterId) {
+        List<Specification<Maintenance>> specifications = new ArrayList<>();
+        specifications.add(belongsToVehicle(vehicleId));
+        
+        if (request.getStatus() != null) {
+            specifications.add(hasStatus(request.getStatus()));
+        }
+        if (request.getType() != null) {
+            specifications.add(hasType(request.getType()));
+        }
+        if (request.getFrom() != null) {
+            specifications.add(createdFrom(request.getFrom()));
+        }
+        if (request.getTo() != null) {
+            specifications.add(createdBefore(request.getTo()));
+        }
+        if (afterDate != null) {
+            specifications.add(after(afterDate, afterId));
+        }
+        
+        return Specification.allOf(specifications);
+    }
+    
+    private static List<MaintenanceResponseDTO> merge(List<MaintenanceResponseDTO> hot,
+                                                      List<MaintenanceResponseDTO> archived, int limit) {
+        Set<Long> seen = new HashSet<>();
+        List<MaintenanceResponseDTO> merged = new ArrayList<>(hot.size() + archived.size());
+        hot.stream().filter(row -> seen.add(row.getId())).forEach(merged::add);
+        archived.stream().filter(row -> seen.add(row.getId())).forEach(merged::add);
+        merged.sort(NEWEST_FIRST);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
     }
 }
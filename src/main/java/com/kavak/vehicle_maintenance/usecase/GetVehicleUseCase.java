@@ -5,6 +5,7 @@ import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
 import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use case for retrieving a vehicle by its license plate.
@@ -22,6 +23,7 @@ public class GetVehicleUseCase {
      * @return the vehicle
      * @throws VehicleNotFoundException if no vehicle found with given license plate
      */
+    @Transactional(readOnly = true)
     public Vehicle execute(String licensePlate) {
         return vehicleRepository.findByLicensePlate(licensePlate)
                 .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
@@ -0,0 +1,36 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.domain.Versioned;
+import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for reading only the version of a vehicle, so a conditional GET can be
+ * answered without loading the vehicle.
+ */
+@Component
+@RequiredArgsConstructor
+public class GetVehicleVersionUseCase {
+    
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final VehicleRepository vehicleRepository;
+    
+    /**
+     * @param licensePlate the vehicle license plate
+     * @return the tag of the vehicle's current version, see {@link Versioned#tag}
+     * @throws VehicleNotFoundException if vehicle not found
+     */
+    @Transactional(readOnly = true)
+    public String execute(String licensePlate) {
+        Long vehicleId = vehicleIdentityCache.find(licensePlate).map(VehicleIdentity::getId)
+                .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
+        long version = vehicleRepository.findVersionById(vehicleId)
+                .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
+        return Versioned.tag(vehicleId, version);
+    }
+}
@@ -0,0 +1,41 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.dto.request.OdometerReadingDTO;
+import com.kavak.vehicle_maintenance.dto.response.OdometerIngestionResponseDTO;
+import com.kavak.vehicle_maintenance.exception.IngestionBufferFullException;
+import com.kavak.vehicle_maintenance.ingestion.OdometerIngestionPipeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Use Case: Accept a batch of telematics odometer readings.
+ * 
+ * Business Rules:
+ * - Same monotonic rule as the mileage update: a vehicle's mileage only moves forward
+ * - Readings are applied asynchronously; unknown plates and stale readings are dropped at flush
+ * 
+ * @throws IngestionBufferFullException if some readings could not be buffered
+ */
+@Component
+@RequiredArgsConstructor
+public class IngestOdometerReadingsUseCase {
+    
+    private final OdometerIngestionPipeline odometerIngestionPipeline;
+    
+    public OdometerIngestionResponseDTO execute(List<OdometerReadingDTO> readings) {
+        int accepted = 0;
+        for (OdometerReadingDTO reading : readings) {
+            if (odometerIngestionPipeline.offer(reading.getLicensePlate(), reading.getMileage())) {
+                accepted++;
+            }
+        }
+        if (accepted < readings.size()) {
+            throw new IngestionBufferFullException(accepted, readings.size());
+        }
+        return OdometerIngestionResponseDTO.builder()
+                .accepted(accepted)
+                .build();
+    }
+}
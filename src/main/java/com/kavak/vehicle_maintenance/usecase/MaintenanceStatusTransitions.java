@@ -0,0 +1,80 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.MaintenanceSummaryDelta;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Maintenance lifecycle rules shared by the single and bulk status change use cases.
+ * 
+ * PENDING -> IN_PROGRESS | CANCELLED
+ * IN_PROGRESS -> COMPLETED | CANCELLED
+ * COMPLETED and CANCELLED are final.
+ */
+public final class MaintenanceStatusTransitions {
+    
+    public static final String FINAL_COST_REQUIRED_MESSAGE = "Final cost is required when completing a maintenance";
+    
+    /** Statuses that keep a vehicle unavailable */
+    public static final Set<MaintenanceStatus> ACTIVE_STATUSES =
+            Set.copyOf(EnumSet.of(MaintenanceStatus.PENDING, MaintenanceStatus.IN_PROGRESS));
+    
+    private static final Map<MaintenanceStatus, Set<MaintenanceStatus>> VALID_TRANSITIONS = Map.of(
+        MaintenanceStatus.PENDING, Set.of(MaintenanceStatus.IN_PROGRESS, MaintenanceStatus.CANCELLED),
+        MaintenanceStatus.IN_PROGRESS, Set.of(MaintenanceStatus.COMPLETED, MaintenanceStatus.CANCELLED),
+        MaintenanceStatus.COMPLETED, Set.of(),
+        MaintenanceStatus.CANCELLED, Set.of()
+    );
+    
+    private MaintenanceStatusTransitions() {
+    }
+    
+    public static boolean isAllowed(MaintenanceStatus from, MaintenanceStatus to) {
+        return VALID_TRANSITIONS.get(from).contains(to);
+    }
+    
+    /**
+     * @return the statuses a maintenance may be in to move to {@code target}
+     */
+    public static Set<MaintenanceStatus> predecessorsOf(MaintenanceStatus target) {
+        Set<MaintenanceStatus> predecessors = EnumSet.noneOf(MaintenanceStatus.class);
+        VALID_TRANSITIONS.forEach((from, targets) -> {
+            if (targets.contains(target)) {
+                predecessors.add(from);
+            }
+        });
+        return predecessors;
+    }
+    
+    public static String invalidTransitionMessage(MaintenanceStatus from, MaintenanceStatus to) {
+        return "Invalid state transition from " + from + " to " + to;
+    }
+    
+    /**
+     * @return effect of registering a new (PENDING) maintenance on the vehicle summary
+     */
+    public static MaintenanceSummaryDelta registrationDelta(Long vehicleId, LocalDateTime creationDate) {
+        return new MaintenanceSummaryDelta(vehicleId, 1, 0, BigDecimal.ZERO, creationDate);
+    }
+    
+    /**
+     * Effect of a successful transition to {@code target} on the vehicle summary.
+     * Only active statuses have outgoing transitions, so the maintenance always
+     * leaves the active count; it stays there if the target is active too.
+     * 
+     * @param finalCost the recorded final cost, only counted when completing
+     */
+    public static MaintenanceSummaryDelta transitionDelta(Long vehicleId, MaintenanceStatus target, BigDecimal finalCost) {
+        boolean completed = target == MaintenanceStatus.COMPLETED;
+        return new MaintenanceSummaryDelta(vehicleId,
+                ACTIVE_STATUSES.contains(target) ? 0 : -1,
+                completed ? 1 : 0,
+                completed && finalCost != null ? finalCost : BigDecimal.ZERO,
+                null);
+    }
+}
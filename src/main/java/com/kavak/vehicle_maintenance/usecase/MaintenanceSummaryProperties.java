@@ -0,0 +1,18 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "vehicles.summary")
+public class MaintenanceSummaryProperties {
+    
+    /** Vehicle id range recomputed by each rebuild transaction. */
+    private int rebuildChunkSize = 5_000;
+    
+    /** Ranges rebuilt concurrently. */
+    private int rebuildParallelism = 4;
+    
+    /** Attempts per range when it loses a lock conflict. */
+    private int rebuildMaxAttempts = 3;
+}
@@ -0,0 +1,100 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.dto.response.CostRollupJobResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceCostReportRowDTO;
+import com.kavak.vehicle_maintenance.reporting.CostRollupProperties;
+import com.kavak.vehicle_maintenance.repository.MaintenanceCostRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Use Case: Recompute the fleet cost rollup from the whole maintenance history.
+ * 
+ * The watermark is locked for the duration, so incremental refreshes wait. The
+ * maintenance id space is split into chunks that are aggregated by parallel
+ * read-only queries; partial results are merged in memory (one entry per
+ * month, brand, model and type) and swapped in with the new watermark in the
+ * locking transaction. If any chunk fails, nothing is replaced. The spend of
+ * archived maintenances is added back from maintenance_cost_archived.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RebuildMaintenanceCostRollupUseCase {
+    
+    private final MaintenanceCostRollupRepository rollupRepository;
+    private final CostRollupProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    
+    public CostRollupJobResponseDTO execute() {
+        long start = System.nanoTime();
+        CostRollupJobResponseDTO result = transactionTemplate.execute(status -> {
+            rollupRepository.lockWatermark();
+            long upTo = rollupRepository.currentXmin();
+            
+            List<long[]> ranges = new ArrayList<>();
+            rollupRepository.findMaintenanceIdBounds().ifPresent(minMax -> {
+                for (long from = minMax[0]; from <= minMax[1]; from += properties.getRebuildChunkSize()) {
+                    ranges.add(new long[]{from, Math.min(from + properties.getRebuildChunkSize() - 1, minMax[1])});
+                }
+            });
+            
+            Map<List<Object>, MaintenanceCostReportRowDTO> merged = new HashMap<>();
+            long maintenances = 0;
+            List<MaintenanceCostReportRowDTO> rows = aggregateInParallel(ranges, upTo);
+            rows.addAll(rollupRepository.findArchivedRows());
+            for (MaintenanceCostReportRowDTO row : rows) {
+                maintenances += row.getMaintenanceCount();
+                merged.merge(List.of(row.getMonth(), row.getBrand(), row.getModel(), row.getType()), row,
+                        (existing, more) -> {
+                            existing.setMaintenanceCount(existing.getMaintenanceCount() + more.getMaintenanceCount());
+                            existing.setTotalCost(existing.getTotalCost().add(more.getTotalCost()));
+                            return existing;
+                        });
+            }
+            rollupRepository.replaceAll(merged.values());
+            rollupRepository.advanceWatermark(upTo);
+            
+            return CostRollupJobResponseDTO.builder()
+                    .maintenances(maintenances)
+                    .chunks(ranges.size())
+                    .build();
+        });
+        
+        result.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        log.info("Cost rollup rebuilt from {} completed maintenances in {} chunks in {} ms",
+                result.getMaintenances(), result.getChunks(), result.getElapsedMillis());
+        return result;
+    }
+    
+    private List<MaintenanceCostReportRowDTO> aggregateInParallel(List<long[]> ranges, long beforeXid) {
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getRebuildParallelism());
+        try {
+            List<CompletableFuture<List<MaintenanceCostReportRowDTO>>> chunks = ranges.stream()
+                    .map(range -> CompletableFuture.supplyAsync(
+                            () -> rollupRepository.aggregateRange(range[0], range[1], beforeXid), executor))
+                    .toList();
+            List<MaintenanceCostReportRowDTO> rows = new ArrayList<>();
+            chunks.forEach(chunk -> rows.addAll(chunk.join()));
+            return rows;
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
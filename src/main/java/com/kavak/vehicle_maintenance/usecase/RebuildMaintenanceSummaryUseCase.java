@@ -0,0 +1,103 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSummaryRebuildResponseDTO;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Use Case: Rebuild vehicle_maintenance_summary from the maintenances table,
+ * repairing any drift in the incrementally maintained counters.
+ *
+ * The vehicle id space is split into ranges of {@code vehicles.summary.rebuild-chunk-size}
+ * ids that are recomputed in parallel, each in its own short transaction, so live writes are
+ * only held back for the vehicles of the range being rebuilt. A range that loses
+ * a lock conflict is retried; a range that still fails is reported and the rest
+ * of the job carries on. Rebuilt counters may differ from what was cached, so every
+ * vehicle is reported as changed once the job ends.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RebuildMaintenanceSummaryUseCase {
+
+    private final VehicleMaintenanceSummaryRepository summaryRepository;
+    private final MaintenanceSummaryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public MaintenanceSummaryRebuildResponseDTO execute() {
+        long start = System.nanoTime();
+        Optional<long[]> bounds = summaryRepository.findVehicleIdBounds();
+        int chunkSize = properties.getRebuildChunkSize();
+        List<long[]> ranges = new ArrayList<>();
+        bounds.ifPresent(minMax -> {
+            for (long from = minMax[0]; from <= minMax[1]; from += chunkSize) {
+                ranges.add(new long[]{from, Math.min(from + chunkSize - 1, minMax[1])});
+            }
+        });
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getRebuildParallelism());
+        try {
+            List<CompletableFuture<Integer>> chunks = ranges.stream()
+                    .map(range -> CompletableFuture.supplyAsync(() -> rebuildChunk(range[0], range[1]), executor))
+                    .toList();
+
+            long vehicles = 0;
+            int failed = 0;
+            for (CompletableFuture<Integer> chunk : chunks) {
+                Integer rebuilt = chunk.join();
+                if (rebuilt == null) {
+                    failed++;
+                } else {
+                    vehicles += rebuilt;
+                }
+            }
+            eventPublisher.publishEvent(VehicleMaintenancesChangedEvent.allVehicles());
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            log.info("Maintenance summary rebuilt for {} vehicles in {} chunks ({} failed) in {} ms",
+                    vehicles, ranges.size(), failed, elapsedMillis);
+
+            return MaintenanceSummaryRebuildResponseDTO.builder()
+                    .chunks(ranges.size())
+                    .failedChunks(failed)
+                    .vehicles(vehicles)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @return vehicles rebuilt, or null if the range could not be rebuilt
+     */
+    private Integer rebuildChunk(long fromId, long toId) {
+        int maxAttempts = properties.getRebuildMaxAttempts();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> summaryRepository.rebuildRange(fromId, toId));
+            } catch (PessimisticLockingFailureException ex) {
+                log.warn("Summary rebuild of vehicles {}-{} lost a lock conflict (attempt {}/{})",
+                        fromId, toId, attempt, maxAttempts);
+            } catch (DataAccessException ex) {
+                log.error("Summary rebuild of vehicles {}-{} failed", fromId, toId, ex);
+                return null;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,41 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.dto.response.CostRollupJobResponseDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceCostRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use Case: Bring the fleet cost rollup up to date with the maintenances
+ * completed since the last refresh.
+ * 
+ * Only the completions after the watermark are aggregated, in a single statement
+ * served by idx_maintenances_completed_xid, so the cost depends on the number of
+ * new completions and not on the size of the history.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshMaintenanceCostRollupUseCase {
+    
+    private final MaintenanceCostRollupRepository rollupRepository;
+    
+    @Transactional
+    public CostRollupJobResponseDTO execute() {
+        long start = System.nanoTime();
+        long from = rollupRepository.lockWatermark();
+        long upTo = rollupRepository.currentXmin();
+        long added = upTo > from ? rollupRepository.rollUpCompletions(from, upTo) : 0;
+        rollupRepository.advanceWatermark(Math.max(from, upTo));
+        
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        log.debug("Cost rollup refreshed with {} completed maintenances in {} ms", added, elapsedMillis);
+        return CostRollupJobResponseDTO.builder()
+                .maintenances(added)
+                .chunks(1)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+}
@@ -1,12 +1,20 @@
 package com.kavak.vehicle_maintenance.usecase;
 
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
 import com.kavak.vehicle_maintenance.domain.Maintenance;
-import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
 import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
 import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 /**
  * Use case for registering a new maintenance for a vehicle.
@@ -16,22 +24,34 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RegisterMaintenanceUseCase {
     
+    private final VehicleIdentityCache vehicleIdentityCache;
     private final VehicleRepository vehicleRepository;
     private final MaintenanceRepository maintenanceRepository;
+    private final MaintenanceJdbcRepository maintenanceJdbcRepository;
+    private final VehicleMaintenanceSummaryRepository summaryRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Registers a new maintenance for a vehicle.
+     * The vehicle summary and the fuzzy search words are updated in the same transaction. The vehicle is resolved
+     * through the identity cache and referenced by id, so it is never loaded.
      * 
      * @param licensePlate the vehicle's license plate
      * @param maintenance the maintenance to register (with status and creationDate already set)
      * @return the saved maintenance
      * @throws VehicleNotFoundException if no vehicle found with given license plate
      */
+    @Transactional
     public Maintenance execute(String licensePlate, Maintenance maintenance) {
-        Vehicle vehicle = vehicleRepository.findByLicensePlate(licensePlate)
+        VehicleIdentity vehicle = vehicleIdentityCache.find(licensePlate)
                 .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
         
-        maintenance.setVehicle(vehicle);
-        return maintenanceRepository.save(maintenance);
+        maintenance.setVehicle(vehicleRepository.getReferenceById(vehicle.getId()));
+        Maintenance saved = maintenanceRepository.save(maintenance);
+        summaryRepository.applyDeltas(List.of(MaintenanceStatusTransitions.registrationDelta(
+                vehicle.getId(), saved.getCreationDate())));
+        maintenanceJdbcRepository.addSearchWords(List.of(saved.getDescription()));
+        eventPublisher.publishEvent(VehicleMaintenancesChangedEvent.of(vehicle.getId()));
+        return saved;
     }
 }
@@ -0,0 +1,106 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceBatchItemDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchItemResultDTO;
+import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
+import com.kavak.vehicle_maintenance.mapper.MaintenanceMapper;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use Case: Register maintenances for many vehicles in a single request,
+ * e.g. an oil change campaign across the fleet.
+ * 
+ * Business Rules:
+ * - Every maintenance starts as PENDING, same as single registration
+ * - Items whose plate does not exist are reported as failed; the rest are still registered
+ * 
+ * All plates are resolved through the vehicle identity cache, with one IN query for
+ * the plates it does not hold yet. Inserts are committed in chunks of
+ * {@value #CHUNK_SIZE} so a huge campaign never holds one long transaction; if a
+ * chunk fails, only the items of that chunk are reported as failed. Each chunk
+ * updates the vehicle summaries and the fuzzy search words in its own transaction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RegisterMaintenancesBatchUseCase {
+    
+    static final int CHUNK_SIZE = 500;
+    
+    private final VehicleIdentityCache vehicleIdentityCache;
+    private final VehicleRepository vehicleRepository;
+    private final MaintenanceRepository maintenanceRepository;
+    private final MaintenanceJdbcRepository maintenanceJdbcRepository;
+    private final VehicleMaintenanceSummaryRepository summaryRepository;
+    private final MaintenanceMapper maintenanceMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    public List<BatchItemResultDTO> execute(List<MaintenanceBatchItemDTO> items) {
+        Map<String, VehicleIdentity> vehiclesByPlate = vehicleIdentityCache.findAll(
+                items.stream().map(MaintenanceBatchItemDTO::getLicensePlate).distinct().toList());
+        
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+        List<Integer> pending = new ArrayList<>(items.size());
+        Maintenance[] maintenances = new Maintenance[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            MaintenanceBatchItemDTO item = items.get(i);
+            VehicleIdentity vehicle = vehiclesByPlate.get(item.getLicensePlate());
+            if (vehicle == null) {
+                results[i] = BatchItemResultDTO.failure(i, item.getLicensePlate(),
+                        new VehicleNotFoundException(item.getLicensePlate()).getMessage());
+                continue;
+            }
+            Maintenance maintenance = maintenanceMapper.toEntity(item.getMaintenance());
+            maintenance.setVehicle(vehicleRepository.getReferenceById(vehicle.getId()));
+            maintenances[i] = maintenance;
+            pending.add(i);
+        }
+        
+        for (int from = 0; from < pending.size(); from += CHUNK_SIZE) {
+            List<Integer> chunk = pending.subList(from, Math.min(from + CHUNK_SIZE, pending.size()));
+            try {
+                transactionTemplate.execute(status -> {
+                    List<Maintenance> saved = maintenanceRepository.saveAll(
+                            chunk.stream().map(i -> maintenances[i]).toList());
+                    summaryRepository.applyDeltas(saved.stream()
+                            .map(maintenance -> MaintenanceStatusTransitions.registrationDelta(
+                                    maintenance.getVehicle().getId(), maintenance.getCreationDate()))
+                            .toList());
+                    maintenanceJdbcRepository.addSearchWords(saved.stream()
+                            .map(Maintenance::getDescription)
+                            .toList());
+                    eventPublisher.publishEvent(VehicleMaintenancesChangedEvent.of(saved.stream()
+                            .map(maintenance -> maintenance.getVehicle().getId())
+                            .toList()));
+                    return saved;
+                });
+                chunk.forEach(i -> results[i] = BatchItemResultDTO.success(
+                        i, items.get(i).getLicensePlate(), maintenances[i].getId()));
+            } catch (DataAccessException ex) {
+                log.warn("Maintenance batch chunk of {} items failed", chunk.size(), ex);
+                chunk.forEach(i -> results[i] = BatchItemResultDTO.failure(
+                        i, items.get(i).getLicensePlate(), "Could not be stored, retry this item"));
+            }
+        }
+        return Arrays.asList(results);
+    }
+}
@@ -1,9 +1,12 @@
 package com.kavak.vehicle_maintenance.usecase;
 
 import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.event.VehicleChangedEvent;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
 import com.kavak.vehicle_maintenance.exception.DuplicateLicensePlateException;
 import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +17,12 @@ import org.springframework.transaction.annotation.Transactional;
  * - License plate must be unique across all vehicles
  * - All vehicle data must be valid (validated at DTO level)
  * 
+ * Uniqueness is enforced by the database in the same statement as the insert
+ * (INSERT ... ON CONFLICT DO NOTHING), so it holds under concurrent registrations.
+ * A VehicleChangedEvent drops the plate from the vehicle identity cache of every instance,
+ * and a VehiclesRegisteredEvent adds the new vehicle to the fleet availability index
+ * and its plate to the license plate index.
+ * 
  * @throws DuplicateLicensePlateException if license plate already exists
  */
 @Component
@@ -21,13 +30,19 @@ import org.springframework.transaction.annotation.Transactional;
 public class RegisterVehicleUseCase {
     
     private final VehicleRepository vehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Vehicle execute(Vehicle vehicle) {
-        if (vehicleRepository.existsByLicensePlate(vehicle.getLicensePlate())) {
-            throw new DuplicateLicensePlateException(vehicle.getLicensePlate());
-        }
-    
-        return vehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(vehicle.getLicensePlate()));
+        Vehicle registered = vehicleRepository.insertIfAbsent(
+                        vehicle.getLicensePlate(),
+                        vehicle.getBrand(),
+                        vehicle.getModel(),
+                        vehicle.getYear(),
+                        vehicle.getCurrentMileage())
+                .orElseThrow(() -> new DuplicateLicensePlateException(vehicle.getLicensePlate()));
+        eventPublisher.publishEvent(VehiclesRegisteredEvent.of(registered.getId()));
+        return registered;
     }
 }
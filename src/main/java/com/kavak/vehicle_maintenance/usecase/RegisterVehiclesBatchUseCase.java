@@ -0,0 +1,73 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehiclePlate;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
+import com.kavak.vehicle_maintenance.dto.response.BatchItemResultDTO;
+import com.kavak.vehicle_maintenance.exception.DuplicateLicensePlateException;
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Use Case: Register many vehicles in a single request.
+ * 
+ * Business Rules:
+ * - Same uniqueness rule as single registration, enforced by the database for the whole batch
+ * - A plate repeated inside the batch is accepted once; later occurrences are rejected
+ * - Duplicates are reported per item and do not abort the rest of the batch
+ * 
+ * The accepted vehicles are inserted with one INSERT ... ON CONFLICT DO NOTHING, ids drawn
+ * from the pooled sequence, so a plate registered concurrently by another request is
+ * reported as a duplicate instead of rolling the batch back. The inserted vehicles are
+ * announced with one VehiclesRegisteredEvent.
+ */
+@Component
+@RequiredArgsConstructor
+public class RegisterVehiclesBatchUseCase {
+    
+    private final VehicleJdbcRepository vehicleJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @Transactional
+    public List<BatchItemResultDTO> execute(List<Vehicle> vehicles) {
+        Set<String> seen = new HashSet<>();
+        boolean[] accepted = new boolean[vehicles.size()];
+        List<Vehicle> toInsert = new ArrayList<>(vehicles.size());
+        for (int i = 0; i < vehicles.size(); i++) {
+            if (seen.add(vehicles.get(i).getLicensePlate())) {
+                accepted[i] = true;
+                toInsert.add(vehicles.get(i));
+            }
+        }
+        Map<String, Long> inserted = vehicleJdbcRepository.insertIfAbsent(toInsert).stream()
+                .collect(Collectors.toMap(VehiclePlate::getLicensePlate, VehiclePlate::getVehicleId));
+        
+        List<BatchItemResultDTO> results = new ArrayList<>(vehicles.size());
+        List<Long> registeredIds = new ArrayList<>(inserted.size());
+        for (int i = 0; i < vehicles.size(); i++) {
+            String licensePlate = vehicles.get(i).getLicensePlate();
+            Long id = accepted[i] ? inserted.get(licensePlate) : null;
+            if (id != null) {
+                registeredIds.add(id);
+                results.add(BatchItemResultDTO.success(i, licensePlate, id));
+            } else {
+                results.add(BatchItemResultDTO.failure(i, licensePlate,
+                        new DuplicateLicensePlateException(licensePlate).getMessage()));
+            }
+        }
+        if (!registeredIds.isEmpty()) {
+            eventPublisher.publishEvent(VehiclesRegisteredEvent.of(registeredIds));
+        }
+        return results;
+    }
+}
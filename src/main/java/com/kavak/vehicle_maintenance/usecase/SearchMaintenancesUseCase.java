@@ -0,0 +1,71 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSearchHitDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSearchResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Use case for searching maintenance descriptions across the whole fleet, one page at a time.
+ *
+ * Results are ranked by relevance, ties newest first, and paginated by keyset on
+ * (rank, creationDate, id). Every page ranks all matches of the query, so its cost grows
+ * with how many maintenances match, not with the size of the table; the type, status
+ * and date filters narrow the matches, and a date range skips whole monthly partitions.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchMaintenancesUseCase {
+
+    private final MaintenanceJdbcRepository maintenanceJdbcRepository;
+    private final CursorMapper cursorMapper;
+
+    /**
+     * @param request query text, optional filters, cursor and page size
+     * @return the page of matching maintenances and the cursor of the next page, if any
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Transactional(readOnly = true)
+    public MaintenanceSearchResponseDTO execute(MaintenanceSearchRequestDTO request) {
+        int limit = request.getLimit();
+        Float afterRank = null;
+        LocalDateTime afterDate = null;
+        Long afterId = null;
+        if (request.getCursor() != null) {
+            String[] position = cursorMapper.decode(request.getCursor(), 3);
+            try {
+                afterRank = Float.valueOf(position[0]);
+                afterDate = LocalDateTime.parse(position[1]);
+                afterId = Long.valueOf(position[2]);
+            } catch (DateTimeParseException | NumberFormatException ex) {
+                throw new InvalidCursorException(request.getCursor());
+            }
+        }
+
+        List<MaintenanceSearchHitDTO> hits =
+                maintenanceJdbcRepository.search(request, afterRank, afterDate, afterId, limit + 1);
+
+        boolean hasMore = hits.size() > limit;
+        List<MaintenanceSearchHitDTO> items = hasMore ? hits.subList(0, limit) : hits;
+
+        String nextCursor = null;
+        if (hasMore) {
+            MaintenanceSearchHitDTO last = items.get(items.size() - 1);
+            nextCursor = cursorMapper.encode(last.getRank(), last.getCreationDate(), last.getId());
+        }
+
+        return MaintenanceSearchResponseDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
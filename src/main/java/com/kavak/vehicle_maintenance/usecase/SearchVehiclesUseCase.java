@@ -0,0 +1,106 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.dto.request.VehicleSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehiclePageResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehicleResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.mapper.VehicleMapper;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.kavak.vehicle_maintenance.repository.specification.VehicleSpecifications.*;
+
+/**
+ * Use case for searching the fleet by brand, model, year range and mileage range,
+ * one page at a time.
+ *
+ * Pages use keyset pagination on id, so every page is a bounded read. Narrow filters are
+ * served from the (brand, model, year) or (current_mileage) index and the few matches
+ * sorted by id; broad filters walk the primary key from the cursor and stop after a page
+ * of matches. PostgreSQL picks between the two from its statistics. Matches are not
+ * counted: counting a broad filter would read every match on every page.
+ */
+@Component
+@RequiredArgsConstructor
+public class SearchVehiclesUseCase {
+
+    private static final Sort SEARCH_ORDER = Sort.by(Sort.Order.asc("id"));
+
+    private final VehicleRepository vehicleRepository;
+    private final VehicleMapper vehicleMapper;
+    private final CursorMapper cursorMapper;
+
+    /**
+     * @param request optional filters, cursor and page size
+     * @return the page of matching vehicles in ascending id order; total is not set
+     * @throws InvalidCursorException if the cursor cannot be decoded
+     */
+    @Transactional(readOnly = true)
+    public VehiclePageResponseDTO execute(VehicleSearchRequestDTO request) {
+        int limit = request.getLimit();
+        Long afterId = null;
+        if (request.getCursor() != null) {
+            String[] position = cursorMapper.decode(request.getCursor(), 1);
+            try {
+                afterId = Long.valueOf(position[0]);
+            } catch (NumberFormatException ex) {
+                throw new InvalidCursorException(request.getCursor());
+            }
+        }
+
+        List<Vehicle> rows = vehicleRepository.findBy(
+                buildSpecification(request, afterId),
+                query -> query.sortBy(SEARCH_ORDER).limit(limit + 1).all()
+        );
+
+        boolean hasMore = rows.size() > limit;
+        List<VehicleResponseDTO> items = (hasMore ? rows.subList(0, limit) : rows).stream()
+                .map(vehicleMapper::toResponseDTO)
+                .toList();
+
+        String nextCursor = hasMore ? cursorMapper.encode(items.get(items.size() - 1).getId()) : null;
+
+        return VehiclePageResponseDTO.builder()
+                .items(items)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private Specification<Vehicle> buildSpecification(VehicleSearchRequestDTO request, Long afterId) {
+        List<Specification<Vehicle>> specifications = new ArrayList<>();
+
+        if (StringUtils.hasText(request.getBrand())) {
+            specifications.add(hasBrand(request.getBrand()));
+        }
+        if (StringUtils.hasText(request.getModel())) {
+            specifications.add(hasModel(request.getModel()));
+        }
+        if (request.getYearFrom() != null) {
+            specifications.add(yearFrom(request.getYearFrom()));
+        }
+        if (request.getYearTo() != null) {
+            specifications.add(yearTo(request.getYearTo()));
+        }
+        if (request.getMinMileage() != null) {
+            specifications.add(mileageFrom(request.getMinMileage()));
+        }
+        if (request.getMaxMileage() != null) {
+            specifications.add(mileageTo(request.getMaxMileage()));
+        }
+        if (afterId != null) {
+            specifications.add(after(afterId));
+        }
+
+        return Specification.allOf(specifications);
+    }
+}
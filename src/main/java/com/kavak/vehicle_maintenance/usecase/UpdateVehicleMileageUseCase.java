@@ -1,21 +1,29 @@
 package com.kavak.vehicle_maintenance.usecase;
 
 import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.event.VehicleChangedEvent;
+import com.kavak.vehicle_maintenance.exception.DomainException;
 import com.kavak.vehicle_maintenance.exception.InvalidMileageException;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
 import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use case for updating a vehicle's mileage.
  * Business rule: new mileage must be greater than current mileage.
+ * 
+ * The rule is enforced by a conditional UPDATE, so there is no read-check-write
+ * window for concurrent telematics updates to race through.
  */
 @Component
 @RequiredArgsConstructor
 public class UpdateVehicleMileageUseCase {
     
     private final VehicleRepository vehicleRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Updates the mileage of a vehicle identified by its license plate.
@@ -26,15 +34,18 @@ public class UpdateVehicleMileageUseCase {
      * @throws VehicleNotFoundException if no vehicle found with given license plate
      * @throws InvalidMileageException if new mileage is not greater than current
      */
+    @Transactional
     public Vehicle execute(String licensePlate, Integer newMileage) {
-        Vehicle vehicle = vehicleRepository.findByLicensePlate(licensePlate)
-                .orElseThrow(() -> new VehicleNotFoundException(licensePlate));
-        
-        if (newMileage <= vehicle.getCurrentMileage()) {
-            throw new InvalidMileageException(licensePlate, vehicle.getCurrentMileage(), newMileage);
-        }
-        
-        vehicle.setCurrentMileage(newMileage);
-        return vehicleRepository.save(vehicle);
+        eventPublisher.publishEvent(new VehicleChangedEvent(licensePlate));
+        return vehicleRepository.updateMileageIfGreater(licensePlate, newMileage)
+                .orElseThrow(() -> rejection(licensePlate, newMileage));
+    }
+    
+    // Only reached when no row matched: tell an unknown plate apart from a stale reading
+    private DomainException rejection(String licensePlate, Integer newMileage) {
+        return vehicleRepository.findByLicensePlate(licensePlate)
+                .<DomainException>map(vehicle -> new InvalidMileageException(
+                        licensePlate, vehicle.getCurrentMileage(), newMileage))
+                .orElseGet(() -> new VehicleNotFoundException(licensePlate));
     }
 }
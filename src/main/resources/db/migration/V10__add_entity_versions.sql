@@ -0,0 +1,11 @@
+-- Vehicle Maintenance System - Entity versions for optimistic locking and ETags
+-- Created: 2026-10-18
+-- Purpose: Let GET endpoints answer If-None-Match from a version lookup instead of loading the data
+
+-- Bumped by every write of the row, JPA or native
+ALTER TABLE vehicles ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE maintenances ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+-- Bumped whenever any maintenance of the vehicle is registered, transitioned or archived,
+-- and by the summary rebuild; versions the vehicle's maintenance lists as a whole
+ALTER TABLE vehicle_maintenance_summary ADD COLUMN maintenances_version BIGINT NOT NULL DEFAULT 0;
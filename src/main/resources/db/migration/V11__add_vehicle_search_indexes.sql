@@ -0,0 +1,15 @@
+-- Vehicle Maintenance System - Fleet search indexes
+-- Created: 2026-10-18
+-- Purpose: Index every filter of the fleet search endpoint
+
+-- Brand, then model, then a year range: one index range scan for any prefix of the three
+CREATE INDEX idx_vehicles_brand_model_year ON vehicles(brand, model, year);
+
+-- Mileage ranges. Mileage updates can no longer be HOT updates, the price of searching on it
+CREATE INDEX idx_vehicles_current_mileage ON vehicles(current_mileage);
+
+-- Models belong to one brand, so the planner must not multiply their selectivities:
+-- misjudging "Audi A4" by 40x makes it read every A4 for each page instead of
+-- walking the primary key to the first matches
+CREATE STATISTICS stx_vehicles_brand_model (dependencies, mcv) ON brand, model FROM vehicles;
+ALTER STATISTICS stx_vehicles_brand_model SET STATISTICS 1000;
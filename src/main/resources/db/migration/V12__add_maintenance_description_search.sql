@@ -0,0 +1,29 @@
+-- Vehicle Maintenance System - Full-text search over maintenance descriptions
+-- Created: 2026-10-18
+-- Purpose: Find maintenances by what their description says without scanning the table
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Kept in step with description by PostgreSQL itself; every partition gets the column
+ALTER TABLE maintenances ADD COLUMN description_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('english', description)) STORED;
+
+-- Word and phrase queries (websearch_to_tsquery), created on every partition
+CREATE INDEX idx_maintenances_description_tsv ON maintenances USING GIN (description_tsv);
+
+-- Every distinct word of the descriptions, as indexed in description_tsv. Fuzzy queries
+-- correct each word against this small list by trigram similarity and then run on the
+-- full-text index, instead of comparing trigrams of every description
+CREATE TABLE maintenance_search_words (
+    word TEXT PRIMARY KEY
+);
+
+CREATE INDEX idx_maintenance_search_words_trgm ON maintenance_search_words USING GIN (word gin_trgm_ops);
+
+INSERT INTO maintenance_search_words (word)
+SELECT DISTINCT w.word
+FROM maintenances m, unnest(tsvector_to_array(m.description_tsv)) AS w(word)
+WHERE w.word ~ '^[[:alnum:]]+$';
+
+COMMENT ON COLUMN maintenances.description_tsv IS 'English text search vector of description, generated';
+COMMENT ON TABLE maintenance_search_words IS 'Distinct words of maintenance descriptions, for fuzzy search; only grows';
@@ -0,0 +1,8 @@
+-- Vehicle Maintenance System - Completed cost index
+-- Created: 2026-10-18
+-- Purpose: Serve the per-vehicle total cost aggregate with an index-only scan
+
+-- Partial covering index: only COMPLETED rows, final_cost carried in the leaf pages
+CREATE INDEX idx_maintenances_completed_cost ON maintenances(vehicle_id)
+    INCLUDE (final_cost)
+    WHERE status = 'COMPLETED';
@@ -0,0 +1,7 @@
+-- Vehicle Maintenance System - Active maintenances index
+-- Created: 2026-10-18
+-- Purpose: Answer "does this vehicle have an active maintenance?" without touching its history
+
+-- Partial index: only PENDING / IN_PROGRESS rows, so its size tracks open work, not history
+CREATE INDEX idx_maintenances_active ON maintenances(vehicle_id)
+    WHERE status IN ('PENDING', 'IN_PROGRESS');
@@ -0,0 +1,7 @@
+-- Vehicle Maintenance System - Maintenance history index
+-- Created: 2026-10-18
+-- Purpose: Keyset pagination of a vehicle's maintenance history on (creation_date, id)
+
+-- Matches the ORDER BY creation_date DESC, id DESC of the history endpoint,
+-- so every page is a bounded index range scan regardless of depth
+CREATE INDEX idx_maintenances_vehicle_creation ON maintenances(vehicle_id, creation_date DESC, id DESC);
@@ -0,0 +1,7 @@
+-- Vehicle Maintenance System - Pooled ID Sequences
+-- Created: 2026-10-18
+-- Purpose: Let Hibernate reserve ids in blocks of 50 so inserts can be JDBC-batched
+
+-- Must match allocationSize on the entity @SequenceGenerator mappings
+ALTER SEQUENCE vehicles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE maintenances_id_seq INCREMENT BY 50;
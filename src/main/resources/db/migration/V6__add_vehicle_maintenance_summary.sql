@@ -0,0 +1,26 @@
+-- Vehicle Maintenance System - Per-vehicle maintenance summary
+-- Created: 2026-10-18
+-- Purpose: Keep availability and total cost as one primary-key lookup per vehicle
+
+-- One row per vehicle, maintained incrementally in the same transaction as every
+-- maintenance write; a vehicle without a row reads as all zeros
+CREATE TABLE IF NOT EXISTS vehicle_maintenance_summary (
+    vehicle_id BIGINT PRIMARY KEY,
+    active_count INTEGER NOT NULL DEFAULT 0,
+    completed_count INTEGER NOT NULL DEFAULT 0,
+    completed_cost DECIMAL(14, 2) NOT NULL DEFAULT 0,
+    last_maintenance_date TIMESTAMP,
+    CONSTRAINT fk_maintenance_summary_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicles(id) ON DELETE CASCADE
+);
+
+-- Backfill from the existing maintenance history
+INSERT INTO vehicle_maintenance_summary (vehicle_id, active_count, completed_count, completed_cost, last_maintenance_date)
+SELECT m.vehicle_id,
+       COUNT(*) FILTER (WHERE m.status IN ('PENDING', 'IN_PROGRESS')),
+       COUNT(*) FILTER (WHERE m.status = 'COMPLETED'),
+       COALESCE(SUM(m.final_cost) FILTER (WHERE m.status = 'COMPLETED'), 0),
+       MAX(m.creation_date)
+FROM maintenances m
+GROUP BY m.vehicle_id;
+
+COMMENT ON TABLE vehicle_maintenance_summary IS 'Per-vehicle maintenance counters, rebuilt from maintenances by the summary repair job';
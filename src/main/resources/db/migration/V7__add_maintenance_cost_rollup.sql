@@ -0,0 +1,46 @@
+-- Vehicle Maintenance System - Fleet cost rollup
+-- Created: 2026-10-18
+-- Purpose: Pre-aggregate completed spend per month, brand, model and maintenance type
+
+-- Set when a maintenance is completed. completed_xid is the completing transaction,
+-- which lets the incremental refresh pick up every completion exactly once even
+-- when transactions commit out of order
+ALTER TABLE maintenances ADD COLUMN completed_date TIMESTAMP;
+ALTER TABLE maintenances ADD COLUMN completed_xid xid8;
+
+-- Completion time was not recorded before; creation date is the best approximation
+UPDATE maintenances SET completed_date = creation_date WHERE status = 'COMPLETED';
+
+CREATE INDEX idx_maintenances_completed_xid ON maintenances(completed_xid)
+    WHERE completed_xid IS NOT NULL;
+
+CREATE TABLE IF NOT EXISTS maintenance_cost_rollup (
+    month DATE NOT NULL,
+    brand VARCHAR(50) NOT NULL,
+    model VARCHAR(50) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    maintenance_count BIGINT NOT NULL,
+    total_cost DECIMAL(16, 2) NOT NULL,
+    PRIMARY KEY (month, brand, model, type)
+);
+
+-- Completions by transactions below watermark_xid are already rolled up
+CREATE TABLE IF NOT EXISTS report_watermarks (
+    name VARCHAR(50) PRIMARY KEY,
+    watermark_xid xid8 NOT NULL,
+    refreshed_at TIMESTAMP NOT NULL
+);
+
+-- Backfill: every completion so far predates completed_xid
+INSERT INTO maintenance_cost_rollup (month, brand, model, type, maintenance_count, total_cost)
+SELECT date_trunc('month', m.completed_date)::date, v.brand, v.model, m.type,
+       COUNT(*), COALESCE(SUM(m.final_cost), 0)
+FROM maintenances m
+JOIN vehicles v ON v.id = m.vehicle_id
+WHERE m.status = 'COMPLETED'
+GROUP BY 1, 2, 3, 4;
+
+INSERT INTO report_watermarks (name, watermark_xid, refreshed_at)
+VALUES ('maintenance_cost_rollup', pg_snapshot_xmin(pg_current_snapshot()), LOCALTIMESTAMP);
+
+COMMENT ON TABLE maintenance_cost_rollup IS 'Completed maintenance spend per month, brand, model and type';
@@ -0,0 +1,72 @@
+-- Vehicle Maintenance System - Monthly partitioning of maintenances
+-- Created: 2026-10-18
+-- Purpose: Range-partition maintenances on creation_date so indexes and vacuum work per month
+
+-- Keep the id sequence, it moves to the new table
+ALTER SEQUENCE maintenances_id_seq OWNED BY NONE;
+
+ALTER TABLE maintenances RENAME TO maintenances_legacy;
+ALTER INDEX maintenances_pkey RENAME TO maintenances_legacy_pkey;
+
+-- The partition key must be part of the primary key; ids stay unique through the sequence
+CREATE TABLE maintenances (
+    id BIGINT NOT NULL DEFAULT nextval('maintenances_id_seq'),
+    vehicle_id BIGINT NOT NULL,
+    type VARCHAR(20) NOT NULL CHECK (type IN ('OIL_CHANGE', 'BRAKES', 'ENGINE', 'TIRES', 'TRANSMISSION', 'GENERAL')),
+    description VARCHAR(500) NOT NULL,
+    creation_date TIMESTAMP NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED')),
+    estimated_cost DECIMAL(10, 2),
+    final_cost DECIMAL(10, 2),
+    completed_date TIMESTAMP,
+    completed_xid xid8,
+    CONSTRAINT maintenances_pkey PRIMARY KEY (id, creation_date),
+    CONSTRAINT fk_maintenances_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicles(id) ON DELETE CASCADE
+) PARTITION BY RANGE (creation_date);
+
+-- One partition per month from the oldest row up to three months ahead;
+-- MaintenancePartitionManager keeps creating them from here on
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month',
+            COALESCE((SELECT MIN(creation_date) FROM maintenances_legacy), LOCALTIMESTAMP))::date;
+    last_month DATE := (date_trunc('month', LOCALTIMESTAMP) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF maintenances FOR VALUES FROM (%L) TO (%L)',
+                'maintenances_p' || to_char(month_start, 'YYYY_MM'),
+                month_start, (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- Safety net for rows outside every monthly range, so inserts never fail
+CREATE TABLE maintenances_default PARTITION OF maintenances DEFAULT;
+
+INSERT INTO maintenances (id, vehicle_id, type, description, creation_date, status,
+                          estimated_cost, final_cost, completed_date, completed_xid)
+SELECT id, vehicle_id, type, description, creation_date, status,
+       estimated_cost, final_cost, completed_date, completed_xid
+FROM maintenances_legacy;
+
+DROP TABLE maintenances_legacy;
+ALTER SEQUENCE maintenances_id_seq OWNED BY maintenances.id;
+
+-- Same indexes as before, now created on every partition
+CREATE INDEX idx_maintenances_vehicle_id ON maintenances(vehicle_id);
+CREATE INDEX idx_maintenances_status ON maintenances(status);
+CREATE INDEX idx_maintenances_vehicle_status ON maintenances(vehicle_id, status);
+CREATE INDEX idx_maintenances_completed_cost ON maintenances(vehicle_id)
+    INCLUDE (final_cost)
+    WHERE status = 'COMPLETED';
+CREATE INDEX idx_maintenances_active ON maintenances(vehicle_id)
+    WHERE status IN ('PENDING', 'IN_PROGRESS');
+CREATE INDEX idx_maintenances_vehicle_creation ON maintenances(vehicle_id, creation_date DESC, id DESC);
+CREATE INDEX idx_maintenances_completed_xid ON maintenances(completed_xid)
+    WHERE completed_xid IS NOT NULL;
+
+COMMENT ON TABLE maintenances IS 'Stores maintenance records associated with vehicles, partitioned by creation month';
+COMMENT ON COLUMN maintenances.status IS 'Current maintenance status: PENDING, IN_PROGRESS, COMPLETED, CANCELLED';
+
+-- Autovacuum never analyzes a partitioned parent; give the planner statistics once
+ANALYZE maintenances;
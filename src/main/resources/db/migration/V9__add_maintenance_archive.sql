@@ -0,0 +1,37 @@
+-- Vehicle Maintenance System - Cold archive of closed maintenances
+-- Created: 2026-10-18
+-- Purpose: Index of maintenances moved out of the hot table into compressed segment files
+
+-- Segment files are named after this sequence, so a segment left behind by a failed
+-- archive batch never collides with a later one
+CREATE SEQUENCE IF NOT EXISTS maintenance_archive_segment_seq;
+
+-- One row per compressed block: the archived maintenances of one vehicle in one segment.
+-- The counters keep archived spend visible to the summary and rollup rebuilds
+CREATE TABLE IF NOT EXISTS maintenance_archive_blocks (
+    vehicle_id BIGINT NOT NULL,
+    segment_id BIGINT NOT NULL,
+    block_offset BIGINT NOT NULL,
+    block_length INTEGER NOT NULL,
+    row_count INTEGER NOT NULL,
+    completed_count INTEGER NOT NULL,
+    completed_cost DECIMAL(14, 2) NOT NULL,
+    min_creation_date TIMESTAMP NOT NULL,
+    max_creation_date TIMESTAMP NOT NULL,
+    PRIMARY KEY (vehicle_id, segment_id, block_offset),
+    CONSTRAINT fk_archive_blocks_vehicle FOREIGN KEY (vehicle_id) REFERENCES vehicles(id) ON DELETE CASCADE
+);
+
+-- Completed spend that left the hot table, added back by the cost rollup rebuild
+CREATE TABLE IF NOT EXISTS maintenance_cost_archived (
+    month DATE NOT NULL,
+    brand VARCHAR(50) NOT NULL,
+    model VARCHAR(50) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    maintenance_count BIGINT NOT NULL,
+    total_cost DECIMAL(16, 2) NOT NULL,
+    PRIMARY KEY (month, brand, model, type)
+);
+
+COMMENT ON TABLE maintenance_archive_blocks IS 'Per-vehicle offset index into the maintenance archive segment files';
+COMMENT ON TABLE maintenance_cost_archived IS 'Completed maintenance spend of archived maintenances per month, brand, model and type';
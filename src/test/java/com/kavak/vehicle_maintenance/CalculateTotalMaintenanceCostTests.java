@@ -0,0 +1,121 @@
+package com.kavak.vehicle_maintenance;
+
+import com.kavak.vehicle_maintenance.cache.VehicleMaintenanceTotalsCache;
+import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import com.kavak.vehicle_maintenance.usecase.CalculateTotalMaintenanceCostUseCase;
+import com.kavak.vehicle_maintenance.usecase.ChangeMaintenanceStatusUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterMaintenanceUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterVehicleUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks the total cost rules against the SQL that implements them: the incremental
+ * summary deltas and the summary rebuild.
+ */
+@SpringBootTest(properties = "reports.cost-rollup.refresh-interval=1h")
+class CalculateTotalMaintenanceCostTests {
+
+    private static final BigDecimal FINAL_COST = new BigDecimal("250.50");
+
+    @Autowired
+    private RegisterVehicleUseCase registerVehicleUseCase;
+
+    @Autowired
+    private RegisterMaintenanceUseCase registerMaintenanceUseCase;
+
+    @Autowired
+    private ChangeMaintenanceStatusUseCase changeMaintenanceStatusUseCase;
+
+    @Autowired
+    private CalculateTotalMaintenanceCostUseCase calculateTotalMaintenanceCostUseCase;
+
+    @Autowired
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    @Autowired
+    private VehicleMaintenanceTotalsCache totalsCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long vehicleId;
+
+    @AfterEach
+    void tearDown() {
+        if (vehicleId != null) {
+            // Cascades to the maintenances and the vehicle summary
+            new JdbcTemplate(dataSource).update("DELETE FROM vehicles WHERE id = ?", vehicleId);
+            totalsCache.invalidateAll(List.of(vehicleId));
+        }
+    }
+
+    @Test
+    void shouldOnlyCountCompletedMaintenances() {
+        // Arrange
+        String licensePlate = String.format("TC%06d", ThreadLocalRandom.current().nextInt(1_000_000));
+        vehicleId = registerVehicleUseCase.execute(Vehicle.builder()
+                .licensePlate(licensePlate).brand("Toyota").model("Corolla").year(2022).currentMileage(1000)
+                .build()).getId();
+        Long pending = register(licensePlate);
+        Long inProgress = register(licensePlate);
+        Long cancelled = register(licensePlate);
+        Long completed = register(licensePlate);
+        Long completedWithoutCost = register(licensePlate);
+        changeMaintenanceStatusUseCase.execute(inProgress, MaintenanceStatus.IN_PROGRESS, null);
+        changeMaintenanceStatusUseCase.execute(cancelled, MaintenanceStatus.CANCELLED, null);
+        changeMaintenanceStatusUseCase.execute(completed, MaintenanceStatus.IN_PROGRESS, null);
+        changeMaintenanceStatusUseCase.execute(completed, MaintenanceStatus.COMPLETED, FINAL_COST);
+
+        // Act
+        BigDecimal incremental = calculateTotalMaintenanceCostUseCase.execute(licensePlate).getValue().getTotalCost();
+
+        // Legacy rows the API cannot produce: a final cost on open or cancelled maintenances,
+        // and a completed maintenance without one
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("UPDATE maintenances SET final_cost = 1000 WHERE id IN (?, ?, ?)",
+                pending, inProgress, cancelled);
+        jdbcTemplate.update("""
+                UPDATE maintenances SET status = 'COMPLETED', final_cost = NULL, completed_date = creation_date
+                WHERE id = ?
+                """, completedWithoutCost);
+        transactionTemplate.executeWithoutResult(status -> summaryRepository.rebuildRange(vehicleId, vehicleId));
+        totalsCache.invalidateAll(List.of(vehicleId));
+        BigDecimal rebuilt = calculateTotalMaintenanceCostUseCase.execute(licensePlate).getValue().getTotalCost();
+
+        // Assert
+        assertEquals(0, FINAL_COST.compareTo(incremental));
+        assertEquals(0, FINAL_COST.compareTo(rebuilt));
+        assertEquals(2, jdbcTemplate.queryForObject(
+                "SELECT completed_count FROM vehicle_maintenance_summary WHERE vehicle_id = ?", Integer.class, vehicleId));
+    }
+
+    private Long register(String licensePlate) {
+        return registerMaintenanceUseCase.execute(licensePlate, Maintenance.builder()
+                .type(MaintenanceType.OIL_CHANGE)
+                .description("Total cost test")
+                .estimatedCost(new BigDecimal("150.00"))
+                .creationDate(LocalDateTime.now())
+                .status(MaintenanceStatus.PENDING)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,154 @@
+package com.kavak.vehicle_maintenance;
+
+import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.exception.InvalidStateTransitionException;
+import com.kavak.vehicle_maintenance.usecase.ChangeMaintenanceStatusUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterMaintenanceUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterVehicleUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Races status changes through the compare-and-set UPDATE against the real database.
+ * The cost rollup is not refreshed during the run, so the rows removed afterwards are never counted.
+ */
+@SpringBootTest(properties = "reports.cost-rollup.refresh-interval=1h")
+class ChangeMaintenanceStatusConcurrencyTests {
+
+    private static final int MAINTENANCE_COUNT = 200;
+    private static final BigDecimal FINAL_COST = new BigDecimal("99.90");
+
+    @Autowired
+    private RegisterVehicleUseCase registerVehicleUseCase;
+
+    @Autowired
+    private RegisterMaintenanceUseCase registerMaintenanceUseCase;
+
+    @Autowired
+    private ChangeMaintenanceStatusUseCase changeMaintenanceStatusUseCase;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long vehicleId;
+
+    @AfterEach
+    void tearDown() {
+        if (vehicleId != null) {
+            // Cascades to the maintenances and the vehicle summary
+            new JdbcTemplate(dataSource).update("DELETE FROM vehicles WHERE id = ?", vehicleId);
+        }
+    }
+
+    @Test
+    void shouldLetExactlyOneRacingTransitionWinPerMaintenance() throws Exception {
+        // Arrange
+        String licensePlate = String.format("RC%06d", ThreadLocalRandom.current().nextInt(1_000_000));
+        Vehicle vehicle = registerVehicleUseCase.execute(Vehicle.builder()
+                .licensePlate(licensePlate).brand("Toyota").model("Corolla").year(2022).currentMileage(1000)
+                .build());
+        vehicleId = vehicle.getId();
+        List<Long> maintenanceIds = new ArrayList<>();
+        for (int i = 0; i < MAINTENANCE_COUNT; i++) {
+            maintenanceIds.add(registerMaintenanceUseCase.execute(licensePlate, Maintenance.builder()
+                    .type(MaintenanceType.OIL_CHANGE)
+                    .description("Concurrency test")
+                    .estimatedCost(new BigDecimal("150.00"))
+                    .creationDate(LocalDateTime.now())
+                    .status(MaintenanceStatus.PENDING)
+                    .build()).getId());
+        }
+
+        List<Callable<Void>> attempts = new ArrayList<>();
+        Map<Long, Queue<MaintenanceStatus>> wins = new ConcurrentHashMap<>();
+        CountDownLatch start = new CountDownLatch(1);
+        for (Long maintenanceId : maintenanceIds) {
+            for (MaintenanceStatus target : List.of(MaintenanceStatus.IN_PROGRESS, MaintenanceStatus.CANCELLED,
+                    MaintenanceStatus.COMPLETED, MaintenanceStatus.CANCELLED)) {
+                attempts.add(() -> {
+                    start.await();
+                    try {
+                        changeMaintenanceStatusUseCase.execute(maintenanceId, target, FINAL_COST);
+                        wins.computeIfAbsent(maintenanceId, key -> new ConcurrentLinkedQueue<>()).add(target);
+                    } catch (InvalidStateTransitionException lostRace) {
+                        // expected for every attempt that found the status already moved on
+                    }
+                    return null;
+                });
+            }
+        }
+        Collections.shuffle(attempts);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // Act
+        List<Future<Void>> results = new ArrayList<>();
+        for (Callable<Void> attempt : attempts) {
+            results.add(pool.submit(attempt));
+        }
+        start.countDown();
+        for (Future<Void> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+
+        // Assert
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        Map<Long, Map<String, Object>> rows = new ConcurrentHashMap<>();
+        jdbcTemplate.queryForList("SELECT id, status, final_cost FROM maintenances WHERE vehicle_id = ?", vehicleId)
+                .forEach(row -> rows.put(((Number) row.get("id")).longValue(), row));
+        assertEquals(MAINTENANCE_COUNT, rows.size());
+        for (Long maintenanceId : maintenanceIds) {
+            List<MaintenanceStatus> won = new ArrayList<>(wins.getOrDefault(maintenanceId, new ConcurrentLinkedQueue<>()));
+            MaintenanceStatus finalStatus = MaintenanceStatus.valueOf((String) rows.get(maintenanceId).get("status"));
+            assertNotEquals(MaintenanceStatus.PENDING, finalStatus);
+            assertFalse(won.contains(MaintenanceStatus.COMPLETED) && won.contains(MaintenanceStatus.CANCELLED),
+                    "maintenance " + maintenanceId + " was both completed and cancelled");
+            assertEquals(1, Collections.frequency(won, finalStatus));
+            assertTrue(won.size() <= 2);
+            if (won.contains(MaintenanceStatus.COMPLETED)) {
+                assertTrue(won.contains(MaintenanceStatus.IN_PROGRESS));
+                assertEquals(0, FINAL_COST.compareTo((BigDecimal) rows.get(maintenanceId).get("final_cost")));
+            }
+        }
+
+        // Every winning transition adjusted the summary exactly once
+        Map<String, Object> summary = jdbcTemplate.queryForMap(
+                "SELECT active_count, completed_count, completed_cost FROM vehicle_maintenance_summary WHERE vehicle_id = ?",
+                vehicleId);
+        Map<String, Object> actual = jdbcTemplate.queryForMap("""
+                SELECT COUNT(*) FILTER (WHERE status IN ('PENDING', 'IN_PROGRESS')) AS active_count,
+                       COUNT(*) FILTER (WHERE status = 'COMPLETED') AS completed_count,
+                       COALESCE(SUM(final_cost) FILTER (WHERE status = 'COMPLETED'), 0) AS completed_cost
+                FROM maintenances WHERE vehicle_id = ?
+                """, vehicleId);
+        assertEquals(((Number) actual.get("active_count")).intValue(), ((Number) summary.get("active_count")).intValue());
+        assertEquals(((Number) actual.get("completed_count")).intValue(), ((Number) summary.get("completed_count")).intValue());
+        assertEquals(0, ((BigDecimal) actual.get("completed_cost")).compareTo((BigDecimal) summary.get("completed_cost")));
+    }
+}
@@ -0,0 +1,104 @@
+package com.kavak.vehicle_maintenance;
+
+import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.usecase.ChangeMaintenanceStatusUseCase;
+import com.kavak.vehicle_maintenance.usecase.GetActiveMaintenancesUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterMaintenanceUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterVehicleUseCase;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the statements Hibernate prepares for the active maintenances of a vehicle.
+ */
+@SpringBootTest(properties = {
+        "reports.cost-rollup.refresh-interval=1h",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class GetActiveMaintenancesQueryCountTests {
+
+    @Autowired
+    private RegisterVehicleUseCase registerVehicleUseCase;
+
+    @Autowired
+    private RegisterMaintenanceUseCase registerMaintenanceUseCase;
+
+    @Autowired
+    private ChangeMaintenanceStatusUseCase changeMaintenanceStatusUseCase;
+
+    @Autowired
+    private GetActiveMaintenancesUseCase getActiveMaintenancesUseCase;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Long vehicleId;
+
+    @AfterEach
+    void tearDown() {
+        if (vehicleId != null) {
+            // Cascades to the maintenances and the vehicle summary
+            new JdbcTemplate(dataSource).update("DELETE FROM vehicles WHERE id = ?", vehicleId);
+        }
+    }
+
+    @Test
+    void shouldLoadActiveMaintenancesWithOneStatementAndNoEntities() {
+        // Arrange
+        String licensePlate = String.format("QC%06d", ThreadLocalRandom.current().nextInt(1_000_000));
+        vehicleId = registerVehicleUseCase.execute(Vehicle.builder()
+                .licensePlate(licensePlate).brand("Toyota").model("Corolla").year(2022).currentMileage(1000)
+                .build()).getId();
+        Long pending = register(licensePlate);
+        Long inProgress = register(licensePlate);
+        Long cancelled = register(licensePlate);
+        changeMaintenanceStatusUseCase.execute(inProgress, MaintenanceStatus.IN_PROGRESS, null);
+        changeMaintenanceStatusUseCase.execute(cancelled, MaintenanceStatus.CANCELLED, null);
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Act
+        List<MaintenanceResponseDTO> active = getActiveMaintenancesUseCase.execute(licensePlate);
+
+        // Assert
+        assertEquals(Set.of(pending, inProgress),
+                active.stream().map(MaintenanceResponseDTO::getId).collect(Collectors.toSet()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityFetchCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    private Long register(String licensePlate) {
+        return registerMaintenanceUseCase.execute(licensePlate, Maintenance.builder()
+                .type(MaintenanceType.OIL_CHANGE)
+                .description("Query count test")
+                .estimatedCost(new BigDecimal("150.00"))
+                .creationDate(LocalDateTime.now())
+                .status(MaintenanceStatus.PENDING)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,119 @@
+package com.kavak.vehicle_maintenance;
+
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.dto.response.BatchItemResultDTO;
+import com.kavak.vehicle_maintenance.usecase.RegisterVehicleUseCase;
+import com.kavak.vehicle_maintenance.usecase.RegisterVehiclesBatchUseCase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Registers a batch while another request holds an uncommitted registration of one of its plates.
+ */
+@SpringBootTest(properties = "reports.cost-rollup.refresh-interval=1h")
+class RegisterVehiclesBatchConcurrencyTests {
+
+    @Autowired
+    private RegisterVehiclesBatchUseCase registerVehiclesBatchUseCase;
+
+    @Autowired
+    private RegisterVehicleUseCase registerVehicleUseCase;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private final String platePrefix = String.format("RB%05d-", ThreadLocalRandom.current().nextInt(100_000));
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(dataSource).update("DELETE FROM vehicles WHERE license_plate LIKE ?", platePrefix + "%");
+    }
+
+    @Test
+    void shouldReportPlateRegisteredConcurrentlyAsDuplicate() throws Exception {
+        // Arrange
+        String contested = platePrefix + "2";
+        List<Vehicle> batch = List.of(vehicle(platePrefix + "1"), vehicle(contested), vehicle(platePrefix + "3"));
+        CountDownLatch registered = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        CompletableFuture<Vehicle> single = CompletableFuture.supplyAsync(() ->
+                new TransactionTemplate(transactionManager).execute(status -> {
+                    Vehicle vehicle = registerVehicleUseCase.execute(vehicle(contested));
+                    registered.countDown();
+                    await(commit);
+                    return vehicle;
+                }));
+        assertTrue(registered.await(10, TimeUnit.SECONDS));
+
+        // Act
+        CompletableFuture<List<BatchItemResultDTO>> results =
+                CompletableFuture.supplyAsync(() -> registerVehiclesBatchUseCase.execute(batch));
+        awaitBatchBlockedOnContestedPlate();
+        commit.countDown();
+
+        // Assert
+        Vehicle winner = single.get(10, TimeUnit.SECONDS);
+        List<BatchItemResultDTO> items = results.get(10, TimeUnit.SECONDS);
+        assertTrue(items.get(0).isSuccess());
+        assertFalse(items.get(1).isSuccess());
+        assertTrue(items.get(1).getError().contains(contested));
+        assertTrue(items.get(2).isSuccess());
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM vehicles WHERE license_plate LIKE ?", Integer.class, platePrefix + "%"));
+        assertEquals(winner.getId(), jdbcTemplate.queryForObject(
+                "SELECT id FROM vehicles WHERE license_plate = ?", Long.class, contested));
+        assertEquals(items.get(0).getId(), jdbcTemplate.queryForObject(
+                "SELECT id FROM vehicles WHERE license_plate = ?", Long.class, platePrefix + "1"));
+    }
+
+    /**
+     * Waits until the batch INSERT is waiting for the uncommitted row of the contested plate.
+     */
+    private void awaitBatchBlockedOnContestedPlate() throws InterruptedException {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Integer waiting = jdbcTemplate.queryForObject("""
+                    SELECT COUNT(*) FROM pg_stat_activity
+                    WHERE wait_event_type = 'Lock' AND query ILIKE 'insert into vehicles%'
+                    """, Integer.class);
+            if (waiting != null && waiting > 0) {
+                return;
+            }
+            Thread.sleep(20);
+        }
+        fail("Batch insert never waited for the concurrent registration");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static Vehicle vehicle(String licensePlate) {
+        return Vehicle.builder()
+                .licensePlate(licensePlate).brand("Toyota").model("Corolla").year(2022).currentMileage(1000)
+                .build();
+    }
+}
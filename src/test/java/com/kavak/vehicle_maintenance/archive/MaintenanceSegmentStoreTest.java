@@ -0,0 +1,118 @@
+package com.kavak.vehicle_maintenance.archive;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MaintenanceSegmentStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 3, 15, 10, 30, 0, 123_456_000);
+
+    @TempDir
+    Path directory;
+
+    private MaintenanceSegmentStore store;
+
+    @BeforeEach
+    void setUp() {
+        MaintenanceArchiveProperties properties = new MaintenanceArchiveProperties();
+        properties.setDirectory(directory.toString());
+        store = new MaintenanceSegmentStore(properties);
+    }
+
+    @Test
+    void shouldReadBackEveryVehicleBlockNewestFirst() {
+        // Arrange
+        Map<Long, List<MaintenanceResponseDTO>> rows = new TreeMap<>();
+        rows.put(7L, List.of(
+                row(1L, 7L, BASE, MaintenanceStatus.COMPLETED, new BigDecimal("120.50")),
+                row(3L, 7L, BASE.plusDays(2), MaintenanceStatus.CANCELLED, null)));
+        rows.put(9L, List.of(row(2L, 9L, BASE.plusDays(1), MaintenanceStatus.COMPLETED, new BigDecimal("80.00"))));
+
+        // Act
+        List<ArchiveBlock> blocks = store.write(1, rows);
+
+        // Assert
+        assertEquals(2, blocks.size());
+        assertEquals(List.of(rows.get(7L).get(1), rows.get(7L).get(0)), store.read(blocks.get(0)));
+        assertEquals(rows.get(9L), store.read(blocks.get(1)));
+        assertTrue(Files.exists(store.segmentPath(1)));
+    }
+
+    @Test
+    void shouldDescribeBlockTotalsAndDateRange() {
+        // Arrange
+        Map<Long, List<MaintenanceResponseDTO>> rows = Map.of(7L, List.of(
+                row(1L, 7L, BASE, MaintenanceStatus.COMPLETED, new BigDecimal("120.50")),
+                row(2L, 7L, BASE.plusMonths(1), MaintenanceStatus.COMPLETED, new BigDecimal("79.50")),
+                row(3L, 7L, BASE.plusMonths(2), MaintenanceStatus.CANCELLED, null)));
+
+        // Act
+        ArchiveBlock block = store.write(1, rows).get(0);
+
+        // Assert
+        assertEquals(7L, block.getVehicleId());
+        assertEquals(MaintenanceSegmentStore.HEADER_LENGTH, block.getOffset());
+        assertEquals(3, block.getRowCount());
+        assertEquals(2, block.getCompletedCount());
+        assertEquals(new BigDecimal("200.00"), block.getCompletedCost());
+        assertEquals(BASE, block.getMinCreationDate());
+        assertEquals(BASE.plusMonths(2), block.getMaxCreationDate());
+    }
+
+    @Test
+    void shouldCompressRepetitiveHistory() throws Exception {
+        // Arrange
+        List<MaintenanceResponseDTO> history = new ArrayList<>();
+        for (long i = 1; i <= 1_000; i++) {
+            history.add(row(i, 7L, BASE.plusDays(i), MaintenanceStatus.COMPLETED, new BigDecimal("150.00")));
+        }
+
+        // Act
+        ArchiveBlock block = store.write(1, Map.of(7L, history)).get(0);
+
+        // Assert
+        assertEquals(1_000, store.read(block).size());
+        assertTrue(Files.size(store.segmentPath(1)) < 1_000 * 40);
+    }
+
+    @Test
+    void shouldRemoveDeletedSegment() {
+        // Arrange
+        store.write(1, Map.of(7L, List.of(row(1L, 7L, BASE, MaintenanceStatus.CANCELLED, null))));
+
+        // Act
+        store.delete(1);
+
+        // Assert
+        assertFalse(Files.exists(store.segmentPath(1)));
+    }
+
+    private MaintenanceResponseDTO row(Long id, Long vehicleId, LocalDateTime creationDate,
+                                       MaintenanceStatus status, BigDecimal finalCost) {
+        return MaintenanceResponseDTO.builder()
+                .id(id)
+                .vehicleId(vehicleId)
+                .type(MaintenanceType.OIL_CHANGE)
+                .description("Oil change and filter")
+                .creationDate(creationDate)
+                .status(status)
+                .estimatedCost(new BigDecimal("150.00"))
+                .finalCost(finalCost)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.kavak.vehicle_maintenance.autocomplete;
+
+import com.kavak.vehicle_maintenance.domain.VehiclePlate;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LicensePlateIndexTest {
+
+    @Mock
+    private VehicleJdbcRepository vehicleJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldCompletePrefixInAlphabeticalOrder() {
+        // Arrange
+        LicensePlateIndex index = buildIndex(
+                new VehiclePlate(1, "ABD-1000"),
+                new VehiclePlate(2, "ABC1234"),
+                new VehiclePlate(3, "ABC-1234"),
+                new VehiclePlate(4, "AB12"),
+                new VehiclePlate(5, "ABC-LEGACY-0001"),
+                new VehiclePlate(6, "XYZ-9876"));
+
+        // Act
+        List<String> ab = index.complete("AB", 10);
+        List<String> abc = index.complete("ABC", 2);
+        List<String> tooLong = index.complete("ABC-LEGACY", 10);
+        List<String> none = index.complete("ZZ", 10);
+
+        // Assert
+        assertEquals(List.of("AB12", "ABC-1234", "ABC-LEGACY-0001", "ABC1234", "ABD-1000"), ab);
+        assertEquals(List.of("ABC-1234", "ABC-LEGACY-0001"), abc);
+        assertEquals(List.of("ABC-LEGACY-0001"), tooLong);
+        assertTrue(none.isEmpty());
+    }
+
+    @Test
+    void shouldReadBackOnlyVehiclesItHasNotSeen() {
+        // Arrange
+        LicensePlateIndex index = buildIndex(new VehiclePlate(1, "ABC-1234"));
+        when(vehicleJdbcRepository.findLicensePlates(List.of(2L)))
+                .thenReturn(List.of(new VehiclePlate(2, "ABC-1111")));
+
+        // Act
+        index.onVehiclesRegistered(VehiclesRegisteredEvent.of(List.of(1L, 2L)));
+        index.refresh(Set.of(1L, 2L));
+
+        // Assert
+        assertEquals(List.of("ABC-1111", "ABC-1234"), index.complete("ABC", 10));
+        verify(vehicleJdbcRepository, times(1)).findLicensePlates(anyCollection());
+    }
+
+    @Test
+    void shouldKeepOrderAfterMergingRegisteredPlates() {
+        // Arrange
+        LicensePlateIndex index = buildIndex(new VehiclePlate(1, "AA-0000"), new VehiclePlate(2, "ZZ-9999"));
+        List<VehiclePlate> registered = new ArrayList<>();
+        LongStream.rangeClosed(1, LicensePlateIndex.MERGE_THRESHOLD)
+                .forEach(i -> registered.add(new VehiclePlate(100 + i, String.format("MM-%04d", i))));
+        when(vehicleJdbcRepository.findLicensePlates(anyCollection())).thenReturn(registered);
+
+        // Act
+        index.refresh(registered.stream().map(VehiclePlate::getVehicleId).toList());
+
+        // Assert
+        assertEquals(List.of("AA-0000", "MM-0001", "MM-0002"), index.complete("", 3));
+        assertEquals(List.of("MM-4096"), index.complete("MM-4096", 5));
+        assertEquals(List.of("ZZ-9999"), index.complete("Z", 5));
+        assertEquals(LicensePlateIndex.MERGE_THRESHOLD, index.complete("MM-", 5_000).size());
+    }
+
+    @SuppressWarnings("unchecked")
+    private LicensePlateIndex buildIndex(VehiclePlate... vehicles) {
+        doAnswer(invocation -> {
+            Consumer<VehiclePlate> consumer = invocation.getArgument(0);
+            for (VehiclePlate vehicle : vehicles) {
+                consumer.accept(vehicle);
+            }
+            return null;
+        }).when(vehicleJdbcRepository).scanLicensePlates(any());
+        LicensePlateIndex index =
+                new LicensePlateIndex(vehicleJdbcRepository, transactionManager, new SimpleMeterRegistry());
+        index.rebuild();
+        return index;
+    }
+}
@@ -0,0 +1,145 @@
+package com.kavak.vehicle_maintenance.availability;
+
+import com.kavak.vehicle_maintenance.domain.VehicleAvailability;
+import com.kavak.vehicle_maintenance.domain.VehicleIdPage;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FleetAvailabilityIndexTest {
+
+    @Mock
+    private VehicleJdbcRepository vehicleJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void shouldIntersectAvailabilityBrandAndYear() {
+        // Arrange
+        FleetAvailabilityIndex index = buildIndex(
+                new VehicleAvailability(1, "Toyota", 2022, true),
+                new VehicleAvailability(2, "Toyota", 2022, false),
+                new VehicleAvailability(3, "Toyota", 2021, true),
+                new VehicleAvailability(4, "Mazda", 2022, true));
+
+        // Act
+        VehicleIdPage toyotas = index.findAvailable("toyota", 2022, 0, 10);
+        VehicleIdPage of2022 = index.findAvailable(null, 2022, 0, 10);
+        VehicleIdPage unknownBrand = index.findAvailable("Ford", null, 0, 10);
+
+        // Assert
+        assertEquals(List.of(1L), toyotas.getVehicleIds());
+        assertEquals(1, toyotas.getTotal());
+        assertEquals(List.of(1L, 4L), of2022.getVehicleIds());
+        assertEquals(2, of2022.getTotal());
+        assertTrue(unknownBrand.getVehicleIds().isEmpty());
+        assertEquals(0, unknownBrand.getTotal());
+    }
+
+    @Test
+    void shouldPageInAscendingIdOrder() {
+        // Arrange
+        FleetAvailabilityIndex index = buildIndex(
+                new VehicleAvailability(3, "BMW", 2023, true),
+                new VehicleAvailability(7, "BMW", 2023, true),
+                new VehicleAvailability(8, "BMW", 2023, false),
+                new VehicleAvailability(12, "BMW", 2023, true));
+
+        // Act
+        VehicleIdPage first = index.findAvailable(null, null, 0, 2);
+        VehicleIdPage second = index.findAvailable(null, null, 7, 2);
+
+        // Assert
+        assertEquals(List.of(3L, 7L), first.getVehicleIds());
+        assertTrue(first.isHasMore());
+        assertEquals(3, first.getTotal());
+        assertEquals(List.of(12L), second.getVehicleIds());
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    void shouldPageFilteredMatchesAcrossIdChunks() {
+        // Arrange
+        FleetAvailabilityIndex index = buildIndex(
+                new VehicleAvailability(5, "Kia", 2020, true),
+                new VehicleAvailability(70_000, "Kia", 2020, true),
+                new VehicleAvailability(70_001, "Kia", 2019, true),
+                new VehicleAvailability(300_000, "Kia", 2020, true),
+                new VehicleAvailability(300_001, "Kia", 2020, false));
+
+        // Act
+        VehicleIdPage first = index.findAvailable("Kia", 2020, 0, 2);
+        VehicleIdPage second = index.findAvailable("Kia", 2020, 70_000, 2);
+
+        // Assert
+        assertEquals(List.of(5L, 70_000L), first.getVehicleIds());
+        assertTrue(first.isHasMore());
+        assertEquals(3, first.getTotal());
+        assertEquals(List.of(300_000L), second.getVehicleIds());
+        assertFalse(second.isHasMore());
+    }
+
+    @Test
+    void shouldFollowMaintenanceChangesAndRegistrations() {
+        // Arrange
+        FleetAvailabilityIndex index = buildIndex(new VehicleAvailability(1, "BMW", 2023, true));
+        when(vehicleJdbcRepository.findAvailability(Set.of(1L)))
+                .thenReturn(List.of(new VehicleAvailability(1, "BMW", 2023, false)));
+        when(vehicleJdbcRepository.findAvailability(Set.of(2L)))
+                .thenReturn(List.of(new VehicleAvailability(2, "BMW", 2023, true)));
+
+        // Act
+        index.onMaintenancesChanged(VehicleMaintenancesChangedEvent.of(1L));
+        index.onVehiclesRegistered(VehiclesRegisteredEvent.of(2L));
+
+        // Assert
+        VehicleIdPage page = index.findAvailable("BMW", 2023, 0, 10);
+        assertEquals(List.of(2L), page.getVehicleIds());
+        assertEquals(1, page.getTotal());
+        assertEquals(1, index.findAvailable("bmw", null, 0, 10).getTotal());
+    }
+
+    @Test
+    void shouldRescanEverythingAfterSummaryRebuild() {
+        // Arrange
+        FleetAvailabilityIndex index = buildIndex(new VehicleAvailability(1, "BMW", 2023, false));
+
+        // Act
+        index.onMaintenancesChanged(VehicleMaintenancesChangedEvent.allVehicles());
+
+        // Assert
+        verify(vehicleJdbcRepository, times(2)).scanAvailability(any());
+        verify(vehicleJdbcRepository, never()).findAvailability(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private FleetAvailabilityIndex buildIndex(VehicleAvailability... vehicles) {
+        doAnswer(invocation -> {
+            Consumer<VehicleAvailability> consumer = invocation.getArgument(0);
+            for (VehicleAvailability vehicle : vehicles) {
+                consumer.accept(vehicle);
+            }
+            return null;
+        }).when(vehicleJdbcRepository).scanAvailability(any());
+        FleetAvailabilityIndex index =
+                new FleetAvailabilityIndex(vehicleJdbcRepository, transactionManager, new SimpleMeterRegistry());
+        index.rebuild();
+        return index;
+    }
+}
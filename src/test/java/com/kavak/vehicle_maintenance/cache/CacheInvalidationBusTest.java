@@ -0,0 +1,144 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import com.kavak.vehicle_maintenance.domain.event.VehicleChangedEvent;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.repository.CacheInvalidationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBusTest {
+
+    @Mock
+    private CacheInvalidationRepository invalidationRepository;
+
+    private CacheInvalidationBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new CacheInvalidationBus(invalidationRepository, new CacheInvalidationProperties(),
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.unbindResourceIfPossible(bus);
+    }
+
+    @Test
+    void shouldSendOneCoalescedMessageBeforeCommit() {
+        // Arrange
+        beginTransaction();
+
+        // Act
+        bus.onVehicleChanged(new VehicleChangedEvent("ABC-1234"));
+        bus.onMaintenancesChanged(VehicleMaintenancesChangedEvent.of(List.of(1L, 2L)));
+        bus.onMaintenancesChanged(VehicleMaintenancesChangedEvent.of(2L));
+        verifyNoInteractions(invalidationRepository);
+        commit();
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(invalidationRepository, times(1)).notify(payload.capture());
+        CacheInvalidationMessage message = CacheInvalidationMessage.decode(payload.getValue());
+        assertEquals(bus.getNodeId(), message.getSender());
+        assertEquals(Set.of(1L, 2L), message.getVehicleIds());
+        assertEquals(Set.of("ABC-1234"), message.getLicensePlates());
+        assertFalse(message.isAll());
+    }
+
+    @Test
+    void shouldSendNothingWhenTransactionRollsBack() {
+        // Arrange
+        beginTransaction();
+        bus.onMaintenancesChanged(VehicleMaintenancesChangedEvent.of(1L));
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Assert
+        verifyNoInteractions(invalidationRepository);
+        assertNull(TransactionSynchronizationManager.getResource(bus));
+    }
+
+    @Test
+    void shouldSendAtOnceOutsideTransaction() {
+        // Act
+        bus.onMaintenancesChanged(VehicleMaintenancesChangedEvent.allVehicles());
+
+        // Assert
+        ArgumentCaptor<String> payload = ArgumentCaptor.forClass(String.class);
+        verify(invalidationRepository).notify(payload.capture());
+        assertTrue(CacheInvalidationMessage.decode(payload.getValue()).isAll());
+    }
+
+    @Test
+    void shouldSplitLargeInvalidationsIntoPayloadsUnderTheLimit() {
+        // Arrange
+        Set<Long> vehicleIds = LongStream.rangeClosed(1_000_000, 1_002_000).boxed().collect(Collectors.toSet());
+        beginTransaction();
+        bus.onMaintenancesChanged(VehicleMaintenancesChangedEvent.of(vehicleIds));
+
+        // Act
+        commit();
+
+        // Assert
+        ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+        verify(invalidationRepository, atLeast(2)).notify(payloads.capture());
+        Set<Long> received = new HashSet<>();
+        for (String payload : payloads.getAllValues()) {
+            assertTrue(payload.length() <= CacheInvalidationBus.MAX_PAYLOAD_LENGTH);
+            received.addAll(CacheInvalidationMessage.decode(payload).getVehicleIds());
+        }
+        assertEquals(vehicleIds, received);
+    }
+
+    @Test
+    void shouldSendNothingWhenDisabled() {
+        // Arrange
+        CacheInvalidationProperties properties = new CacheInvalidationProperties();
+        properties.setEnabled(false);
+        CacheInvalidationBus disabledBus = new CacheInvalidationBus(invalidationRepository, properties,
+                new SimpleMeterRegistry());
+
+        // Act
+        disabledBus.onVehicleChanged(new VehicleChangedEvent("ABC-1234"));
+
+        // Assert
+        verify(invalidationRepository, never()).notify(anyString());
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.beforeCommit(false));
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
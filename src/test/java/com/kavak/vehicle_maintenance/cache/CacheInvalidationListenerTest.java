@@ -0,0 +1,107 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import com.kavak.vehicle_maintenance.autocomplete.LicensePlateIndex;
+import com.kavak.vehicle_maintenance.availability.FleetAvailabilityIndex;
+import com.kavak.vehicle_maintenance.repository.CacheInvalidationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+    @Mock
+    private CacheInvalidationRepository invalidationRepository;
+
+    @Mock
+    private VehicleIdentityCache vehicleIdentityCache;
+
+    @Mock
+    private VehicleMaintenanceTotalsCache totalsCache;
+
+    @Mock
+    private FleetAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private LicensePlateIndex licensePlateIndex;
+
+    private CacheInvalidationProperties properties;
+
+    private CacheInvalidationBus bus;
+
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        properties = new CacheInvalidationProperties();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        bus = new CacheInvalidationBus(invalidationRepository, properties, meterRegistry);
+        listener = new CacheInvalidationListener(new DataSourceProperties(), properties, bus,
+                vehicleIdentityCache, totalsCache, availabilityIndex, licensePlateIndex, meterRegistry);
+    }
+
+    @Test
+    void shouldDropKeysSentByAnotherInstance() {
+        // Act
+        listener.apply("0ther000 v1 v2 pABC-1234");
+
+        // Assert
+        verify(totalsCache).invalidateAll(Set.of(1L, 2L));
+        verify(vehicleIdentityCache).invalidateAll(Set.of("ABC-1234"));
+        verify(availabilityIndex).refresh(Set.of(1L, 2L));
+        verify(licensePlateIndex).refresh(Set.of(1L, 2L));
+    }
+
+    @Test
+    void shouldFlushEverythingOnFullInvalidation() {
+        // Act
+        listener.apply("0ther000 *");
+
+        // Assert
+        verify(totalsCache).invalidateAll();
+        verify(vehicleIdentityCache).invalidateAll();
+        verify(availabilityIndex).rebuild();
+        verify(licensePlateIndex).rebuild();
+    }
+
+    @Test
+    void shouldIgnoreItsOwnMessages() {
+        // Act
+        listener.apply(bus.getNodeId() + " v1 pABC-1234");
+
+        // Assert
+        verifyNoInteractions(totalsCache, vehicleIdentityCache, availabilityIndex, licensePlateIndex);
+    }
+
+    @Test
+    void shouldFlushEverythingWhenAVehicleIdCannotBeRead() {
+        // Act
+        listener.apply("0ther000 vX pABC-1234");
+
+        // Assert
+        verify(totalsCache).invalidateAll();
+        verify(vehicleIdentityCache).invalidateAll();
+    }
+
+    @Test
+    void shouldBuildIndexesOnceAtStartupWhenDisabled() {
+        // Arrange
+        properties.setEnabled(false);
+
+        // Act
+        listener.start();
+
+        // Assert
+        verify(availabilityIndex, times(1)).rebuild();
+        verify(licensePlateIndex, times(1)).rebuild();
+        verifyNoInteractions(totalsCache, vehicleIdentityCache);
+    }
+}
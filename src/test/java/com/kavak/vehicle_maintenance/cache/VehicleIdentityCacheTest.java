@@ -0,0 +1,113 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleIdentityCacheTest {
+
+    private static final VehicleIdentity BMW = new VehicleIdentity(1L, "ABC-1234", "BMW", "135i", 2023);
+    private static final VehicleIdentity AUDI = new VehicleIdentity(2L, "XYZ-9999", "Audi", "A4", 2024);
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VehicleIdentityCache vehicleIdentityCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        vehicleIdentityCache = new VehicleIdentityCache(vehicleRepository, new VehicleIdentityCacheProperties(),
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void shouldLoadPlateOnceAndServeRepeatsFromMemory() {
+        // Arrange
+        when(vehicleRepository.findIdentityByLicensePlate("ABC-1234")).thenReturn(Optional.of(BMW));
+
+        // Act
+        vehicleIdentityCache.find("ABC-1234");
+        Optional<VehicleIdentity> result = vehicleIdentityCache.find("ABC-1234");
+
+        // Assert
+        assertEquals(Optional.of(BMW), result);
+        verify(vehicleRepository, times(1)).findIdentityByLicensePlate("ABC-1234");
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void shouldNotCacheUnknownPlate() {
+        // Arrange
+        when(vehicleRepository.findIdentityByLicensePlate("NEW-0001"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(new VehicleIdentity(3L, "NEW-0001", "BMW", "X1", 2025)));
+
+        // Act
+        Optional<VehicleIdentity> beforeRegistration = vehicleIdentityCache.find("NEW-0001");
+        Optional<VehicleIdentity> afterRegistration = vehicleIdentityCache.find("NEW-0001");
+
+        // Assert
+        assertTrue(beforeRegistration.isEmpty());
+        assertEquals(3L, afterRegistration.orElseThrow().getId());
+    }
+
+    @Test
+    void shouldLoadOnlyMissingPlatesInOneQuery() {
+        // Arrange
+        when(vehicleRepository.findIdentityByLicensePlate("ABC-1234")).thenReturn(Optional.of(BMW));
+        when(vehicleRepository.findIdentitiesByLicensePlateIn(Set.of("XYZ-9999", "NOPE-0000"))).thenReturn(List.of(AUDI));
+        vehicleIdentityCache.find("ABC-1234");
+
+        // Act
+        Map<String, VehicleIdentity> result = vehicleIdentityCache.findAll(List.of("ABC-1234", "XYZ-9999", "NOPE-0000"));
+
+        // Assert
+        assertEquals(Map.of("ABC-1234", BMW, "XYZ-9999", AUDI), result);
+        verify(vehicleRepository, times(1)).findIdentitiesByLicensePlateIn(any());
+    }
+
+    @Test
+    void shouldInvalidateAgainWhenTransactionCompletes() {
+        // Arrange
+        when(vehicleRepository.findIdentityByLicensePlate("ABC-1234")).thenReturn(Optional.of(BMW));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        vehicleIdentityCache.invalidate("ABC-1234");
+        vehicleIdentityCache.find("ABC-1234");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        vehicleIdentityCache.find("ABC-1234");
+
+        // Assert
+        verify(vehicleRepository, times(2)).findIdentityByLicensePlate("ABC-1234");
+    }
+}
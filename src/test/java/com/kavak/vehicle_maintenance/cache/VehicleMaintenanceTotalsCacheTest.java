@@ -0,0 +1,84 @@
+package com.kavak.vehicle_maintenance.cache;
+
+import com.kavak.vehicle_maintenance.domain.VehicleMaintenanceTotals;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VehicleMaintenanceTotalsCacheTest {
+
+    private static final VehicleMaintenanceTotals BUSY = new VehicleMaintenanceTotals(1, BigDecimal.ZERO, 1);
+    private static final VehicleMaintenanceTotals FREE = new VehicleMaintenanceTotals(0, new BigDecimal("80.00"), 2);
+
+    @Mock
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    private VehicleMaintenanceTotalsCache totalsCache;
+
+    @BeforeEach
+    void setUp() {
+        totalsCache = new VehicleMaintenanceTotalsCache(summaryRepository,
+                new VehicleMaintenanceTotalsCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldServeRepeatedReadsWithoutQuerying() {
+        // Arrange
+        when(summaryRepository.findTotals(1L)).thenReturn(BUSY);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            totalsCache.get(1L);
+        }
+
+        // Assert
+        assertEquals(BUSY, totalsCache.get(1L));
+        verify(summaryRepository, times(1)).findTotals(1L);
+    }
+
+    @Test
+    void shouldReloadOnlyVehiclesOfTheEvent() {
+        // Arrange
+        when(summaryRepository.findTotals(1L)).thenReturn(BUSY, FREE);
+        when(summaryRepository.findTotals(2L)).thenReturn(BUSY);
+        totalsCache.get(1L);
+        totalsCache.get(2L);
+
+        // Act
+        totalsCache.onMaintenancesChanged(VehicleMaintenancesChangedEvent.of(List.of(1L)));
+
+        // Assert
+        assertEquals(FREE, totalsCache.get(1L));
+        assertEquals(BUSY, totalsCache.get(2L));
+        verify(summaryRepository, times(2)).findTotals(1L);
+        verify(summaryRepository, times(1)).findTotals(2L);
+    }
+
+    @Test
+    void shouldReloadEveryVehicleAfterRebuild() {
+        // Arrange
+        when(summaryRepository.findTotals(anyLong())).thenReturn(BUSY);
+        totalsCache.get(1L);
+        totalsCache.get(2L);
+
+        // Act
+        totalsCache.onMaintenancesChanged(VehicleMaintenancesChangedEvent.allVehicles());
+        totalsCache.get(1L);
+        totalsCache.get(2L);
+
+        // Assert
+        verify(summaryRepository, times(4)).findTotals(anyLong());
+    }
+}
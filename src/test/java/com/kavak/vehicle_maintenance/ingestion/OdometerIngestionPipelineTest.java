@@ -0,0 +1,103 @@
+package com.kavak.vehicle_maintenance.ingestion;
+
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OdometerIngestionPipelineTest {
+
+    @Mock
+    private VehicleJdbcRepository vehicleJdbcRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OdometerIngestionPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        OdometerIngestionProperties properties = new OdometerIngestionProperties();
+        properties.setBufferCapacity(2);
+        properties.setStripes(4);
+        properties.setFlushThreshold(1_000);
+        properties.setFlushInterval(Duration.ofHours(1));
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new OdometerIngestionPipeline(vehicleJdbcRepository, properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        pipeline.shutdown();
+    }
+
+    @Test
+    void shouldFlushCoalescedReadingsInOneSortedStatement() {
+        // Arrange
+        pipeline.offer("XYZ-9999", 10);
+        pipeline.offer("ABC-1234", 100);
+        pipeline.offer("ABC-1234", 200);
+
+        // Act
+        int written = pipeline.flush();
+
+        // Assert
+        assertEquals(2, written);
+        verify(vehicleJdbcRepository, times(1)).advanceMileages(List.of("ABC-1234", "XYZ-9999"), List.of(200, 10));
+        assertEquals(3, meterRegistry.counter("odometer.readings.received").count());
+        assertEquals(1, meterRegistry.counter("odometer.readings.coalesced").count());
+        assertEquals(1, meterRegistry.timer("odometer.flush.latency").count());
+    }
+
+    @Test
+    void shouldRefuseNewVehiclesWhenBufferIsFull() {
+        // Arrange
+        pipeline.offer("ABC-1234", 100);
+        pipeline.offer("XYZ-9999", 100);
+
+        // Act
+        boolean accepted = pipeline.offer("DEF-5678", 100);
+
+        // Assert
+        assertFalse(accepted);
+        assertEquals(1, meterRegistry.counter("odometer.readings.rejected").count());
+    }
+
+    @Test
+    void shouldKeepReadingsWhenFlushFails() {
+        // Arrange
+        pipeline.offer("ABC-1234", 100);
+        when(vehicleJdbcRepository.advanceMileages(anyList(), anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        // Act & Assert
+        assertThrows(QueryTimeoutException.class, () -> pipeline.flush());
+        assertEquals(1, pipeline.bufferedVehicles());
+        assertEquals(1, meterRegistry.counter("odometer.flush.failures").count());
+    }
+
+    @Test
+    void shouldFlushRemainingReadingsOnShutdown() throws InterruptedException {
+        // Arrange
+        pipeline.offer("ABC-1234", 100);
+
+        // Act
+        pipeline.shutdown();
+
+        // Assert
+        verify(vehicleJdbcRepository).advanceMileages(List.of("ABC-1234"), List.of(100));
+        assertEquals(0, pipeline.bufferedVehicles());
+    }
+}
@@ -0,0 +1,101 @@
+package com.kavak.vehicle_maintenance.ingestion;
+
+import com.kavak.vehicle_maintenance.ingestion.OdometerReadingBuffer.OfferResult;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OdometerReadingBufferTest {
+
+    @Test
+    void shouldKeepHighestReadingPerPlate() {
+        // Arrange
+        OdometerReadingBuffer buffer = new OdometerReadingBuffer(10, 4);
+
+        // Act
+        OfferResult first = buffer.offer("ABC-1234", 100);
+        OfferResult higher = buffer.offer("ABC-1234", 300);
+        OfferResult lower = buffer.offer("ABC-1234", 200);
+
+        // Assert
+        assertEquals(OfferResult.ADDED, first);
+        assertEquals(OfferResult.COALESCED, higher);
+        assertEquals(OfferResult.COALESCED, lower);
+        assertEquals(1, buffer.size());
+        assertEquals(Map.of("ABC-1234", 300), buffer.drain());
+    }
+
+    @Test
+    void shouldRejectNewPlatesWhenFullButStillCoalesce() {
+        // Arrange
+        OdometerReadingBuffer buffer = new OdometerReadingBuffer(1, 4);
+        buffer.offer("ABC-1234", 100);
+
+        // Act
+        OfferResult newPlate = buffer.offer("XYZ-9999", 100);
+        OfferResult samePlate = buffer.offer("ABC-1234", 150);
+
+        // Assert
+        assertEquals(OfferResult.REJECTED, newPlate);
+        assertEquals(OfferResult.COALESCED, samePlate);
+    }
+
+    @Test
+    void shouldEmptyBufferOnDrain() {
+        // Arrange
+        OdometerReadingBuffer buffer = new OdometerReadingBuffer(1, 4);
+        buffer.offer("ABC-1234", 100);
+
+        // Act
+        buffer.drain();
+
+        // Assert
+        assertEquals(0, buffer.size());
+        assertEquals(OfferResult.ADDED, buffer.offer("XYZ-9999", 100));
+    }
+
+    @Test
+    void shouldRestoreFailedFlushKeepingMaximum() {
+        // Arrange
+        OdometerReadingBuffer buffer = new OdometerReadingBuffer(10, 4);
+        buffer.offer("ABC-1234", 500);
+
+        // Act
+        buffer.restore(Map.of("ABC-1234", 400, "XYZ-9999", 100));
+
+        // Assert
+        assertEquals(2, buffer.size());
+        assertEquals(Map.of("ABC-1234", 500, "XYZ-9999", 100), buffer.drain());
+    }
+
+    @Test
+    void shouldKeepMaximumUnderConcurrentOffers() throws InterruptedException {
+        // Arrange
+        OdometerReadingBuffer buffer = new OdometerReadingBuffer(100, 8);
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        // Act
+        for (int thread = 0; thread < 8; thread++) {
+            int offset = thread;
+            pool.execute(() -> {
+                for (int mileage = offset; mileage < 10_000; mileage += 8) {
+                    buffer.offer("PLATE-" + (mileage % 50), mileage);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        // Assert
+        Map<String, Integer> drained = buffer.drain();
+        assertEquals(50, drained.size());
+        for (int plate = 0; plate < 50; plate++) {
+            assertEquals(9_950 + plate, drained.get("PLATE-" + plate));
+        }
+    }
+}
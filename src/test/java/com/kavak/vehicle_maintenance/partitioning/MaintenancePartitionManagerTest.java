@@ -0,0 +1,130 @@
+package com.kavak.vehicle_maintenance.partitioning;
+
+import com.kavak.vehicle_maintenance.repository.MaintenancePartitionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+class MaintenancePartitionManagerTest {
+
+    private static final Clock OCTOBER_2026 = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private MaintenancePartitionRepository partitionRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private MaintenancePartitionProperties properties;
+
+    private MaintenancePartitionManager maintenancePartitionManager;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MaintenancePartitionProperties();
+        maintenancePartitionManager = new MaintenancePartitionManager(
+                partitionRepository, properties, transactionTemplate, OCTOBER_2026);
+        lenient().doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void shouldCreateOnlyMissingPartitionsAhead() {
+        // Arrange
+        when(partitionRepository.tryLock()).thenReturn(true);
+        when(partitionRepository.findPartitionMonths())
+                .thenReturn(List.of(YearMonth.of(2026, 10), YearMonth.of(2026, 11)));
+
+        // Act
+        maintenancePartitionManager.maintain();
+
+        // Assert
+        InOrder inOrder = inOrder(partitionRepository);
+        inOrder.verify(partitionRepository).createPartition(YearMonth.of(2026, 12));
+        inOrder.verify(partitionRepository).createPartition(YearMonth.of(2027, 1));
+        verify(partitionRepository, times(2)).createPartition(any());
+        verify(partitionRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    void shouldDropEmptyPartitionsOlderThanRetention() {
+        // Arrange
+        properties.setRetentionMonths(12);
+        when(partitionRepository.tryLock()).thenReturn(true);
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2025, 10), YearMonth.of(2026, 10),
+                YearMonth.of(2026, 11), YearMonth.of(2026, 12), YearMonth.of(2027, 1)));
+        when(partitionRepository.lockIfEmpty(YearMonth.of(2025, 8))).thenReturn(true);
+        when(partitionRepository.lockIfEmpty(YearMonth.of(2025, 9))).thenReturn(false);
+
+        // Act
+        maintenancePartitionManager.maintain();
+
+        // Assert
+        verify(partitionRepository).dropPartition(YearMonth.of(2025, 8));
+        verify(partitionRepository, never()).dropPartition(YearMonth.of(2025, 9));
+        verify(partitionRepository, never()).lockIfEmpty(YearMonth.of(2025, 10));
+        verify(partitionRepository, never()).createPartition(any());
+    }
+
+    @Test
+    void shouldNotDropAnythingWithoutRetention() {
+        // Arrange
+        when(partitionRepository.tryLock()).thenReturn(true);
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of(
+                YearMonth.of(2015, 1), YearMonth.of(2026, 10), YearMonth.of(2026, 11),
+                YearMonth.of(2026, 12), YearMonth.of(2027, 1)));
+
+        // Act
+        maintenancePartitionManager.maintain();
+
+        // Assert
+        verify(partitionRepository, never()).lockIfEmpty(any());
+        verify(partitionRepository, never()).dropPartition(any());
+    }
+
+    @Test
+    void shouldSkipWhenAnotherInstanceHoldsTheLock() {
+        // Arrange
+        when(partitionRepository.tryLock()).thenReturn(false);
+
+        // Act
+        maintenancePartitionManager.maintain();
+
+        // Assert
+        verify(partitionRepository, never()).findPartitionMonths();
+        verify(partitionRepository, never()).createPartition(any());
+    }
+
+    @Test
+    void shouldNotPropagateDatabaseFailures() {
+        // Arrange
+        when(partitionRepository.tryLock()).thenReturn(true);
+        when(partitionRepository.findPartitionMonths()).thenReturn(List.of());
+        doThrow(new CannotAcquireLockException("lock timeout")).when(partitionRepository).createPartition(any());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> maintenancePartitionManager.maintain());
+    }
+}
@@ -0,0 +1,162 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(replica.getConnection()).thenReturn(replicaConnection);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor, new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadConsistency.clear();
+    }
+
+    @Test
+    void shouldSendReadOnlyTransactionToReplica() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.canServe(null)).thenReturn(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(replicaConnection, connection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void shouldSendReadWriteTransactionToPrimaryAndMarkWriteAfterCommit() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertFalse(ReadConsistency.wroteToPrimary());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertTrue(ReadConsistency.wroteToPrimary());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void shouldNotMarkWriteForPrimaryConnectionOutsideTransaction() throws SQLException {
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertFalse(ReadConsistency.wroteToPrimary());
+        assertFalse(TransactionSynchronizationManager.isSynchronizationActive());
+    }
+
+    @Test
+    void shouldReadFromPrimaryUntilReplicaReachesToken() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        ReadConsistency.require(0x3A1DC200L);
+        when(lagMonitor.canServe(0x3A1DC200L)).thenReturn(false);
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        assertFalse(ReadConsistency.wroteToPrimary());
+        verify(replica, never()).getConnection();
+    }
+
+    @Test
+    void shouldFallBackToPrimaryWhenReplicaConnectionFails() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.canServe(null)).thenReturn(true);
+        when(replica.getConnection()).thenThrow(new SQLTransientConnectionException("timed out"));
+
+        // Act
+        Connection connection = routingDataSource.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(lagMonitor).markUnavailable();
+    }
+
+    @Test
+    void shouldRouteConnectionsWithExplicitCredentials() throws SQLException {
+        // Arrange
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        when(lagMonitor.canServe(null)).thenReturn(true);
+        when(replica.getConnection("reporting", "secret")).thenThrow(new SQLTransientConnectionException("timed out"));
+        when(primary.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+
+        // Act
+        Connection connection = routingDataSource.getConnection("reporting", "secret");
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verify(lagMonitor).markUnavailable();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void shouldAlwaysUsePrimaryWithoutReplica() throws SQLException {
+        // Arrange
+        ReplicaRoutingDataSource primaryOnly = new ReplicaRoutingDataSource(primary, null, lagMonitor,
+                new SimpleMeterRegistry());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // Act
+        Connection connection = primaryOnly.getConnection();
+
+        // Assert
+        assertSame(primaryConnection, connection);
+        verifyNoInteractions(lagMonitor);
+    }
+}
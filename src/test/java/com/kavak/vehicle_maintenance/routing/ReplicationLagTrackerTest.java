@@ -0,0 +1,59 @@
+package com.kavak.vehicle_maintenance.routing;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplicationLagTrackerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void shouldMeasureLagFromOldestUnreplayedPosition() {
+        // Arrange
+        ReplicationLagTracker tracker = new ReplicationLagTracker(10 * SECOND);
+        tracker.recordPrimary(100, 0);
+        tracker.recordPrimary(200, SECOND);
+        tracker.recordPrimary(300, 2 * SECOND);
+
+        // Act & Assert
+        assertEquals(0, tracker.lagNanos(300, 3 * SECOND));
+        assertEquals(SECOND, tracker.lagNanos(200, 3 * SECOND));
+        assertEquals(2 * SECOND, tracker.lagNanos(150, 3 * SECOND));
+        assertEquals(3 * SECOND, tracker.lagNanos(50, 3 * SECOND));
+    }
+
+    @Test
+    void shouldNotReportLagWhilePrimaryIsIdle() {
+        // Arrange
+        ReplicationLagTracker tracker = new ReplicationLagTracker(10 * SECOND);
+        for (int second = 0; second < 30; second++) {
+            tracker.recordPrimary(100, second * SECOND);
+        }
+
+        // Act & Assert
+        assertEquals(0, tracker.lagNanos(100, 30 * SECOND));
+    }
+
+    @Test
+    void shouldKeepLatestSampleBeyondWindow() {
+        // Arrange
+        ReplicationLagTracker tracker = new ReplicationLagTracker(SECOND);
+        tracker.recordPrimary(100, 0);
+        tracker.recordPrimary(200, 5 * SECOND);
+
+        // Act & Assert
+        assertEquals(SECOND, tracker.lagNanos(150, 6 * SECOND));
+    }
+
+    @Test
+    void shouldParseLsn() {
+        // Act
+        long lsn = ReadConsistency.parseLsn("3A/1DC200");
+
+        // Assert
+        assertEquals(0x3AL << 32 | 0x1DC200L, lsn);
+        assertThrows(IllegalArgumentException.class, () -> ReadConsistency.parseLsn("garbage"));
+        assertThrows(IllegalArgumentException.class, () -> ReadConsistency.parseLsn("1/"));
+    }
+}
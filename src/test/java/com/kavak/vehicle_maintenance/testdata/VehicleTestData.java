@@ -1,6 +1,7 @@
 package com.kavak.vehicle_maintenance.testdata;
 
 import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
 
 import java.util.ArrayList;
 
@@ -47,6 +48,11 @@ public class VehicleTestData {
                 .build();
     }
     
+    public static VehicleIdentity identityOf(Vehicle vehicle) {
+        return new VehicleIdentity(vehicle.getId(), vehicle.getLicensePlate(),
+                vehicle.getBrand(), vehicle.getModel(), vehicle.getYear());
+    }
+    
     public static Vehicle createAnotherValidVehicle() {
         return Vehicle.builder()
                 .licensePlate(ANOTHER_LICENSE_PLATE)
@@ -0,0 +1,177 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.archive.ArchiveBlock;
+import com.kavak.vehicle_maintenance.archive.MaintenanceArchiveProperties;
+import com.kavak.vehicle_maintenance.archive.MaintenanceSegmentStore;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceArchiveJobResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceArchiveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+class ArchiveClosedMaintenancesUseCaseTest {
+
+    private static final Clock NOW = Clock.fixed(Instant.parse("2026-10-18T10:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2025, 10, 18, 10, 0);
+
+    @Mock
+    private MaintenanceArchiveRepository archiveRepository;
+
+    @Mock
+    private MaintenanceSegmentStore segmentStore;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArchiveClosedMaintenancesUseCase archiveClosedMaintenancesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MaintenanceArchiveProperties properties = new MaintenanceArchiveProperties();
+        properties.setBatchSize(2);
+        archiveClosedMaintenancesUseCase = new ArchiveClosedMaintenancesUseCase(
+                archiveRepository, segmentStore, properties, transactionTemplate, NOW);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(archiveRepository.tryLock()).thenReturn(true);
+        lenient().when(archiveRepository.lockRollupWatermark()).thenReturn(500L);
+    }
+
+    @Test
+    void shouldArchiveBatchesUntilNothingIsLeft() {
+        // Arrange
+        when(archiveRepository.nextSegmentId()).thenReturn(1L, 2L, 3L);
+        when(archiveRepository.findArchivable(CUTOFF, 0, 500L, 2))
+                .thenReturn(List.of(closed(10L, 7L), closed(11L, 8L)));
+        when(archiveRepository.findArchivable(CUTOFF, 11, 500L, 2)).thenReturn(List.of(closed(12L, 7L)));
+        when(archiveRepository.findArchivable(CUTOFF, 12, 500L, 2)).thenReturn(List.of());
+        when(segmentStore.write(anyLong(), any())).thenReturn(List.of(mock(ArchiveBlock.class)));
+
+        // Act
+        MaintenanceArchiveJobResponseDTO result = archiveClosedMaintenancesUseCase.execute();
+
+        // Assert
+        assertEquals(3, result.getMaintenances());
+        assertEquals(2, result.getSegments());
+        verify(archiveRepository).moveToArchive(eq(List.of(10L, 11L)), eq(CUTOFF), any());
+        verify(archiveRepository).moveToArchive(eq(List.of(12L)), eq(CUTOFF), any());
+        verify(segmentStore, never()).write(eq(3L), any());
+    }
+
+    @Test
+    void shouldWriteOneBlockPerVehicle() {
+        // Arrange
+        when(archiveRepository.nextSegmentId()).thenReturn(1L, 2L);
+        when(archiveRepository.findArchivable(any(), anyLong(), anyLong(), anyInt()))
+                .thenReturn(List.of(closed(10L, 8L), closed(11L, 7L)), List.of());
+
+        // Act
+        archiveClosedMaintenancesUseCase.execute();
+
+        // Assert
+        ArgumentCaptor<Map<Long, List<MaintenanceResponseDTO>>> rows = ArgumentCaptor.forClass(Map.class);
+        verify(segmentStore).write(eq(1L), rows.capture());
+        assertEquals(List.of(7L, 8L), List.copyOf(rows.getValue().keySet()));
+    }
+
+    @Test
+    void shouldDeleteSegmentWhenBatchFails() {
+        // Arrange
+        when(archiveRepository.nextSegmentId()).thenReturn(1L);
+        when(archiveRepository.findArchivable(any(), anyLong(), anyLong(), anyInt()))
+                .thenReturn(List.of(closed(10L, 7L)));
+        when(archiveRepository.moveToArchive(any(), any(), any()))
+                .thenThrow(new DataIntegrityViolationException("boom"));
+
+        // Act & Assert
+        assertThrows(DataIntegrityViolationException.class, () -> archiveClosedMaintenancesUseCase.execute());
+        verify(segmentStore).delete(1L);
+    }
+
+    @Test
+    void shouldKeepSegmentWhenFailedBatchCommittedAnyway() {
+        // Arrange
+        when(archiveRepository.nextSegmentId()).thenReturn(1L);
+        when(archiveRepository.findArchivable(any(), anyLong(), anyLong(), anyInt()))
+                .thenReturn(List.of(closed(10L, 7L)));
+        // The connection dropped during COMMIT, after the server had committed
+        when(archiveRepository.moveToArchive(any(), any(), any()))
+                .thenThrow(new TransactionSystemException("I/O error during COMMIT"));
+        when(archiveRepository.isSegmentReferenced(1L)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(TransactionSystemException.class, () -> archiveClosedMaintenancesUseCase.execute());
+        verify(segmentStore, never()).delete(anyLong());
+    }
+
+    @Test
+    void shouldKeepSegmentWhenItsReferencesCannotBeChecked() {
+        // Arrange
+        when(archiveRepository.nextSegmentId()).thenReturn(1L);
+        when(archiveRepository.findArchivable(any(), anyLong(), anyLong(), anyInt()))
+                .thenReturn(List.of(closed(10L, 7L)));
+        when(archiveRepository.moveToArchive(any(), any(), any()))
+                .thenThrow(new TransactionSystemException("I/O error during COMMIT"));
+        when(archiveRepository.isSegmentReferenced(1L))
+                .thenThrow(new CannotGetJdbcConnectionException("connection refused"));
+
+        // Act & Assert
+        assertThrows(TransactionSystemException.class, () -> archiveClosedMaintenancesUseCase.execute());
+        verify(segmentStore, never()).delete(anyLong());
+    }
+
+    @Test
+    void shouldStopWhenAnotherInstanceIsArchiving() {
+        // Arrange
+        when(archiveRepository.tryLock()).thenReturn(false);
+
+        // Act
+        MaintenanceArchiveJobResponseDTO result = archiveClosedMaintenancesUseCase.execute();
+
+        // Assert
+        assertEquals(0, result.getMaintenances());
+        verify(archiveRepository, never()).findArchivable(any(), anyLong(), anyLong(), anyInt());
+        verifyNoInteractions(segmentStore);
+    }
+
+    private MaintenanceResponseDTO closed(Long id, Long vehicleId) {
+        return MaintenanceResponseDTO.builder()
+                .id(id)
+                .vehicleId(vehicleId)
+                .type(MaintenanceType.TIRES)
+                .description("Tire rotation")
+                .creationDate(CUTOFF.minusMonths(3))
+                .status(MaintenanceStatus.COMPLETED)
+                .estimatedCost(new BigDecimal("90.00"))
+                .finalCost(new BigDecimal("95.00"))
+                .build();
+    }
+}
@@ -1,25 +1,31 @@
 package com.kavak.vehicle_maintenance.usecase;
 
 import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.MaintenanceSummaryDelta;
 import com.kavak.vehicle_maintenance.domain.Vehicle;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
 import com.kavak.vehicle_maintenance.exception.InvalidStateTransitionException;
 import com.kavak.vehicle_maintenance.exception.MaintenanceNotFoundException;
 import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
 import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +34,12 @@ class ChangeMaintenanceStatusUseCaseTest {
     @Mock
     private MaintenanceRepository maintenanceRepository;
 
+    @Mock
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ChangeMaintenanceStatusUseCase changeMaintenanceStatusUseCase;
 
@@ -35,8 +47,8 @@ class ChangeMaintenanceStatusUseCaseTest {
     void shouldChangePendingToInProgress() {
         // Arrange
         Maintenance maintenance = createMaintenance(MaintenanceStatus.PENDING);
-        when(maintenanceRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
-        when(maintenanceRepository.save(any(Maintenance.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(maintenanceRepository.transitionStatus(eq(maintenance.getId()), eq("IN_PROGRESS"), eq(Set.of("PENDING")), isNull()))
+                .thenReturn(Optional.of(withStatus(maintenance, MaintenanceStatus.IN_PROGRESS)));
 
         // Act
         Maintenance result = changeMaintenanceStatusUseCase.execute(
@@ -44,15 +56,17 @@ class ChangeMaintenanceStatusUseCaseTest {
 
         // Assert
         assertEquals(MaintenanceStatus.IN_PROGRESS, result.getStatus());
-        verify(maintenanceRepository, times(1)).save(maintenance);
+        verify(maintenanceRepository, never()).findById(any());
+        verify(maintenanceRepository, never()).save(any(Maintenance.class));
     }
 
     @Test
     void shouldChangePendingToCancelled() {
         // Arrange
         Maintenance maintenance = createMaintenance(MaintenanceStatus.PENDING);
-        when(maintenanceRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
-        when(maintenanceRepository.save(any(Maintenance.class))).thenAnswer(inv -> inv.getArgument(0));
+        when(maintenanceRepository.transitionStatus(eq(maintenance.getId()), eq("CANCELLED"),
+                eq(Set.of("PENDING", "IN_PROGRESS")), isNull()))
+                .thenReturn(Optional.of(withStatus(maintenance, MaintenanceStatus.CANCELLED)));
 
         // Act
         Maintenance result = changeMaintenanceStatusUseCase.execute(
@@ -67,8 +81,10 @@ class ChangeMaintenanceStatusUseCaseTest {
         // Arrange
         Maintenance maintenance = createMaintenance(MaintenanceStatus.IN_PROGRESS);
         BigDecimal finalCost = new BigDecimal("175.50");
-        when(maintenanceRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
-        when(maintenanceRepository.save(any(Maintenance.class))).thenAnswer(inv -> inv.getArgument(0));
+        Maintenance completed = withStatus(maintenance, MaintenanceStatus.COMPLETED);
+        completed.setFinalCost(finalCost);
+        when(maintenanceRepository.transitionStatus(maintenance.getId(), "COMPLETED", Set.of("IN_PROGRESS"), finalCost))
+                .thenReturn(Optional.of(completed));
 
         // Act
         Maintenance result = changeMaintenanceStatusUseCase.execute(
@@ -77,40 +93,74 @@ class ChangeMaintenanceStatusUseCaseTest {
         // Assert
         assertEquals(MaintenanceStatus.COMPLETED, result.getStatus());
         assertEquals(finalCost, result.getFinalCost());
+        verify(summaryRepository).applyDeltas(List.of(new MaintenanceSummaryDelta(
+                maintenance.getVehicle().getId(), -1, 1, finalCost, null)));
+        verify(eventPublisher).publishEvent(VehicleMaintenancesChangedEvent.of(maintenance.getVehicle().getId()));
     }
 
     @Test
-    void shouldThrowExceptionWhenCompletingWithoutFinalCost() {
+    void shouldKeepVehicleActiveWhenStartingWork() {
         // Arrange
-        Maintenance maintenance = createMaintenance(MaintenanceStatus.IN_PROGRESS);
-        when(maintenanceRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
+        Maintenance maintenance = createMaintenance(MaintenanceStatus.PENDING);
+        when(maintenanceRepository.transitionStatus(eq(maintenance.getId()), eq("IN_PROGRESS"), anyCollection(), isNull()))
+                .thenReturn(Optional.of(withStatus(maintenance, MaintenanceStatus.IN_PROGRESS)));
+
+        // Act
+        changeMaintenanceStatusUseCase.execute(maintenance.getId(), MaintenanceStatus.IN_PROGRESS, null);
+
+        // Assert
+        verify(summaryRepository).applyDeltas(List.of(new MaintenanceSummaryDelta(
+                maintenance.getVehicle().getId(), 0, 0, BigDecimal.ZERO, null)));
+    }
+
+    @Test
+    void shouldIgnoreFinalCostWhenNotCompleting() {
+        // Arrange
+        Maintenance maintenance = createMaintenance(MaintenanceStatus.PENDING);
+        when(maintenanceRepository.transitionStatus(eq(maintenance.getId()), eq("CANCELLED"), anyCollection(), isNull()))
+                .thenReturn(Optional.of(withStatus(maintenance, MaintenanceStatus.CANCELLED)));
+
+        // Act
+        changeMaintenanceStatusUseCase.execute(maintenance.getId(), MaintenanceStatus.CANCELLED, new BigDecimal("10"));
 
+        // Assert
+        verify(maintenanceRepository).transitionStatus(eq(maintenance.getId()), eq("CANCELLED"), anyCollection(), isNull());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCompletingWithoutFinalCost() {
         // Act & Assert
-        assertThrows(InvalidStateTransitionException.class,
-                () -> changeMaintenanceStatusUseCase.execute(
-                        maintenance.getId(), MaintenanceStatus.COMPLETED, null));
+        InvalidStateTransitionException exception = assertThrows(InvalidStateTransitionException.class,
+                () -> changeMaintenanceStatusUseCase.execute(1L, MaintenanceStatus.COMPLETED, null));
         
-        verify(maintenanceRepository, never()).save(any(Maintenance.class));
+        assertEquals(MaintenanceStatusTransitions.FINAL_COST_REQUIRED_MESSAGE, exception.getMessage());
+        verifyNoInteractions(maintenanceRepository);
     }
 
     @Test
     void shouldThrowExceptionWhenTransitionFromCompletedToAny() {
         // Arrange
         Maintenance maintenance = createMaintenance(MaintenanceStatus.COMPLETED);
+        when(maintenanceRepository.transitionStatus(eq(maintenance.getId()), eq("IN_PROGRESS"), anyCollection(), isNull()))
+                .thenReturn(Optional.empty());
         when(maintenanceRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
 
         // Act & Assert
-        assertThrows(InvalidStateTransitionException.class,
+        InvalidStateTransitionException exception = assertThrows(InvalidStateTransitionException.class,
                 () -> changeMaintenanceStatusUseCase.execute(
                         maintenance.getId(), MaintenanceStatus.IN_PROGRESS, null));
         
+        assertEquals("Invalid state transition from COMPLETED to IN_PROGRESS", exception.getMessage());
         verify(maintenanceRepository, never()).save(any(Maintenance.class));
+        verifyNoInteractions(summaryRepository, eventPublisher);
     }
 
     @Test
     void shouldThrowExceptionWhenTransitionFromCancelledToCompleted() {
         // Arrange
         Maintenance maintenance = createMaintenance(MaintenanceStatus.CANCELLED);
+        when(maintenanceRepository.transitionStatus(eq(maintenance.getId()), eq("COMPLETED"), anyCollection(), any()))
+                .thenReturn(Optional.empty());
         when(maintenanceRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
 
         // Act & Assert
@@ -121,10 +171,24 @@ class ChangeMaintenanceStatusUseCaseTest {
         verify(maintenanceRepository, never()).save(any(Maintenance.class));
     }
 
+    @Test
+    void shouldRejectTransitionBackToPendingWithoutUpdating() {
+        // Arrange
+        Maintenance maintenance = createMaintenance(MaintenanceStatus.IN_PROGRESS);
+        when(maintenanceRepository.findById(maintenance.getId())).thenReturn(Optional.of(maintenance));
+
+        // Act & Assert
+        assertThrows(InvalidStateTransitionException.class,
+                () -> changeMaintenanceStatusUseCase.execute(maintenance.getId(), MaintenanceStatus.PENDING, null));
+        verify(maintenanceRepository, never()).transitionStatus(any(), any(), anyCollection(), any());
+    }
+
     @Test
     void shouldThrowExceptionWhenMaintenanceNotFound() {
         // Arrange
         Long unknownId = 999L;
+        when(maintenanceRepository.transitionStatus(eq(unknownId), eq("IN_PROGRESS"), anyCollection(), isNull()))
+                .thenReturn(Optional.empty());
         when(maintenanceRepository.findById(unknownId)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -133,6 +197,19 @@ class ChangeMaintenanceStatusUseCaseTest {
                         unknownId, MaintenanceStatus.IN_PROGRESS, null));
     }
 
+    private Maintenance withStatus(Maintenance maintenance, MaintenanceStatus status) {
+        return Maintenance.builder()
+                .id(maintenance.getId())
+                .vehicle(maintenance.getVehicle())
+                .type(maintenance.getType())
+                .description(maintenance.getDescription())
+                .estimatedCost(maintenance.getEstimatedCost())
+                .finalCost(maintenance.getFinalCost())
+                .creationDate(maintenance.getCreationDate())
+                .status(status)
+                .build();
+    }
+
     private Maintenance createMaintenance(MaintenanceStatus status) {
         Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
         return Maintenance.builder()
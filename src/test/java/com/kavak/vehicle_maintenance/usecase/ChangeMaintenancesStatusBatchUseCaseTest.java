@@ -0,0 +1,149 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.MaintenanceSummaryDelta;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceStatusBatchItemDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchItemResultDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeMaintenancesStatusBatchUseCaseTest {
+
+    @Mock
+    private MaintenanceJdbcRepository maintenanceJdbcRepository;
+
+    @Mock
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ChangeMaintenancesStatusBatchUseCase changeMaintenancesStatusBatchUseCase;
+
+    @Test
+    void shouldCompleteAllMaintenancesInOneStatement() {
+        // Arrange
+        BigDecimal cost = new BigDecimal("175.50");
+        when(maintenanceJdbcRepository.transitionStatus(anyList(), anyList(), eq(MaintenanceStatus.COMPLETED), any()))
+                .thenReturn(Map.of(1L, 10L, 2L, 20L));
+
+        // Act
+        List<BatchItemResultDTO> results = changeMaintenancesStatusBatchUseCase.execute(
+                MaintenanceStatus.COMPLETED, List.of(item(1L, cost), item(2L, cost)));
+
+        // Assert
+        assertTrue(results.stream().allMatch(BatchItemResultDTO::isSuccess));
+        verify(maintenanceJdbcRepository, times(1)).transitionStatus(
+                List.of(1L, 2L), List.of(cost, cost), MaintenanceStatus.COMPLETED, Set.of(MaintenanceStatus.IN_PROGRESS));
+        verify(maintenanceJdbcRepository, never()).findStatuses(any());
+        verify(summaryRepository).applyDeltas(List.of(
+                new MaintenanceSummaryDelta(10L, -1, 1, cost, null),
+                new MaintenanceSummaryDelta(20L, -1, 1, cost, null)));
+        verify(eventPublisher).publishEvent(VehicleMaintenancesChangedEvent.of(List.of(10L, 20L)));
+    }
+
+    @Test
+    void shouldExplainRejectedIds() {
+        // Arrange
+        when(maintenanceJdbcRepository.transitionStatus(anyList(), anyList(), eq(MaintenanceStatus.IN_PROGRESS), any()))
+                .thenReturn(Map.of(1L, 10L));
+        when(maintenanceJdbcRepository.findStatuses(List.of(2L, 3L)))
+                .thenReturn(Map.of(2L, MaintenanceStatus.COMPLETED));
+
+        // Act
+        List<BatchItemResultDTO> results = changeMaintenancesStatusBatchUseCase.execute(
+                MaintenanceStatus.IN_PROGRESS, List.of(item(1L, null), item(2L, null), item(3L, null)));
+
+        // Assert
+        assertTrue(results.get(0).isSuccess());
+        assertEquals("Invalid state transition from COMPLETED to IN_PROGRESS", results.get(1).getError());
+        assertTrue(results.get(2).getError().contains("not found"));
+        assertEquals("3", results.get(2).getReference());
+        verify(summaryRepository).applyDeltas(List.of(new MaintenanceSummaryDelta(10L, 0, 0, BigDecimal.ZERO, null)));
+    }
+
+    @Test
+    void shouldRejectCompletionWithoutFinalCostBeforeUpdating() {
+        // Arrange
+        when(maintenanceJdbcRepository.transitionStatus(anyList(), anyList(), eq(MaintenanceStatus.COMPLETED), any()))
+                .thenReturn(Map.of(2L, 10L));
+
+        // Act
+        List<BatchItemResultDTO> results = changeMaintenancesStatusBatchUseCase.execute(
+                MaintenanceStatus.COMPLETED, List.of(item(1L, null), item(2L, BigDecimal.TEN)));
+
+        // Assert
+        assertEquals(MaintenanceStatusTransitions.FINAL_COST_REQUIRED_MESSAGE, results.get(0).getError());
+        assertTrue(results.get(1).isSuccess());
+        verify(maintenanceJdbcRepository).transitionStatus(
+                List.of(2L), List.of(BigDecimal.TEN), MaintenanceStatus.COMPLETED, Set.of(MaintenanceStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void shouldIgnoreFinalCostWhenNotCompleting() {
+        // Arrange
+        when(maintenanceJdbcRepository.transitionStatus(anyList(), anyList(), eq(MaintenanceStatus.CANCELLED), any()))
+                .thenReturn(Map.of(1L, 10L));
+
+        // Act
+        changeMaintenancesStatusBatchUseCase.execute(MaintenanceStatus.CANCELLED, List.of(item(1L, BigDecimal.TEN)));
+
+        // Assert
+        verify(maintenanceJdbcRepository).transitionStatus(List.of(1L), Arrays.asList((BigDecimal) null),
+                MaintenanceStatus.CANCELLED, Set.of(MaintenanceStatus.PENDING, MaintenanceStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void shouldRejectDuplicateIdsWithinTheBatch() {
+        // Arrange
+        when(maintenanceJdbcRepository.transitionStatus(anyList(), anyList(), eq(MaintenanceStatus.CANCELLED), any()))
+                .thenReturn(Map.of(1L, 10L));
+
+        // Act
+        List<BatchItemResultDTO> results = changeMaintenancesStatusBatchUseCase.execute(
+                MaintenanceStatus.CANCELLED, List.of(item(1L, null), item(1L, null)));
+
+        // Assert
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+    }
+
+    @Test
+    void shouldSkipUpdateWhenEveryItemIsInvalid() {
+        // Act
+        List<BatchItemResultDTO> results = changeMaintenancesStatusBatchUseCase.execute(
+                MaintenanceStatus.COMPLETED, List.of(item(1L, null)));
+
+        // Assert
+        assertFalse(results.get(0).isSuccess());
+        verifyNoInteractions(maintenanceJdbcRepository, summaryRepository);
+    }
+
+    private MaintenanceStatusBatchItemDTO item(Long id, BigDecimal finalCost) {
+        return MaintenanceStatusBatchItemDTO.builder()
+                .maintenanceId(id)
+                .finalCost(finalCost)
+                .build();
+    }
+}
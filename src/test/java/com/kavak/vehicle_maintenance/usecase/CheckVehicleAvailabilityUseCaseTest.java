@@ -1,12 +1,11 @@
 package com.kavak.vehicle_maintenance.usecase;
 
-import com.kavak.vehicle_maintenance.domain.Maintenance;
-import com.kavak.vehicle_maintenance.domain.Vehicle;
-import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
-import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.cache.VehicleMaintenanceTotalsCache;
+import com.kavak.vehicle_maintenance.domain.VehicleMaintenanceTotals;
+import com.kavak.vehicle_maintenance.domain.Versioned;
 import com.kavak.vehicle_maintenance.dto.response.VehicleAvailabilityResponseDTO;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
-import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -15,155 +14,61 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 
 import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.VALID_LICENSE_PLATE;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class CheckVehicleAvailabilityUseCaseTest {
 
     @Mock
-    private VehicleRepository vehicleRepository;
+    private VehicleIdentityCache vehicleIdentityCache;
+
+    @Mock
+    private VehicleMaintenanceTotalsCache totalsCache;
 
     @InjectMocks
     private CheckVehicleAvailabilityUseCase checkVehicleAvailabilityUseCase;
 
     @Test
-    void shouldReturnTrueWhenNoMaintenances() {
+    void shouldReturnTrueWhenNoActiveMaintenances() {
         // Arrange
-        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        vehicle.setMaintenances(new ArrayList<>());
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
+        stubVehicle();
+        when(totalsCache.get(1L)).thenReturn(new VehicleMaintenanceTotals(0, new BigDecimal("120.00"), 7));
 
         // Act
-        VehicleAvailabilityResponseDTO result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
+        Versioned<VehicleAvailabilityResponseDTO> result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
 
         // Assert
         assertNotNull(result);
-        assertEquals(VALID_LICENSE_PLATE, result.getLicensePlate());
-        assertTrue(result.isAvailable());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
-    }
-
-    @Test
-    void shouldReturnTrueWhenOnlyCompletedMaintenances() {
-        // Arrange
-        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        List<Maintenance> maintenances = List.of(
-                createMaintenance(1L, vehicle, MaintenanceStatus.COMPLETED),
-                createMaintenance(2L, vehicle, MaintenanceStatus.COMPLETED)
-        );
-        vehicle.setMaintenances(maintenances);
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
-
-        // Act
-        VehicleAvailabilityResponseDTO result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
-
-        // Assert
-        assertTrue(result.isAvailable());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
-    }
-
-    @Test
-    void shouldReturnTrueWhenOnlyCancelledMaintenances() {
-        // Arrange
-        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        List<Maintenance> maintenances = List.of(
-                createMaintenance(1L, vehicle, MaintenanceStatus.CANCELLED),
-                createMaintenance(2L, vehicle, MaintenanceStatus.CANCELLED)
-        );
-        vehicle.setMaintenances(maintenances);
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
-
-        // Act
-        VehicleAvailabilityResponseDTO result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
-
-        // Assert
-        assertTrue(result.isAvailable());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        assertEquals(VALID_LICENSE_PLATE, result.getValue().getLicensePlate());
+        assertTrue(result.getValue().isAvailable());
+        assertEquals("1-7", result.getTag());
+        verify(totalsCache, times(1)).get(1L);
     }
 
     @Test
-    void shouldReturnFalseWhenHasPendingMaintenance() {
+    void shouldReturnFalseWhenHasActiveMaintenances() {
         // Arrange
-        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        List<Maintenance> maintenances = List.of(
-                createMaintenance(1L, vehicle, MaintenanceStatus.PENDING),
-                createMaintenance(2L, vehicle, MaintenanceStatus.COMPLETED)
-        );
-        vehicle.setMaintenances(maintenances);
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
-
-        // Act
-        VehicleAvailabilityResponseDTO result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
-
-        // Assert
-        assertFalse(result.isAvailable());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
-    }
-
-    @Test
-    void shouldReturnFalseWhenHasInProgressMaintenance() {
-        // Arrange
-        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        List<Maintenance> maintenances = List.of(
-                createMaintenance(1L, vehicle, MaintenanceStatus.IN_PROGRESS),
-                createMaintenance(2L, vehicle, MaintenanceStatus.COMPLETED)
-        );
-        vehicle.setMaintenances(maintenances);
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
+        stubVehicle();
+        when(totalsCache.get(1L)).thenReturn(new VehicleMaintenanceTotals(2, BigDecimal.ZERO, 7));
 
         // Act
-        VehicleAvailabilityResponseDTO result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
+        Versioned<VehicleAvailabilityResponseDTO> result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
 
         // Assert
-        assertFalse(result.isAvailable());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
-    }
-
-    @Test
-    void shouldReturnFalseWhenHasBothPendingAndInProgress() {
-        // Arrange
-        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        List<Maintenance> maintenances = List.of(
-                createMaintenance(1L, vehicle, MaintenanceStatus.PENDING),
-                createMaintenance(2L, vehicle, MaintenanceStatus.IN_PROGRESS),
-                createMaintenance(3L, vehicle, MaintenanceStatus.COMPLETED)
-        );
-        vehicle.setMaintenances(maintenances);
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
-
-        // Act
-        VehicleAvailabilityResponseDTO result = checkVehicleAvailabilityUseCase.execute(VALID_LICENSE_PLATE);
-
-        // Assert
-        assertFalse(result.isAvailable());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        assertEquals(VALID_LICENSE_PLATE, result.getValue().getLicensePlate());
+        assertFalse(result.getValue().isAvailable());
     }
 
     @Test
     void shouldThrowExceptionWhenVehicleNotFound() {
         // Arrange
         String unknownPlate = "UNKNOWN-999";
-        when(vehicleRepository.findByLicensePlate(unknownPlate))
-                .thenReturn(Optional.empty());
+        when(vehicleIdentityCache.find(unknownPlate)).thenReturn(Optional.empty());
 
         // Act & Assert
         VehicleNotFoundException exception = assertThrows(
@@ -172,18 +77,11 @@ class CheckVehicleAvailabilityUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains(unknownPlate));
-        verify(vehicleRepository, times(1)).findByLicensePlate(unknownPlate);
+        verify(totalsCache, never()).get(any());
     }
-    
-    private Maintenance createMaintenance(Long id, Vehicle vehicle, MaintenanceStatus status) {
-        return Maintenance.builder()
-                .id(id)
-                .vehicle(vehicle)
-                .type(MaintenanceType.OIL_CHANGE)
-                .description("Test maintenance")
-                .creationDate(LocalDateTime.now())
-                .status(status)
-                .estimatedCost(new BigDecimal("150.00"))
-                .build();
+
+    private void stubVehicle() {
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE))
+                .thenReturn(Optional.of(VehicleTestData.identityOf(VehicleTestData.createValidVehicleWithId())));
     }
 }
@@ -0,0 +1,126 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.kavak.vehicle_maintenance.domain.enums.ExportFormat;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceExportRowDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportMaintenancesUseCaseTest {
+    
+    @Mock
+    private MaintenanceJdbcRepository maintenanceJdbcRepository;
+    
+    private ExportMaintenancesUseCase exportMaintenancesUseCase;
+    
+    private static final LocalDateTime CREATION_DATE = LocalDateTime.of(2026, 2, 3, 15, 56);
+    
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        exportMaintenancesUseCase = new ExportMaintenancesUseCase(maintenanceJdbcRepository, objectMapper);
+    }
+    
+    @Test
+    void shouldWriteOneJsonObjectPerLine() throws Exception {
+        // Arrange
+        stubRows(List.of(
+                createRow(1L, "Oil change", MaintenanceStatus.COMPLETED, new BigDecimal("175.50")),
+                createRow(2L, "Brake pads", MaintenanceStatus.PENDING, null)
+        ));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // Act
+        long exported = exportMaintenancesUseCase.execute(ExportFormat.NDJSON, output);
+        
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[0].contains("\"creationDate\":\"2026-02-03T15:56:00\""));
+        assertTrue(lines[0].contains("\"finalCost\":175.50"));
+        assertTrue(lines[1].contains("\"finalCost\":null"));
+    }
+    
+    @Test
+    void shouldWriteCsvWithHeaderAndEscapedValues() throws Exception {
+        // Arrange
+        stubRows(List.of(
+                createRow(1L, "Replace \"front\" pads, rotors", MaintenanceStatus.COMPLETED, new BigDecimal("175.50")),
+                createRow(2L, "Oil change", MaintenanceStatus.PENDING, null)
+        ));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // Act
+        long exported = exportMaintenancesUseCase.execute(ExportFormat.CSV, output);
+        
+        // Assert
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, exported);
+        assertEquals(3, lines.length);
+        assertEquals("id,vehicleId,licensePlate,type,description,creationDate,status,estimatedCost,finalCost", lines[0]);
+        assertEquals("1,10,ABC-1234,OIL_CHANGE,\"Replace \"\"front\"\" pads, rotors\",2026-02-03T15:56,COMPLETED,150.00,175.50", lines[1]);
+        assertEquals("2,10,ABC-1234,OIL_CHANGE,Oil change,2026-02-03T15:56,PENDING,150.00,", lines[2]);
+    }
+    
+    @Test
+    void shouldWriteOnlyHeaderWhenNoRows() throws Exception {
+        // Arrange
+        stubRows(List.of());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        
+        // Act
+        long exported = exportMaintenancesUseCase.execute(ExportFormat.CSV, output);
+        
+        // Assert
+        assertEquals(0, exported);
+        assertEquals(1, output.toString(StandardCharsets.UTF_8).split("\r\n").length);
+        verify(maintenanceJdbcRepository, times(1)).streamAll(any());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private void stubRows(List<MaintenanceExportRowDTO> rows) {
+        when(maintenanceJdbcRepository.streamAll(any())).thenAnswer(invocation -> {
+            Consumer<MaintenanceExportRowDTO> consumer = invocation.getArgument(0);
+            rows.forEach(consumer);
+            return (long) rows.size();
+        });
+    }
+    
+    private MaintenanceExportRowDTO createRow(Long id, String description, MaintenanceStatus status, BigDecimal finalCost) {
+        return MaintenanceExportRowDTO.builder()
+                .id(id)
+                .vehicleId(10L)
+                .licensePlate("ABC-1234")
+                .type(MaintenanceType.OIL_CHANGE)
+                .description(description)
+                .creationDate(CREATION_DATE)
+                .status(status)
+                .estimatedCost(new BigDecimal("150.00"))
+                .finalCost(finalCost)
+                .build();
+    }
+}
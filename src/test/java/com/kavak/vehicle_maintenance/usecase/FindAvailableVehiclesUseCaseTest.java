@@ -0,0 +1,92 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.availability.FleetAvailabilityIndex;
+import com.kavak.vehicle_maintenance.domain.VehicleIdPage;
+import com.kavak.vehicle_maintenance.dto.request.AvailableVehiclesRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehiclePageResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.mapper.VehicleMapper;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FindAvailableVehiclesUseCaseTest {
+
+    @Mock
+    private FleetAvailabilityIndex availabilityIndex;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Spy
+    private VehicleMapper vehicleMapper = new VehicleMapper();
+
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
+
+    @InjectMocks
+    private FindAvailableVehiclesUseCase findAvailableVehiclesUseCase;
+
+    @Test
+    void shouldLoadOnlyTheVehiclesOfThePageInIndexOrder() {
+        // Arrange
+        AvailableVehiclesRequestDTO request = AvailableVehiclesRequestDTO.builder().brand(BRAND_BMW).limit(2).build();
+        when(availabilityIndex.findAvailable(BRAND_BMW, null, 0, 2))
+                .thenReturn(new VehicleIdPage(List.of(1L, 2L), 5, true));
+        when(vehicleRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+                VehicleTestData.createAnotherValidVehicleWithId(),
+                VehicleTestData.createValidVehicleWithId()));
+
+        // Act
+        VehiclePageResponseDTO result = findAvailableVehiclesUseCase.execute(request);
+
+        // Assert
+        assertEquals(2, result.getItems().size());
+        assertEquals(VALID_LICENSE_PLATE, result.getItems().get(0).getLicensePlate());
+        assertEquals(5L, result.getTotal());
+        assertArrayEquals(new String[]{"2"}, cursorMapper.decode(result.getNextCursor(), 1));
+    }
+
+    @Test
+    void shouldContinueAfterTheCursor() {
+        // Arrange
+        AvailableVehiclesRequestDTO request = AvailableVehiclesRequestDTO.builder()
+                .cursor(cursorMapper.encode(2L)).build();
+        when(availabilityIndex.findAvailable(null, null, 2, 20)).thenReturn(new VehicleIdPage(List.of(), 2, false));
+
+        // Act
+        VehiclePageResponseDTO result = findAvailableVehiclesUseCase.execute(request);
+
+        // Assert
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(vehicleRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        // Arrange
+        AvailableVehiclesRequestDTO request = AvailableVehiclesRequestDTO.builder()
+                .cursor(cursorMapper.encode("abc")).build();
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> findAvailableVehiclesUseCase.execute(request));
+        verify(availabilityIndex, never()).findAvailable(any(), any(), anyLong(), anyInt());
+    }
+}
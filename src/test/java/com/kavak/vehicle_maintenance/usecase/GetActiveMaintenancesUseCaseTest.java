@@ -1,166 +1,135 @@
 package com.kavak.vehicle_maintenance.usecase;
 
-import com.kavak.vehicle_maintenance.domain.Maintenance;
-import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.domain.VehicleIdentity;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
-import com.kavak.vehicle_maintenance.repository.VehicleRepository;
-import org.junit.jupiter.api.BeforeEach;
+import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class GetActiveMaintenancesUseCaseTest {
     
     @Mock
-    private VehicleRepository vehicleRepository;
+    private VehicleIdentityCache vehicleIdentityCache;
+    
+    @Mock
+    private MaintenanceRepository maintenanceRepository;
     
     @InjectMocks
     private GetActiveMaintenancesUseCase getActiveMaintenancesUseCase;
     
     private static final String VALID_LICENSE_PLATE = "ABC-1234";
-    private Vehicle vehicle;
-    
-    @BeforeEach
-    void setUp() {
-        vehicle = Vehicle.builder()
-                .id(1L)
-                .licensePlate(VALID_LICENSE_PLATE)
-                .brand("BMW")
-                .model("135i")
-                .year(2013)
-                .currentMileage(50000)
-                .maintenances(new ArrayList<>())
-                .build();
-    }
     
     @Test
-    void shouldReturnOnlyActiveMaintenances() {
+    void shouldReturnActiveMaintenancesFromProjection() {
         // Arrange
-        Maintenance pending = createMaintenance(1L, MaintenanceStatus.PENDING, null);
-        Maintenance inProgress = createMaintenance(2L, MaintenanceStatus.IN_PROGRESS, null);
-        Maintenance completed = createMaintenance(3L, MaintenanceStatus.COMPLETED, new BigDecimal("500.00"));
-        Maintenance cancelled = createMaintenance(4L, MaintenanceStatus.CANCELLED, null);
-        
-        vehicle.getMaintenances().addAll(List.of(pending, inProgress, completed, cancelled));
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
+        List<MaintenanceResponseDTO> active = List.of(
+                createResponse(1L, MaintenanceStatus.PENDING),
+                createResponse(2L, MaintenanceStatus.IN_PROGRESS)
+        );
+        when(maintenanceRepository.findResponsesByLicensePlateAndStatusIn(eq(VALID_LICENSE_PLATE), anyCollection()))
+                .thenReturn(active);
         
         // Act
-        List<Maintenance> result = getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
+        List<MaintenanceResponseDTO> result = getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
         
         // Assert
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertTrue(result.stream().anyMatch(m -> m.getStatus() == MaintenanceStatus.PENDING));
-        assertTrue(result.stream().anyMatch(m -> m.getStatus() == MaintenanceStatus.IN_PROGRESS));
-        assertFalse(result.stream().anyMatch(m -> m.getStatus() == MaintenanceStatus.COMPLETED));
-        assertFalse(result.stream().anyMatch(m -> m.getStatus() == MaintenanceStatus.CANCELLED));
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        assertEquals(active, result);
     }
     
+    @SuppressWarnings("unchecked")
     @Test
-    void shouldReturnEmptyListWhenNoActiveMaintenances() {
+    void shouldFilterOnPendingAndInProgressStatuses() {
         // Arrange
-        Maintenance completed = createMaintenance(1L, MaintenanceStatus.COMPLETED, new BigDecimal("500.00"));
-        Maintenance cancelled = createMaintenance(2L, MaintenanceStatus.CANCELLED, null);
-        
-        vehicle.getMaintenances().addAll(List.of(completed, cancelled));
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
+        ArgumentCaptor<Collection<MaintenanceStatus>> statusesCaptor = ArgumentCaptor.forClass(Collection.class);
+        when(maintenanceRepository.findResponsesByLicensePlateAndStatusIn(eq(VALID_LICENSE_PLATE), anyCollection()))
+                .thenReturn(List.of(createResponse(1L, MaintenanceStatus.PENDING)));
         
         // Act
-        List<Maintenance> result = getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
+        getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
         
         // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        verify(maintenanceRepository).findResponsesByLicensePlateAndStatusIn(eq(VALID_LICENSE_PLATE), statusesCaptor.capture());
+        assertEquals(Set.of(MaintenanceStatus.PENDING, MaintenanceStatus.IN_PROGRESS), Set.copyOf(statusesCaptor.getValue()));
     }
     
     @Test
-    void shouldReturnEmptyListWhenVehicleHasNoMaintenances() {
+    void shouldSkipVehicleLookupWhenActiveMaintenancesExist() {
         // Arrange
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
+        when(maintenanceRepository.findResponsesByLicensePlateAndStatusIn(eq(VALID_LICENSE_PLATE), anyCollection()))
+                .thenReturn(List.of(createResponse(1L, MaintenanceStatus.IN_PROGRESS)));
         
         // Act
-        List<Maintenance> result = getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
+        getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
         
         // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        verify(maintenanceRepository, times(1)).findResponsesByLicensePlateAndStatusIn(eq(VALID_LICENSE_PLATE), anyCollection());
+        verifyNoMoreInteractions(maintenanceRepository);
+        verifyNoInteractions(vehicleIdentityCache);
     }
     
     @Test
-    void shouldReturnOnlyPendingWhenNoInProgress() {
-        // Arrange
-        Maintenance pending = createMaintenance(1L, MaintenanceStatus.PENDING, null);
-        
-        vehicle.getMaintenances().add(pending);
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
-        
-        // Act
-        List<Maintenance> result = getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
-        
-        // Assert
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(MaintenanceStatus.PENDING, result.get(0).getStatus());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
-    }
-    
-    @Test
-    void shouldReturnOnlyInProgressWhenNoPending() {
+    void shouldReturnEmptyListWhenNoActiveMaintenances() {
         // Arrange
-        Maintenance inProgress = createMaintenance(1L, MaintenanceStatus.IN_PROGRESS, null);
-        
-        vehicle.getMaintenances().add(inProgress);
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
+        when(maintenanceRepository.findResponsesByLicensePlateAndStatusIn(eq(VALID_LICENSE_PLATE), anyCollection()))
+                .thenReturn(List.of());
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE))
+                .thenReturn(Optional.of(new VehicleIdentity(1L, VALID_LICENSE_PLATE, "BMW", "135i", 2023)));
         
         // Act
-        List<Maintenance> result = getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
+        List<MaintenanceResponseDTO> result = getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
         
         // Assert
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(MaintenanceStatus.IN_PROGRESS, result.get(0).getStatus());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        assertTrue(result.isEmpty());
+        verify(vehicleIdentityCache, times(1)).find(VALID_LICENSE_PLATE);
     }
     
     @Test
     void shouldThrowExceptionWhenVehicleNotFound() {
         // Arrange
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.empty());
+        when(maintenanceRepository.findResponsesByLicensePlateAndStatusIn(eq(VALID_LICENSE_PLATE), anyCollection()))
+                .thenReturn(List.of());
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.empty());
         
         // Act & Assert
         assertThrows(VehicleNotFoundException.class, () -> {
             getActiveMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
         });
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        verify(vehicleIdentityCache, times(1)).find(VALID_LICENSE_PLATE);
     }
     
-    private Maintenance createMaintenance(Long id, MaintenanceStatus status, BigDecimal finalCost) {
-        return Maintenance.builder()
+    private MaintenanceResponseDTO createResponse(Long id, MaintenanceStatus status) {
+        return MaintenanceResponseDTO.builder()
                 .id(id)
-                .vehicle(vehicle)
+                .vehicleId(1L)
                 .type(MaintenanceType.OIL_CHANGE)
                 .description("Test maintenance")
                 .creationDate(LocalDateTime.now())
                 .estimatedCost(new BigDecimal("300.00"))
                 .status(status)
-                .finalCost(finalCost)
                 .build();
     }
 }
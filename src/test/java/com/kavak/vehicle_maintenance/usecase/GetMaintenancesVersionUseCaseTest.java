@@ -0,0 +1,55 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.VALID_LICENSE_PLATE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetMaintenancesVersionUseCaseTest {
+
+    @Mock
+    private VehicleIdentityCache vehicleIdentityCache;
+
+    @Mock
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    @InjectMocks
+    private GetMaintenancesVersionUseCase getMaintenancesVersionUseCase;
+
+    @Test
+    void shouldReturnTagFromSummaryVersion() {
+        // Arrange
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE))
+                .thenReturn(Optional.of(VehicleTestData.identityOf(VehicleTestData.createValidVehicleWithId())));
+        when(summaryRepository.findMaintenancesVersion(1L)).thenReturn(12L);
+
+        // Act
+        String tag = getMaintenancesVersionUseCase.execute(VALID_LICENSE_PLATE);
+
+        // Assert
+        assertEquals("1-12", tag);
+    }
+
+    @Test
+    void shouldThrowExceptionWhenVehicleNotFound() {
+        // Arrange
+        String unknownPlate = "UNKNOWN-999";
+        when(vehicleIdentityCache.find(unknownPlate)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(VehicleNotFoundException.class, () -> getMaintenancesVersionUseCase.execute(unknownPlate));
+        verifyNoInteractions(summaryRepository);
+    }
+}
@@ -1,17 +1,27 @@
 package com.kavak.vehicle_maintenance.usecase;
 
+import com.kavak.vehicle_maintenance.archive.MaintenanceArchiveReader;
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
 import com.kavak.vehicle_maintenance.domain.Maintenance;
 import com.kavak.vehicle_maintenance.domain.Vehicle;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceHistoryRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenancePageResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
-import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.mapper.MaintenanceMapper;
+import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
 import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -21,109 +31,216 @@ import java.util.Optional;
 
 import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.VALID_LICENSE_PLATE;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
+@SuppressWarnings("unchecked")
 @ExtendWith(MockitoExtension.class)
 class GetVehicleMaintenancesUseCaseTest {
 
     @Mock
-    private VehicleRepository vehicleRepository;
+    private VehicleIdentityCache vehicleIdentityCache;
+
+    @Mock
+    private MaintenanceRepository maintenanceRepository;
+
+    @Mock
+    private MaintenanceArchiveReader maintenanceArchiveReader;
+
+    @Spy
+    private MaintenanceMapper maintenanceMapper = new MaintenanceMapper();
+
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
 
     @InjectMocks
     private GetVehicleMaintenancesUseCase getVehicleMaintenancesUseCase;
 
     @Test
-    void shouldReturnAllMaintenancesSuccessfully() {
+    void shouldReturnLastPageWithoutCursor() {
         // Arrange
         Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        List<Maintenance> maintenances = createTestMaintenances(vehicle);
-        vehicle.setMaintenances(maintenances);
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
+        List<Maintenance> maintenances = createTestMaintenances(vehicle, 3);
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.of(VehicleTestData.identityOf(vehicle)));
+        when(maintenanceRepository.findBy(any(Specification.class), any())).thenReturn(maintenances);
 
         // Act
-        List<Maintenance> result = getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
+        MaintenancePageResponseDTO result = getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE, defaultRequest(20));
 
         // Assert
         assertNotNull(result);
-        assertEquals(3, result.size());
-        assertEquals(MaintenanceType.OIL_CHANGE, result.get(0).getType());
-        assertEquals(MaintenanceStatus.PENDING, result.get(0).getStatus());
-        assertEquals(MaintenanceType.BRAKES, result.get(1).getType());
-        assertEquals(MaintenanceStatus.IN_PROGRESS, result.get(1).getStatus());
-        assertEquals(MaintenanceType.TIRES, result.get(2).getType());
-        assertEquals(MaintenanceStatus.COMPLETED, result.get(2).getStatus());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        assertEquals(3, result.getItems().size());
+        assertEquals(1L, result.getItems().get(0).getId());
+        assertEquals(vehicle.getId(), result.getItems().get(0).getVehicleId());
+        assertNull(result.getNextCursor());
     }
 
     @Test
-    void shouldReturnEmptyListWhenNoMaintenances() {
+    void shouldReturnNextCursorWhenMoreRowsExist() {
         // Arrange
         Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
-        vehicle.setMaintenances(new ArrayList<>());
-        
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE))
-                .thenReturn(Optional.of(vehicle));
+        List<Maintenance> maintenances = createTestMaintenances(vehicle, 3);
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.of(VehicleTestData.identityOf(vehicle)));
+        when(maintenanceRepository.findBy(any(Specification.class), any())).thenReturn(maintenances);
 
         // Act
-        List<Maintenance> result = getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE);
+        MaintenancePageResponseDTO result = getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE, defaultRequest(2));
 
         // Assert
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        assertEquals(2, result.getItems().size());
+        assertNotNull(result.getNextCursor());
+        String[] position = cursorMapper.decode(result.getNextCursor(), 2);
+        assertEquals(maintenances.get(1).getCreationDate().toString(), position[0]);
+        assertEquals("2", position[1]);
+    }
+
+    @Test
+    void shouldAcceptCursorFromPreviousPage() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        MaintenanceHistoryRequestDTO request = defaultRequest(2);
+        request.setCursor(cursorMapper.encode(LocalDateTime.now(), 5L));
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.of(VehicleTestData.identityOf(vehicle)));
+        when(maintenanceRepository.findBy(any(Specification.class), any())).thenReturn(new ArrayList<>());
+
+        // Act
+        MaintenancePageResponseDTO result = getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE, request);
+
+        // Assert
+        assertTrue(result.getItems().isEmpty());
+        assertNull(result.getNextCursor());
+        verify(maintenanceRepository, times(1)).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCursorIsMalformed() {
+        // Arrange
+        MaintenanceHistoryRequestDTO request = defaultRequest(2);
+        request.setCursor("not-a-cursor");
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE))
+                .thenReturn(Optional.of(VehicleTestData.identityOf(VehicleTestData.createValidVehicleWithId())));
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class,
+                () -> getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE, request));
+        verify(maintenanceRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @Test
+    void shouldNotReadArchiveUnlessRequested() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.of(VehicleTestData.identityOf(vehicle)));
+        when(maintenanceRepository.findBy(any(Specification.class), any()))
+                .thenReturn(createTestMaintenances(vehicle, 2));
+
+        // Act
+        getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE, defaultRequest(20));
+
+        // Assert
+        verifyNoInteractions(maintenanceArchiveReader);
+    }
+
+    @Test
+    void shouldMergeArchivedMaintenancesInHistoryOrder() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        List<Maintenance> hot = createTestMaintenances(vehicle, 2);
+        LocalDateTime now = LocalDateTime.now();
+        List<MaintenanceResponseDTO> archived = List.of(
+                archivedMaintenance(vehicle, 10L, now.minusHours(1)),
+                archivedMaintenance(vehicle, 11L, now.minusYears(2)));
+        MaintenanceHistoryRequestDTO request = defaultRequest(3);
+        request.setIncludeArchived(true);
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.of(VehicleTestData.identityOf(vehicle)));
+        when(maintenanceRepository.findBy(any(Specification.class), any())).thenReturn(hot);
+        when(maintenanceArchiveReader.findNewest(eq(vehicle.getId()), eq(request), isNull(), isNull(), eq(4)))
+                .thenReturn(archived);
+
+        // Act
+        MaintenancePageResponseDTO result = getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE, request);
+
+        // Assert
+        assertEquals(List.of(10L, 1L, 2L), result.getItems().stream().map(MaintenanceResponseDTO::getId).toList());
+        String[] position = cursorMapper.decode(result.getNextCursor(), 2);
+        assertEquals(hot.get(1).getCreationDate().toString(), position[0]);
+        assertEquals("2", position[1]);
+    }
+
+    @Test
+    void shouldNotDuplicateMaintenanceArchivedDuringTheRead() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        List<Maintenance> hot = createTestMaintenances(vehicle, 1);
+        MaintenanceResponseDTO alsoArchived = archivedMaintenance(vehicle, 1L, hot.get(0).getCreationDate());
+        MaintenanceHistoryRequestDTO request = defaultRequest(20);
+        request.setIncludeArchived(true);
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.of(VehicleTestData.identityOf(vehicle)));
+        when(maintenanceRepository.findBy(any(Specification.class), any())).thenReturn(hot);
+        when(maintenanceArchiveReader.findNewest(any(), any(), any(), any(), anyInt())).thenReturn(List.of(alsoArchived));
+
+        // Act
+        MaintenancePageResponseDTO result = getVehicleMaintenancesUseCase.execute(VALID_LICENSE_PLATE, request);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
     }
 
     @Test
     void shouldThrowExceptionWhenVehicleNotFound() {
         // Arrange
         String unknownPlate = "UNKNOWN-999";
-        when(vehicleRepository.findByLicensePlate(unknownPlate))
+        when(vehicleIdentityCache.find(unknownPlate))
                 .thenReturn(Optional.empty());
 
         // Act & Assert
         VehicleNotFoundException exception = assertThrows(
                 VehicleNotFoundException.class,
-                () -> getVehicleMaintenancesUseCase.execute(unknownPlate)
+                () -> getVehicleMaintenancesUseCase.execute(unknownPlate, defaultRequest(20))
         );
 
         assertTrue(exception.getMessage().contains(unknownPlate));
-        verify(vehicleRepository, times(1)).findByLicensePlate(unknownPlate);
+        verify(vehicleIdentityCache, times(1)).find(unknownPlate);
+        verifyNoInteractions(maintenanceRepository);
     }
     
-    private List<Maintenance> createTestMaintenances(Vehicle vehicle) {
-        Maintenance m1 = Maintenance.builder()
-                .id(1L)
-                .vehicle(vehicle)
-                .type(MaintenanceType.OIL_CHANGE)
-                .description("Oil change")
-                .creationDate(LocalDateTime.now().minusDays(5))
-                .status(MaintenanceStatus.PENDING)
-                .estimatedCost(new BigDecimal("150.00"))
+    private MaintenanceHistoryRequestDTO defaultRequest(int limit) {
+        return MaintenanceHistoryRequestDTO.builder()
+                .limit(limit)
                 .build();
-        
-        Maintenance m2 = Maintenance.builder()
-                .id(2L)
-                .vehicle(vehicle)
+    }
+    
+    private MaintenanceResponseDTO archivedMaintenance(Vehicle vehicle, Long id, LocalDateTime creationDate) {
+        return MaintenanceResponseDTO.builder()
+                .id(id)
+                .vehicleId(vehicle.getId())
                 .type(MaintenanceType.BRAKES)
-                .description("Brake inspection")
-                .creationDate(LocalDateTime.now().minusDays(3))
-                .status(MaintenanceStatus.IN_PROGRESS)
-                .estimatedCost(new BigDecimal("300.00"))
-                .build();
-        
-        Maintenance m3 = Maintenance.builder()
-                .id(3L)
-                .vehicle(vehicle)
-                .type(MaintenanceType.TIRES)
-                .description("Tire replacement")
-                .creationDate(LocalDateTime.now().minusDays(10))
+                .description("Archived brakes " + id)
+                .creationDate(creationDate)
                 .status(MaintenanceStatus.COMPLETED)
-                .estimatedCost(new BigDecimal("500.00"))
-                .finalCost(new BigDecimal("520.00"))
+                .estimatedCost(new BigDecimal("300.00"))
+                .finalCost(new BigDecimal("320.00"))
                 .build();
-        
-        return List.of(m1, m2, m3);
+    }
+    
+    private List<Maintenance> createTestMaintenances(Vehicle vehicle, int count) {
+        List<Maintenance> maintenances = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= count; i++) {
+            maintenances.add(Maintenance.builder()
+                    .id((long) i)
+                    .vehicle(vehicle)
+                    .type(MaintenanceType.OIL_CHANGE)
+                    .description("Oil change " + i)
+                    .creationDate(now.minusDays(i))
+                    .status(MaintenanceStatus.PENDING)
+                    .estimatedCost(new BigDecimal("150.00"))
+                    .build());
+        }
+        return maintenances;
     }
 }
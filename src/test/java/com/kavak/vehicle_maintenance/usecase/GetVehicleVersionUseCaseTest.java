@@ -0,0 +1,57 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.VALID_LICENSE_PLATE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetVehicleVersionUseCaseTest {
+
+    @Mock
+    private VehicleIdentityCache vehicleIdentityCache;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @InjectMocks
+    private GetVehicleVersionUseCase getVehicleVersionUseCase;
+
+    @Test
+    void shouldReturnTagFromVersionOnly() {
+        // Arrange
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE))
+                .thenReturn(Optional.of(VehicleTestData.identityOf(VehicleTestData.createValidVehicleWithId())));
+        when(vehicleRepository.findVersionById(1L)).thenReturn(Optional.of(4L));
+
+        // Act
+        String tag = getVehicleVersionUseCase.execute(VALID_LICENSE_PLATE);
+
+        // Assert
+        assertEquals("1-4", tag);
+        verify(vehicleRepository, never()).findByLicensePlate(any());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenVehicleNotFound() {
+        // Arrange
+        String unknownPlate = "UNKNOWN-999";
+        when(vehicleIdentityCache.find(unknownPlate)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(VehicleNotFoundException.class, () -> getVehicleVersionUseCase.execute(unknownPlate));
+        verifyNoInteractions(vehicleRepository);
+    }
+}
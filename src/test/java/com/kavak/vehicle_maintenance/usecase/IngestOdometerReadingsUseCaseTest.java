@@ -0,0 +1,64 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.dto.request.OdometerReadingDTO;
+import com.kavak.vehicle_maintenance.dto.response.OdometerIngestionResponseDTO;
+import com.kavak.vehicle_maintenance.exception.IngestionBufferFullException;
+import com.kavak.vehicle_maintenance.ingestion.OdometerIngestionPipeline;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.ANOTHER_LICENSE_PLATE;
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.VALID_LICENSE_PLATE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestOdometerReadingsUseCaseTest {
+
+    @Mock
+    private OdometerIngestionPipeline odometerIngestionPipeline;
+
+    @InjectMocks
+    private IngestOdometerReadingsUseCase ingestOdometerReadingsUseCase;
+
+    @Test
+    void shouldBufferEveryReading() {
+        // Arrange
+        when(odometerIngestionPipeline.offer(VALID_LICENSE_PLATE, 100)).thenReturn(true);
+        when(odometerIngestionPipeline.offer(ANOTHER_LICENSE_PLATE, 200)).thenReturn(true);
+
+        // Act
+        OdometerIngestionResponseDTO result = ingestOdometerReadingsUseCase.execute(List.of(
+                reading(VALID_LICENSE_PLATE, 100), reading(ANOTHER_LICENSE_PLATE, 200)));
+
+        // Assert
+        assertEquals(2, result.getAccepted());
+    }
+
+    @Test
+    void shouldSignalBackpressureWhenBufferIsFull() {
+        // Arrange
+        when(odometerIngestionPipeline.offer(VALID_LICENSE_PLATE, 100)).thenReturn(true);
+        when(odometerIngestionPipeline.offer(ANOTHER_LICENSE_PLATE, 200)).thenReturn(false);
+
+        // Act & Assert
+        IngestionBufferFullException exception = assertThrows(IngestionBufferFullException.class,
+                () -> ingestOdometerReadingsUseCase.execute(List.of(
+                        reading(VALID_LICENSE_PLATE, 100), reading(ANOTHER_LICENSE_PLATE, 200))));
+        assertTrue(exception.getMessage().contains("accepted 1 of 2"));
+    }
+
+    private OdometerReadingDTO reading(String licensePlate, int mileage) {
+        return OdometerReadingDTO.builder()
+                .licensePlate(licensePlate)
+                .mileage(mileage)
+                .timestamp(Instant.now())
+                .build();
+    }
+}
@@ -0,0 +1,125 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.response.CostRollupJobResponseDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceCostReportRowDTO;
+import com.kavak.vehicle_maintenance.reporting.CostRollupProperties;
+import com.kavak.vehicle_maintenance.repository.MaintenanceCostRollupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+class RebuildMaintenanceCostRollupUseCaseTest {
+
+    private static final YearMonth JANUARY = YearMonth.of(2026, 1);
+
+    @Mock
+    private MaintenanceCostRollupRepository rollupRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private RebuildMaintenanceCostRollupUseCase rebuildMaintenanceCostRollupUseCase;
+
+    @BeforeEach
+    void setUp() {
+        CostRollupProperties properties = new CostRollupProperties();
+        properties.setRebuildChunkSize(100);
+        properties.setRebuildParallelism(2);
+        rebuildMaintenanceCostRollupUseCase =
+                new RebuildMaintenanceCostRollupUseCase(rollupRepository, properties, transactionTemplate);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        lenient().when(rollupRepository.currentXmin()).thenReturn(500L);
+    }
+
+    @Test
+    void shouldMergeChunksAndSwapInWithNewWatermark() {
+        // Arrange
+        when(rollupRepository.findMaintenanceIdBounds()).thenReturn(Optional.of(new long[]{1, 250}));
+        when(rollupRepository.aggregateRange(1, 100, 500L)).thenReturn(List.of(
+                row("Toyota", MaintenanceType.OIL_CHANGE, 2, "100.00"),
+                row("Ford", MaintenanceType.BRAKES, 1, "300.00")));
+        when(rollupRepository.aggregateRange(101, 200, 500L)).thenReturn(List.of(
+                row("Toyota", MaintenanceType.OIL_CHANGE, 3, "150.00")));
+        when(rollupRepository.aggregateRange(201, 250, 500L)).thenReturn(List.of());
+        List<MaintenanceCostReportRowDTO> replaced = new ArrayList<>();
+        doAnswer(invocation -> replaced.addAll(invocation.<Collection<MaintenanceCostReportRowDTO>>getArgument(0)))
+                .when(rollupRepository).replaceAll(anyCollection());
+
+        // Act
+        CostRollupJobResponseDTO result = rebuildMaintenanceCostRollupUseCase.execute();
+
+        // Assert
+        assertEquals(3, result.getChunks());
+        assertEquals(6L, result.getMaintenances());
+        assertEquals(2, replaced.size());
+        MaintenanceCostReportRowDTO toyota = replaced.stream()
+                .filter(row -> row.getBrand().equals("Toyota")).findFirst().orElseThrow();
+        assertEquals(5L, toyota.getMaintenanceCount());
+        assertEquals(new BigDecimal("250.00"), toyota.getTotalCost());
+        verify(rollupRepository).lockWatermark();
+        verify(rollupRepository).advanceWatermark(500L);
+    }
+
+    @Test
+    void shouldKeepExistingRollupWhenAChunkFails() {
+        // Arrange
+        when(rollupRepository.findMaintenanceIdBounds()).thenReturn(Optional.of(new long[]{1, 150}));
+        when(rollupRepository.aggregateRange(anyLong(), anyLong(), anyLong()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        // Act & Assert
+        assertThrows(QueryTimeoutException.class, () -> rebuildMaintenanceCostRollupUseCase.execute());
+        verify(rollupRepository, never()).replaceAll(anyCollection());
+        verify(rollupRepository, never()).advanceWatermark(anyLong());
+    }
+
+    @Test
+    void shouldClearRollupWhenThereAreNoMaintenances() {
+        // Arrange
+        when(rollupRepository.findMaintenanceIdBounds()).thenReturn(Optional.empty());
+        ArgumentCaptor<Collection<MaintenanceCostReportRowDTO>> captor = ArgumentCaptor.forClass(Collection.class);
+
+        // Act
+        CostRollupJobResponseDTO result = rebuildMaintenanceCostRollupUseCase.execute();
+
+        // Assert
+        assertEquals(0, result.getChunks());
+        verify(rollupRepository).replaceAll(captor.capture());
+        assertTrue(captor.getValue().isEmpty());
+        verify(rollupRepository).advanceWatermark(500L);
+    }
+
+    private MaintenanceCostReportRowDTO row(String brand, MaintenanceType type, long count, String cost) {
+        return MaintenanceCostReportRowDTO.builder()
+                .month(JANUARY)
+                .brand(brand)
+                .model("Base")
+                .type(type)
+                .maintenanceCount(count)
+                .totalCost(new BigDecimal(cost))
+                .build();
+    }
+}
@@ -0,0 +1,138 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSummaryRebuildResponseDTO;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+class RebuildMaintenanceSummaryUseCaseTest {
+
+    @Mock
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MaintenanceSummaryProperties properties;
+
+    private RebuildMaintenanceSummaryUseCase rebuildMaintenanceSummaryUseCase;
+
+    @BeforeEach
+    void setUp() {
+        properties = new MaintenanceSummaryProperties();
+        properties.setRebuildChunkSize(1_000);
+        properties.setRebuildParallelism(2);
+        rebuildMaintenanceSummaryUseCase = new RebuildMaintenanceSummaryUseCase(
+                summaryRepository, properties, transactionTemplate, eventPublisher);
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void shouldRebuildEveryIdRangeExactlyOnce() {
+        // Arrange
+        int chunk = properties.getRebuildChunkSize();
+        when(summaryRepository.findVehicleIdBounds()).thenReturn(Optional.of(new long[]{1, 2L * chunk + 10}));
+        when(summaryRepository.rebuildRange(anyLong(), anyLong()))
+                .thenAnswer(invocation -> (int) (invocation.<Long>getArgument(1) - invocation.<Long>getArgument(0) + 1));
+
+        // Act
+        MaintenanceSummaryRebuildResponseDTO result = rebuildMaintenanceSummaryUseCase.execute();
+
+        // Assert
+        assertEquals(3, result.getChunks());
+        assertEquals(0, result.getFailedChunks());
+        assertEquals(2L * chunk + 10, result.getVehicles());
+        verify(summaryRepository).rebuildRange(1, chunk);
+        verify(summaryRepository).rebuildRange(chunk + 1, 2L * chunk);
+        verify(summaryRepository).rebuildRange(2L * chunk + 1, 2L * chunk + 10);
+        verify(eventPublisher).publishEvent(VehicleMaintenancesChangedEvent.allVehicles());
+    }
+
+    @Test
+    void shouldDoNothingWhenThereAreNoVehicles() {
+        // Arrange
+        when(summaryRepository.findVehicleIdBounds()).thenReturn(Optional.empty());
+
+        // Act
+        MaintenanceSummaryRebuildResponseDTO result = rebuildMaintenanceSummaryUseCase.execute();
+
+        // Assert
+        assertEquals(0, result.getChunks());
+        assertEquals(0, result.getVehicles());
+        verify(summaryRepository, never()).rebuildRange(anyLong(), anyLong());
+    }
+
+    @Test
+    void shouldRetryRangeThatLostALockConflict() {
+        // Arrange
+        when(summaryRepository.findVehicleIdBounds()).thenReturn(Optional.of(new long[]{1, 100}));
+        when(summaryRepository.rebuildRange(1, 100))
+                .thenThrow(new DeadlockLoserDataAccessException("deadlock detected", null))
+                .thenReturn(100);
+
+        // Act
+        MaintenanceSummaryRebuildResponseDTO result = rebuildMaintenanceSummaryUseCase.execute();
+
+        // Assert
+        assertEquals(0, result.getFailedChunks());
+        assertEquals(100, result.getVehicles());
+        verify(summaryRepository, times(2)).rebuildRange(1, 100);
+    }
+
+    @Test
+    void shouldReportFailedRangeAndContinue() {
+        // Arrange
+        int chunk = properties.getRebuildChunkSize();
+        when(summaryRepository.findVehicleIdBounds()).thenReturn(Optional.of(new long[]{1, chunk + 1}));
+        when(summaryRepository.rebuildRange(1, chunk)).thenThrow(new DataIntegrityViolationException("boom"));
+        when(summaryRepository.rebuildRange(chunk + 1, chunk + 1)).thenReturn(1);
+
+        // Act
+        MaintenanceSummaryRebuildResponseDTO result = rebuildMaintenanceSummaryUseCase.execute();
+
+        // Assert
+        assertEquals(2, result.getChunks());
+        assertEquals(1, result.getFailedChunks());
+        assertEquals(1, result.getVehicles());
+        verify(summaryRepository, times(1)).rebuildRange(1, chunk);
+    }
+
+    @Test
+    void shouldGiveUpOnRangeAfterMaxAttempts() {
+        // Arrange
+        properties.setRebuildMaxAttempts(2);
+        when(summaryRepository.findVehicleIdBounds()).thenReturn(Optional.of(new long[]{1, 100}));
+        when(summaryRepository.rebuildRange(1, 100))
+                .thenThrow(new DeadlockLoserDataAccessException("deadlock detected", null));
+
+        // Act
+        MaintenanceSummaryRebuildResponseDTO result = rebuildMaintenanceSummaryUseCase.execute();
+
+        // Assert
+        assertEquals(1, result.getFailedChunks());
+        assertEquals(0, result.getVehicles());
+        verify(summaryRepository, times(2)).rebuildRange(1, 100);
+    }
+}
@@ -0,0 +1,58 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.dto.response.CostRollupJobResponseDTO;
+import com.kavak.vehicle_maintenance.repository.MaintenanceCostRollupRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshMaintenanceCostRollupUseCaseTest {
+
+    @Mock
+    private MaintenanceCostRollupRepository rollupRepository;
+
+    @InjectMocks
+    private RefreshMaintenanceCostRollupUseCase refreshMaintenanceCostRollupUseCase;
+
+    @Test
+    void shouldRollUpCompletionsBetweenWatermarkAndOldestRunningTransaction() {
+        // Arrange
+        when(rollupRepository.lockWatermark()).thenReturn(100L);
+        when(rollupRepository.currentXmin()).thenReturn(140L);
+        when(rollupRepository.rollUpCompletions(100L, 140L)).thenReturn(25L);
+
+        // Act
+        CostRollupJobResponseDTO result = refreshMaintenanceCostRollupUseCase.execute();
+
+        // Assert
+        assertEquals(25L, result.getMaintenances());
+        InOrder inOrder = inOrder(rollupRepository);
+        inOrder.verify(rollupRepository).lockWatermark();
+        inOrder.verify(rollupRepository).currentXmin();
+        inOrder.verify(rollupRepository).rollUpCompletions(100L, 140L);
+        inOrder.verify(rollupRepository).advanceWatermark(140L);
+    }
+
+    @Test
+    void shouldSkipAggregationWhenNoTransactionFinishedSinceLastRefresh() {
+        // Arrange
+        when(rollupRepository.lockWatermark()).thenReturn(140L);
+        when(rollupRepository.currentXmin()).thenReturn(140L);
+
+        // Act
+        CostRollupJobResponseDTO result = refreshMaintenanceCostRollupUseCase.execute();
+
+        // Assert
+        assertEquals(0L, result.getMaintenances());
+        verify(rollupRepository, never()).rollUpCompletions(anyLong(), anyLong());
+        verify(rollupRepository).advanceWatermark(140L);
+    }
+}
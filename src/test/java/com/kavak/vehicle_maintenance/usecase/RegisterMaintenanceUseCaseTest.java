@@ -1,11 +1,16 @@
 package com.kavak.vehicle_maintenance.usecase;
 
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
 import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.MaintenanceSummaryDelta;
 import com.kavak.vehicle_maintenance.domain.Vehicle;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
 import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
 import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
 import com.kavak.vehicle_maintenance.repository.VehicleRepository;
 import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
 import org.junit.jupiter.api.Test;
@@ -13,9 +18,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.*;
@@ -26,12 +33,24 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class RegisterMaintenanceUseCaseTest {
 
+    @Mock
+    private VehicleIdentityCache vehicleIdentityCache;
+
     @Mock
     private VehicleRepository vehicleRepository;
     
     @Mock
     private MaintenanceRepository maintenanceRepository;
 
+    @Mock
+    private MaintenanceJdbcRepository maintenanceJdbcRepository;
+    
+    @Mock
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RegisterMaintenanceUseCase registerMaintenanceUseCase;
 
@@ -42,7 +61,8 @@ class RegisterMaintenanceUseCaseTest {
         Maintenance maintenance = createTestMaintenance();
         Maintenance savedMaintenance = createTestMaintenanceWithId(vehicle);
         
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
+        when(vehicleIdentityCache.find(VALID_LICENSE_PLATE)).thenReturn(Optional.of(VehicleTestData.identityOf(vehicle)));
+        when(vehicleRepository.getReferenceById(vehicle.getId())).thenReturn(vehicle);
         when(maintenanceRepository.save(any(Maintenance.class))).thenReturn(savedMaintenance);
 
         // Act
@@ -54,8 +74,13 @@ class RegisterMaintenanceUseCaseTest {
         assertEquals(MaintenanceType.OIL_CHANGE, result.getType());
         assertEquals(MaintenanceStatus.PENDING, result.getStatus());
         assertEquals(vehicle, result.getVehicle());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
+        verify(vehicleRepository, never()).findByLicensePlate(any());
+        assertSame(vehicle, maintenance.getVehicle());
         verify(maintenanceRepository, times(1)).save(maintenance);
+        verify(summaryRepository).applyDeltas(List.of(new MaintenanceSummaryDelta(
+                vehicle.getId(), 1, 0, BigDecimal.ZERO, savedMaintenance.getCreationDate())));
+        verify(maintenanceJdbcRepository).addSearchWords(List.of(savedMaintenance.getDescription()));
+        verify(eventPublisher).publishEvent(VehicleMaintenancesChangedEvent.of(vehicle.getId()));
     }
 
     @Test
@@ -63,7 +88,7 @@ class RegisterMaintenanceUseCaseTest {
         // Arrange
         String unknownPlate = "UNKNOWN-999";
         Maintenance maintenance = createTestMaintenance();
-        when(vehicleRepository.findByLicensePlate(unknownPlate)).thenReturn(Optional.empty());
+        when(vehicleIdentityCache.find(unknownPlate)).thenReturn(Optional.empty());
 
         // Act & Assert
         VehicleNotFoundException exception = assertThrows(
@@ -72,8 +97,9 @@ class RegisterMaintenanceUseCaseTest {
         );
 
         assertTrue(exception.getMessage().contains(unknownPlate));
-        verify(vehicleRepository, times(1)).findByLicensePlate(unknownPlate);
+        verify(vehicleIdentityCache, times(1)).find(unknownPlate);
         verify(maintenanceRepository, never()).save(any(Maintenance.class));
+        verifyNoInteractions(summaryRepository, eventPublisher);
     }
     
     private Maintenance createTestMaintenance() {
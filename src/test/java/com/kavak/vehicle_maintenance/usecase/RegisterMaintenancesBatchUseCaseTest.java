@@ -0,0 +1,199 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.cache.VehicleIdentityCache;
+import com.kavak.vehicle_maintenance.domain.Maintenance;
+import com.kavak.vehicle_maintenance.domain.MaintenanceSummaryDelta;
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.domain.event.VehicleMaintenancesChangedEvent;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceBatchItemDTO;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.BatchItemResultDTO;
+import com.kavak.vehicle_maintenance.mapper.MaintenanceMapper;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import com.kavak.vehicle_maintenance.repository.MaintenanceRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleMaintenanceSummaryRepository;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.ANOTHER_LICENSE_PLATE;
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.VALID_LICENSE_PLATE;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+class RegisterMaintenancesBatchUseCaseTest {
+
+    @Mock
+    private VehicleIdentityCache vehicleIdentityCache;
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Mock
+    private MaintenanceRepository maintenanceRepository;
+
+    @Mock
+    private MaintenanceJdbcRepository maintenanceJdbcRepository;
+
+    @Mock
+    private VehicleMaintenanceSummaryRepository summaryRepository;
+
+    @Spy
+    private MaintenanceMapper maintenanceMapper = new MaintenanceMapper();
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RegisterMaintenancesBatchUseCase registerMaintenancesBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+    }
+
+    @Test
+    void shouldRegisterMaintenancesForKnownPlates() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        stubKnownVehicle(vehicle);
+        stubSaveAllAssigningIds();
+
+        // Act
+        List<BatchItemResultDTO> results = registerMaintenancesBatchUseCase.execute(List.of(
+                item(VALID_LICENSE_PLATE), item(VALID_LICENSE_PLATE)));
+
+        // Assert
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(BatchItemResultDTO::isSuccess));
+        assertEquals(1L, results.get(0).getId());
+        assertEquals(2L, results.get(1).getId());
+        verify(vehicleIdentityCache, times(1)).findAll(anyCollection());
+        verify(vehicleRepository, never()).findByLicensePlate(any());
+        ArgumentCaptor<List<MaintenanceSummaryDelta>> deltaCaptor = ArgumentCaptor.forClass(List.class);
+        verify(summaryRepository).applyDeltas(deltaCaptor.capture());
+        assertEquals(2, deltaCaptor.getValue().size());
+        assertTrue(deltaCaptor.getValue().stream()
+                .allMatch(delta -> delta.getVehicleId().equals(vehicle.getId()) && delta.getActiveCount() == 1));
+        verify(maintenanceJdbcRepository).addSearchWords(anyCollection());
+        verify(eventPublisher).publishEvent(VehicleMaintenancesChangedEvent.of(vehicle.getId()));
+    }
+
+    @Test
+    void shouldReportUnknownPlatesWithoutAbortingTheRest() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        stubKnownVehicle(vehicle);
+        stubSaveAllAssigningIds();
+        ArgumentCaptor<List<Maintenance>> savedCaptor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        List<BatchItemResultDTO> results = registerMaintenancesBatchUseCase.execute(List.of(
+                item(ANOTHER_LICENSE_PLATE), item(VALID_LICENSE_PLATE)));
+
+        // Assert
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(0).getError().contains(ANOTHER_LICENSE_PLATE));
+        assertTrue(results.get(1).isSuccess());
+        verify(maintenanceRepository).saveAll(savedCaptor.capture());
+        Maintenance saved = savedCaptor.getValue().get(0);
+        assertEquals(vehicle, saved.getVehicle());
+        assertEquals(MaintenanceStatus.PENDING, saved.getStatus());
+    }
+
+    @Test
+    void shouldCommitInChunks() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        stubKnownVehicle(vehicle);
+        stubSaveAllAssigningIds();
+        List<MaintenanceBatchItemDTO> items = IntStream.range(0, RegisterMaintenancesBatchUseCase.CHUNK_SIZE + 1)
+                .mapToObj(i -> item(VALID_LICENSE_PLATE))
+                .toList();
+
+        // Act
+        List<BatchItemResultDTO> results = registerMaintenancesBatchUseCase.execute(items);
+
+        // Assert
+        assertEquals(items.size(), results.size());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(maintenanceRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void shouldReportFailedChunkAndContinue() {
+        // Arrange
+        Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
+        stubKnownVehicle(vehicle);
+        when(maintenanceRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("boom"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        List<MaintenanceBatchItemDTO> items = new ArrayList<>();
+        for (int i = 0; i <= RegisterMaintenancesBatchUseCase.CHUNK_SIZE; i++) {
+            items.add(item(VALID_LICENSE_PLATE));
+        }
+
+        // Act
+        List<BatchItemResultDTO> results = registerMaintenancesBatchUseCase.execute(items);
+
+        // Assert
+        assertFalse(results.get(0).isSuccess());
+        assertTrue(results.get(items.size() - 1).isSuccess());
+        verify(summaryRepository, times(1)).applyDeltas(anyList());
+    }
+
+    private void stubKnownVehicle(Vehicle vehicle) {
+        when(vehicleIdentityCache.findAll(anyCollection()))
+                .thenReturn(Map.of(vehicle.getLicensePlate(), VehicleTestData.identityOf(vehicle)));
+        when(vehicleRepository.getReferenceById(vehicle.getId())).thenReturn(vehicle);
+    }
+
+    private void stubSaveAllAssigningIds() {
+        AtomicLong sequence = new AtomicLong();
+        when(maintenanceRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Maintenance> saved = invocation.getArgument(0);
+            saved.forEach(maintenance -> maintenance.setId(sequence.incrementAndGet()));
+            return saved;
+        });
+    }
+
+    private MaintenanceBatchItemDTO item(String licensePlate) {
+        return MaintenanceBatchItemDTO.builder()
+                .licensePlate(licensePlate)
+                .maintenance(MaintenanceRequestDTO.builder()
+                        .type(MaintenanceType.OIL_CHANGE)
+                        .description("Fleet oil change campaign")
+                        .estimatedCost(new BigDecimal("150.00"))
+                        .build())
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.kavak.vehicle_maintenance.usecase;
 
 import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.event.VehicleChangedEvent;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
 import com.kavak.vehicle_maintenance.exception.DuplicateLicensePlateException;
 import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
 import com.kavak.vehicle_maintenance.repository.VehicleRepository;
@@ -9,6 +11,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
 
 import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -21,6 +26,9 @@ class RegisterVehicleUseCaseTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private RegisterVehicleUseCase registerVehicleUseCase;
 
@@ -28,8 +36,8 @@ class RegisterVehicleUseCaseTest {
     void shouldRegisterVehicleSuccessfully() {
         // Arrange
         Vehicle vehicle = VehicleTestData.createValidVehicle();
-        when(vehicleRepository.existsByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(false);
-        when(vehicleRepository.save(any(Vehicle.class))).thenReturn(vehicle);
+        when(vehicleRepository.insertIfAbsent(VALID_LICENSE_PLATE, BRAND_BMW, MODEL_135I, YEAR_2023, MILEAGE_15000))
+                .thenReturn(Optional.of(VehicleTestData.createValidVehicleWithId()));
 
         // Act
         Vehicle result = registerVehicleUseCase.execute(vehicle);
@@ -42,15 +50,18 @@ class RegisterVehicleUseCaseTest {
         assertEquals(YEAR_2023, result.getYear());
         assertEquals(MILEAGE_15000, result.getCurrentMileage());
         
-        verify(vehicleRepository, times(1)).existsByLicensePlate(VALID_LICENSE_PLATE);
-        verify(vehicleRepository, times(1)).save(vehicle);
+        verify(vehicleRepository, times(1)).insertIfAbsent(VALID_LICENSE_PLATE, BRAND_BMW, MODEL_135I, YEAR_2023, MILEAGE_15000);
+        verify(eventPublisher).publishEvent(new VehicleChangedEvent(VALID_LICENSE_PLATE));
+        verify(eventPublisher).publishEvent(VehiclesRegisteredEvent.of(1L));
+        verifyNoMoreInteractions(vehicleRepository);
     }
 
     @Test
     void shouldThrowExceptionWhenLicensePlateExists() {
         // Arrange
         Vehicle vehicle = VehicleTestData.createValidVehicle();
-        when(vehicleRepository.existsByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(true);
+        when(vehicleRepository.insertIfAbsent(VALID_LICENSE_PLATE, BRAND_BMW, MODEL_135I, YEAR_2023, MILEAGE_15000))
+                .thenReturn(Optional.empty());
 
         // Act & Assert
         DuplicateLicensePlateException exception = assertThrows(
@@ -59,7 +70,7 @@ class RegisterVehicleUseCaseTest {
         );
 
         assertEquals("Vehicle with license plate '" + VALID_LICENSE_PLATE + "' already exists", exception.getMessage()); 
-        verify(vehicleRepository, times(1)).existsByLicensePlate(VALID_LICENSE_PLATE);
+        verify(vehicleRepository, never()).existsByLicensePlate(any());
         verify(vehicleRepository, never()).save(any(Vehicle.class));
     }
 
@@ -69,8 +80,8 @@ class RegisterVehicleUseCaseTest {
         Vehicle vehicleToSave = VehicleTestData.createAnotherValidVehicle();
         Vehicle savedVehicle = VehicleTestData.createAnotherValidVehicleWithId();
         
-        when(vehicleRepository.existsByLicensePlate(ANOTHER_LICENSE_PLATE)).thenReturn(false);
-        when(vehicleRepository.save(any(Vehicle.class))).thenReturn(savedVehicle);
+        when(vehicleRepository.insertIfAbsent(ANOTHER_LICENSE_PLATE, BRAND_AUDI, MODEL_A4, YEAR_2024, MILEAGE_5000))
+                .thenReturn(Optional.of(savedVehicle));
 
         // Act
         Vehicle result = registerVehicleUseCase.execute(vehicleToSave);
@@ -81,7 +92,7 @@ class RegisterVehicleUseCaseTest {
         assertEquals(ANOTHER_LICENSE_PLATE, result.getLicensePlate());
         assertEquals(BRAND_AUDI, result.getBrand());
         assertEquals(MODEL_A4, result.getModel());
-        verify(vehicleRepository, times(1)).save(vehicleToSave);
+        verify(vehicleRepository, never()).save(any(Vehicle.class));
     }
     
     @Test
@@ -91,9 +102,13 @@ class RegisterVehicleUseCaseTest {
         Vehicle customVehicle = VehicleTestData.createCustomVehicle(
             customPlate, "Mercedes-Benz", "C-Class", 2022, 30000
         );
+        Vehicle registeredVehicle = VehicleTestData.createCustomVehicle(
+            customPlate, "Mercedes-Benz", "C-Class", 2022, 30000
+        );
+        registeredVehicle.setId(3L);
         
-        when(vehicleRepository.existsByLicensePlate(customPlate)).thenReturn(false);
-        when(vehicleRepository.save(any(Vehicle.class))).thenReturn(customVehicle);
+        when(vehicleRepository.insertIfAbsent(customPlate, "Mercedes-Benz", "C-Class", 2022, 30000))
+                .thenReturn(Optional.of(registeredVehicle));
 
         // Act
         Vehicle result = registerVehicleUseCase.execute(customVehicle);
@@ -103,6 +118,6 @@ class RegisterVehicleUseCaseTest {
         assertEquals(customPlate, result.getLicensePlate());
         assertEquals("Mercedes-Benz", result.getBrand());
         assertEquals("C-Class", result.getModel());
-        verify(vehicleRepository, times(1)).existsByLicensePlate(customPlate);
+        verify(vehicleRepository, times(1)).insertIfAbsent(customPlate, "Mercedes-Benz", "C-Class", 2022, 30000);
     }
 }
@@ -0,0 +1,111 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.VehiclePlate;
+import com.kavak.vehicle_maintenance.domain.event.VehiclesRegisteredEvent;
+import com.kavak.vehicle_maintenance.dto.response.BatchItemResultDTO;
+import com.kavak.vehicle_maintenance.repository.VehicleJdbcRepository;
+import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+class RegisterVehiclesBatchUseCaseTest {
+
+    @Mock
+    private VehicleJdbcRepository vehicleJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private RegisterVehiclesBatchUseCase registerVehiclesBatchUseCase;
+
+    @Test
+    void shouldRegisterAllVehiclesWhenNoneExist() {
+        // Arrange
+        List<Vehicle> vehicles = List.of(
+                VehicleTestData.createValidVehicle(),
+                VehicleTestData.createAnotherValidVehicle());
+        stubInsertAssigningIds();
+
+        // Act
+        List<BatchItemResultDTO> results = registerVehiclesBatchUseCase.execute(vehicles);
+
+        // Assert
+        assertEquals(2, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertEquals(VALID_LICENSE_PLATE, results.get(0).getReference());
+        assertEquals(1L, results.get(0).getId());
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(2L, results.get(1).getId());
+        verify(vehicleJdbcRepository, times(1)).insertIfAbsent(anyList());
+        verify(eventPublisher).publishEvent(VehiclesRegisteredEvent.of(List.of(1L, 2L)));
+    }
+
+    @Test
+    void shouldRejectPlatesThatAlreadyExist() {
+        // Arrange
+        List<Vehicle> vehicles = List.of(
+                VehicleTestData.createValidVehicle(),
+                VehicleTestData.createAnotherValidVehicle());
+        // The unique constraint skips the plate that is already registered
+        when(vehicleJdbcRepository.insertIfAbsent(anyList()))
+                .thenReturn(List.of(new VehiclePlate(1L, ANOTHER_LICENSE_PLATE)));
+
+        // Act
+        List<BatchItemResultDTO> results = registerVehiclesBatchUseCase.execute(vehicles);
+
+        // Assert
+        assertFalse(results.get(0).isSuccess());
+        assertNull(results.get(0).getId());
+        assertTrue(results.get(0).getError().contains(VALID_LICENSE_PLATE));
+        assertTrue(results.get(1).isSuccess());
+        assertEquals(1L, results.get(1).getId());
+        verify(eventPublisher).publishEvent(VehiclesRegisteredEvent.of(1L));
+    }
+
+    @Test
+    void shouldRejectPlateRepeatedInsideTheBatch() {
+        // Arrange
+        List<Vehicle> vehicles = List.of(
+                VehicleTestData.createValidVehicle(),
+                VehicleTestData.createValidVehicle());
+        stubInsertAssigningIds();
+        ArgumentCaptor<List<Vehicle>> insertedCaptor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        List<BatchItemResultDTO> results = registerVehiclesBatchUseCase.execute(vehicles);
+
+        // Assert
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals(1, results.get(1).getIndex());
+        verify(vehicleJdbcRepository).insertIfAbsent(insertedCaptor.capture());
+        assertEquals(1, insertedCaptor.getValue().size());
+    }
+
+    private void stubInsertAssigningIds() {
+        AtomicLong sequence = new AtomicLong();
+        when(vehicleJdbcRepository.insertIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<Vehicle> inserted = invocation.getArgument(0);
+            return inserted.stream()
+                    .map(vehicle -> new VehiclePlate(sequence.incrementAndGet(), vehicle.getLicensePlate()))
+                    .toList();
+        });
+    }
+}
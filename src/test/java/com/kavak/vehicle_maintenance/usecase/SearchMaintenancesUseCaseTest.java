@@ -0,0 +1,94 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceStatus;
+import com.kavak.vehicle_maintenance.domain.enums.MaintenanceType;
+import com.kavak.vehicle_maintenance.dto.request.MaintenanceSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSearchHitDTO;
+import com.kavak.vehicle_maintenance.dto.response.MaintenanceSearchResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.repository.MaintenanceJdbcRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchMaintenancesUseCaseTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2026, 3, 1, 10, 30);
+
+    @Mock
+    private MaintenanceJdbcRepository maintenanceJdbcRepository;
+
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
+
+    @InjectMocks
+    private SearchMaintenancesUseCase searchMaintenancesUseCase;
+
+    @Test
+    void shouldReturnNextCursorAtLastHitOfThePage() {
+        // Arrange
+        MaintenanceSearchRequestDTO request = MaintenanceSearchRequestDTO.builder()
+                .q("transmission slipping").type(MaintenanceType.TRANSMISSION).limit(2).build();
+        List<MaintenanceSearchHitDTO> hits = List.of(hit(3L, 0.5f), hit(2L, 0.25f), hit(1L, 0.1f));
+        when(maintenanceJdbcRepository.search(request, null, null, null, 3)).thenReturn(hits);
+
+        // Act
+        MaintenanceSearchResponseDTO result = searchMaintenancesUseCase.execute(request);
+
+        // Assert
+        assertEquals(List.of(3L, 2L), result.getItems().stream().map(MaintenanceSearchHitDTO::getId).toList());
+        assertArrayEquals(new String[]{"0.25", CREATED.toString(), "2"}, cursorMapper.decode(result.getNextCursor(), 3));
+    }
+
+    @Test
+    void shouldResumeAfterCursorPosition() {
+        // Arrange
+        MaintenanceSearchRequestDTO request = MaintenanceSearchRequestDTO.builder()
+                .q("brake noise").cursor(cursorMapper.encode(0.25f, CREATED, 2L)).limit(2).build();
+        when(maintenanceJdbcRepository.search(request, 0.25f, CREATED, 2L, 3)).thenReturn(List.of(hit(1L, 0.1f)));
+
+        // Act
+        MaintenanceSearchResponseDTO result = searchMaintenancesUseCase.execute(request);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCursorIsMalformed() {
+        // Arrange
+        MaintenanceSearchRequestDTO request = MaintenanceSearchRequestDTO.builder()
+                .q("brake noise").cursor(cursorMapper.encode("high", CREATED, 2L)).build();
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> searchMaintenancesUseCase.execute(request));
+        verify(maintenanceJdbcRepository, never()).search(any(), any(), any(), any(), anyInt());
+    }
+
+    private static MaintenanceSearchHitDTO hit(Long id, float rank) {
+        return MaintenanceSearchHitDTO.builder()
+                .id(id)
+                .vehicleId(1L)
+                .licensePlate("ABC-1234")
+                .type(MaintenanceType.TRANSMISSION)
+                .description("Transmission slipping at high speed")
+                .creationDate(CREATED)
+                .status(MaintenanceStatus.COMPLETED)
+                .rank(rank)
+                .build();
+    }
+}
@@ -0,0 +1,89 @@
+package com.kavak.vehicle_maintenance.usecase;
+
+import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.dto.request.VehicleSearchRequestDTO;
+import com.kavak.vehicle_maintenance.dto.response.VehiclePageResponseDTO;
+import com.kavak.vehicle_maintenance.exception.InvalidCursorException;
+import com.kavak.vehicle_maintenance.mapper.CursorMapper;
+import com.kavak.vehicle_maintenance.mapper.VehicleMapper;
+import com.kavak.vehicle_maintenance.repository.VehicleRepository;
+import com.kavak.vehicle_maintenance.testdata.VehicleTestData;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+import static com.kavak.vehicle_maintenance.testdata.VehicleTestData.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SuppressWarnings("unchecked")
+@ExtendWith(MockitoExtension.class)
+class SearchVehiclesUseCaseTest {
+
+    @Mock
+    private VehicleRepository vehicleRepository;
+
+    @Spy
+    private VehicleMapper vehicleMapper = new VehicleMapper();
+
+    @Spy
+    private CursorMapper cursorMapper = new CursorMapper();
+
+    @InjectMocks
+    private SearchVehiclesUseCase searchVehiclesUseCase;
+
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        // Arrange
+        VehicleSearchRequestDTO request = VehicleSearchRequestDTO.builder()
+                .brand(BRAND_AUDI).model(MODEL_A4).yearFrom(2019).yearTo(2022).maxMileage(60000).limit(1).build();
+        List<Vehicle> vehicles = List.of(
+                VehicleTestData.createValidVehicleWithId(),
+                VehicleTestData.createAnotherValidVehicleWithId());
+        when(vehicleRepository.findBy(any(Specification.class), any())).thenReturn(vehicles);
+
+        // Act
+        VehiclePageResponseDTO result = searchVehiclesUseCase.execute(request);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertEquals(1L, result.getItems().get(0).getId());
+        assertArrayEquals(new String[]{"1"}, cursorMapper.decode(result.getNextCursor(), 1));
+        assertNull(result.getTotal());
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() {
+        // Arrange
+        VehicleSearchRequestDTO request = VehicleSearchRequestDTO.builder()
+                .cursor(cursorMapper.encode(1L)).limit(2).build();
+        when(vehicleRepository.findBy(any(Specification.class), any()))
+                .thenReturn(List.of(VehicleTestData.createAnotherValidVehicleWithId()));
+
+        // Act
+        VehiclePageResponseDTO result = searchVehiclesUseCase.execute(request);
+
+        // Assert
+        assertEquals(1, result.getItems().size());
+        assertEquals(ANOTHER_LICENSE_PLATE, result.getItems().get(0).getLicensePlate());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void shouldThrowExceptionWhenCursorIsMalformed() {
+        // Arrange
+        VehicleSearchRequestDTO request = VehicleSearchRequestDTO.builder()
+                .cursor(cursorMapper.encode("not-an-id")).build();
+
+        // Act & Assert
+        assertThrows(InvalidCursorException.class, () -> searchVehiclesUseCase.execute(request));
+        verify(vehicleRepository, never()).findBy(any(Specification.class), any());
+    }
+}
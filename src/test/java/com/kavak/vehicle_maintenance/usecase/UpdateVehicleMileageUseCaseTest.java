@@ -1,6 +1,7 @@
 package com.kavak.vehicle_maintenance.usecase;
 
 import com.kavak.vehicle_maintenance.domain.Vehicle;
+import com.kavak.vehicle_maintenance.domain.event.VehicleChangedEvent;
 import com.kavak.vehicle_maintenance.exception.InvalidMileageException;
 import com.kavak.vehicle_maintenance.exception.VehicleNotFoundException;
 import com.kavak.vehicle_maintenance.repository.VehicleRepository;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.Optional;
 
@@ -24,6 +26,9 @@ class UpdateVehicleMileageUseCaseTest {
     @Mock
     private VehicleRepository vehicleRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UpdateVehicleMileageUseCase updateVehicleMileageUseCase;
 
@@ -33,8 +38,8 @@ class UpdateVehicleMileageUseCaseTest {
         Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
         Integer newMileage = MILEAGE_15000 + 5000; // 20000
         
-        when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
-        when(vehicleRepository.save(any(Vehicle.class))).thenAnswer(inv -> inv.getArgument(0));
+        vehicle.setCurrentMileage(newMileage);
+        when(vehicleRepository.updateMileageIfGreater(VALID_LICENSE_PLATE, newMileage)).thenReturn(Optional.of(vehicle));
 
         // Act
         Vehicle result = updateVehicleMileageUseCase.execute(VALID_LICENSE_PLATE, newMileage);
@@ -42,14 +47,17 @@ class UpdateVehicleMileageUseCaseTest {
         // Assert
         assertNotNull(result);
         assertEquals(newMileage, result.getCurrentMileage());
-        verify(vehicleRepository, times(1)).findByLicensePlate(VALID_LICENSE_PLATE);
-        verify(vehicleRepository, times(1)).save(vehicle);
+        verify(vehicleRepository, times(1)).updateMileageIfGreater(VALID_LICENSE_PLATE, newMileage);
+        verify(eventPublisher).publishEvent(new VehicleChangedEvent(VALID_LICENSE_PLATE));
+        verify(vehicleRepository, never()).findByLicensePlate(any());
+        verify(vehicleRepository, never()).save(any(Vehicle.class));
     }
 
     @Test
     void shouldThrowExceptionWhenVehicleNotFound() {
         // Arrange
         String unknownPlate = "UNKNOWN-999";
+        when(vehicleRepository.updateMileageIfGreater(unknownPlate, 20000)).thenReturn(Optional.empty());
         when(vehicleRepository.findByLicensePlate(unknownPlate)).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -69,6 +77,7 @@ class UpdateVehicleMileageUseCaseTest {
         Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
         Integer lowerMileage = MILEAGE_15000 - 1000; // 14000
         
+        when(vehicleRepository.updateMileageIfGreater(VALID_LICENSE_PLATE, lowerMileage)).thenReturn(Optional.empty());
         when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
 
         // Act & Assert
@@ -88,6 +97,7 @@ class UpdateVehicleMileageUseCaseTest {
         // Arrange
         Vehicle vehicle = VehicleTestData.createValidVehicleWithId();
         
+        when(vehicleRepository.updateMileageIfGreater(VALID_LICENSE_PLATE, MILEAGE_15000)).thenReturn(Optional.empty());
         when(vehicleRepository.findByLicensePlate(VALID_LICENSE_PLATE)).thenReturn(Optional.of(vehicle));
 
         // Act & Assert